@@ -0,0 +1,24 @@
+package com.example.campus_house.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class DataLoadExecutorConfig {
+
+    // 데이터 로드 전용 실행기 (HTTP 요청 스레드와 분리)
+    @Bean(name = "dataLoadExecutor")
+    public ThreadPoolTaskExecutor dataLoadExecutor(@Value("${data.loading.job.pool-size:2}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(20);
+        executor.setThreadNamePrefix("data-load-");
+        // 종료 시 진행 중인 청크가 커밋될 때까지 대기
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
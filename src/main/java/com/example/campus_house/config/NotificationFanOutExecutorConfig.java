@@ -0,0 +1,29 @@
+package com.example.campus_house.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class NotificationFanOutExecutorConfig {
+
+    // 알림 fan-out 전용 실행기 (게시글 작성 요청 스레드와 분리)
+    @Bean(name = "notificationFanOutExecutor")
+    public ThreadPoolTaskExecutor notificationFanOutExecutor(@Value("${notification.fan-out.pool-size:2}") int poolSize,
+                                                             @Value("${notification.fan-out.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("notification-fan-out-");
+        // 대기열이 가득 차면 호출 스레드에서 실행 (작업을 버리지 않고 요청 속도를 늦춤)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        // 종료 시 대기 중인 알림 저장이 끝날 때까지 대기
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -50,6 +50,7 @@ public class SecurityConfig {
                 .requestMatchers("/api/data/**").permitAll() // 데이터 로드 API 허용
                 .requestMatchers("/api/mypage/**").authenticated() // 마이페이지 API는 인증 필요
                 .requestMatchers("/api/chat/**").authenticated() // 채팅 API는 인증 필요
+                .requestMatchers("/ws/**").permitAll() // WebSocket 핸드셰이크 (STOMP CONNECT에서 JWT 인증)
                 .requestMatchers("/actuator/**").permitAll()
                 .anyRequest().authenticated()
             );
@@ -0,0 +1,106 @@
+package com.example.campus_house.config;
+
+import com.example.campus_house.repository.ChatRoomRepository;
+import com.example.campus_house.repository.GroupChatMemberRepository;
+import com.example.campus_house.util.JwtUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+import java.util.ArrayList;
+
+/**
+ * STOMP 인증/권한 인터셉터
+ * CONNECT 시 JWT를 검증해 사용자 ID를 Principal 이름으로 설정하고,
+ * 채팅방/그룹 채팅방 토픽 구독 시 해당 채팅방 참여자인지,
+ * 접속 상태 토픽 구독 시 본인이거나 그 사용자와 채팅방을 함께 쓰는지 확인합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    public static final String ROOM_TOPIC_PREFIX = "/topic/chat/rooms/";
+    public static final String GROUP_TOPIC_PREFIX = "/topic/chat/groups/";
+    public static final String PRESENCE_TOPIC_PREFIX = "/topic/presence/";
+
+    private final JwtUtil jwtUtil;
+    private final ChatRoomRepository chatRoomRepository;
+    private final GroupChatMemberRepository groupChatMemberRepository;
+
+    @Override
+    public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        if (StompCommand.CONNECT.equals(accessor.getCommand())) {
+            String token = accessor.getFirstNativeHeader("Authorization");
+            if (token == null) {
+                throw new RuntimeException("인증 토큰이 필요합니다.");
+            }
+            if (token.startsWith("Bearer ")) {
+                token = token.substring(7);
+            }
+            if (!jwtUtil.validateToken(token)) {
+                throw new RuntimeException("유효하지 않은 토큰입니다.");
+            }
+
+            Long userId = jwtUtil.getUserIdFromToken(token);
+            accessor.setUser(new UsernamePasswordAuthenticationToken(String.valueOf(userId), null, new ArrayList<>()));
+        } else if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            Principal user = accessor.getUser();
+            if (user == null) {
+                throw new RuntimeException("인증되지 않은 연결입니다.");
+            }
+
+            String destination = accessor.getDestination();
+            if (destination != null && destination.startsWith(ROOM_TOPIC_PREFIX)) {
+                Long roomId = parseRoomId(destination.substring(ROOM_TOPIC_PREFIX.length()));
+                Long userId = Long.valueOf(user.getName());
+                if (roomId == null || !chatRoomRepository.isParticipant(roomId, userId)) {
+                    log.warn("채팅방 구독 거부: userId={}, destination={}", userId, destination);
+                    throw new RuntimeException("채팅방에 접근할 권한이 없습니다.");
+                }
+            } else if (destination != null && destination.startsWith(GROUP_TOPIC_PREFIX)) {
+                Long roomId = parseRoomId(destination.substring(GROUP_TOPIC_PREFIX.length()));
+                Long userId = Long.valueOf(user.getName());
+                if (roomId == null || !groupChatMemberRepository.isMember(roomId, userId)) {
+                    log.warn("그룹 채팅방 구독 거부: userId={}, destination={}", userId, destination);
+                    throw new RuntimeException("채팅방에 접근할 권한이 없습니다.");
+                }
+            } else if (destination != null && destination.startsWith(PRESENCE_TOPIC_PREFIX)) {
+                Long targetUserId = parseRoomId(destination.substring(PRESENCE_TOPIC_PREFIX.length()));
+                Long userId = Long.valueOf(user.getName());
+                if (targetUserId == null || !(targetUserId.equals(userId)
+                        || chatRoomRepository.existsBetween(userId, targetUserId)
+                        || groupChatMemberRepository.sharesRoom(userId, targetUserId))) {
+                    log.warn("접속 상태 구독 거부: userId={}, destination={}", userId, destination);
+                    throw new RuntimeException("접속 상태를 볼 권한이 없습니다.");
+                }
+            }
+        }
+        return message;
+    }
+
+    // 토픽 경로의 첫 번째 ID (채팅방 ID 또는 사용자 ID)
+    private Long parseRoomId(String value) {
+        int slash = value.indexOf('/');
+        String id = slash >= 0 ? value.substring(0, slash) : value;
+        try {
+            return Long.valueOf(id);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
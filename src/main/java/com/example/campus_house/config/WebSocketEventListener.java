@@ -0,0 +1,50 @@
+package com.example.campus_house.config;
+
+import com.example.campus_house.service.PresenceService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.security.Principal;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * WebSocket 세션 연결/해제 로그 + 접속 상태 반영
+ * 하트비트가 끊긴 세션도 SessionDisconnectEvent로 정리됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WebSocketEventListener {
+
+    private final PresenceService presenceService;
+
+    private final AtomicInteger activeSessions = new AtomicInteger();
+
+    @EventListener
+    public void handleConnected(SessionConnectedEvent event) {
+        Principal user = event.getUser();
+        log.debug("WebSocket 연결: userId={}, 활성 세션 {}개",
+                user != null ? user.getName() : null, activeSessions.incrementAndGet());
+        if (user != null) {
+            presenceService.sessionConnected(Long.valueOf(user.getName()));
+        }
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        Principal user = event.getUser();
+        log.debug("WebSocket 연결 해제: userId={}, status={}, 활성 세션 {}개",
+                user != null ? user.getName() : null, event.getCloseStatus(), activeSessions.decrementAndGet());
+        if (user != null) {
+            presenceService.sessionDisconnected(Long.valueOf(user.getName()));
+        }
+    }
+
+    public int getActiveSessions() {
+        return activeSessions.get();
+    }
+}
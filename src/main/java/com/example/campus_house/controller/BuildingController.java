@@ -8,11 +8,16 @@ import com.example.campus_house.entity.User;
 import com.example.campus_house.dto.QuestionRequest;
 import com.example.campus_house.dto.BuildingReviewStatsDto;
 import com.example.campus_house.dto.BuildingRatingStatsDto;
+import com.example.campus_house.dto.CursorSliceResponse;
+import com.example.campus_house.dto.PopularBuildingResponse;
+import com.example.campus_house.dto.PostSummaryResponse;
 import com.example.campus_house.service.AuthService;
 import com.example.campus_house.service.BuildingService;
 import com.example.campus_house.service.BuildingScrapService;
 import com.example.campus_house.service.BuildingReviewService;
 import com.example.campus_house.service.PostService;
+import com.example.campus_house.service.UniqueViewerService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -35,6 +40,7 @@ public class BuildingController {
     private final BuildingReviewService buildingReviewService;
     private final PostService postService;
     private final AuthService authService;
+    private final UniqueViewerService uniqueViewerService;
     
     // 모든 건물 조회
     @GetMapping
@@ -46,6 +52,26 @@ public class BuildingController {
     }
     
     
+    // 모든 건물 조회 (커서, 모바일 앱용)
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorSliceResponse<Building>> getAllBuildingsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(CursorSliceResponse.from(
+                    buildingService.getBuildingSlice(cursor, size), Building::getCreatedAt, Building::getId));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
+    // 이번 주 많이 본 건물 (고유 조회자 수 추정치 기준)
+    @GetMapping("/popular/weekly")
+    public ResponseEntity<List<PopularBuildingResponse>> getWeeklyPopularBuildings(
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(uniqueViewerService.getWeeklyPopularBuildings(Math.max(1, Math.min(limit, 50))));
+    }
+    
     // 키워드로 건물 검색
     @GetMapping("/search")
     public ResponseEntity<Page<Building>> searchBuildingsByKeyword(
@@ -255,9 +281,13 @@ public class BuildingController {
     
     // 기본 정보 탭
     @GetMapping("/{buildingId}/building-info")
-    public ResponseEntity<Building> getBuildingInfo(@PathVariable Long buildingId) {
+    public ResponseEntity<Building> getBuildingInfo(
+            @PathVariable Long buildingId,
+            @RequestHeader(value = "Authorization", required = false) String token,
+            HttpServletRequest request) {
         Optional<Building> building = buildingService.getBuildingById(buildingId);
         if (building.isPresent()) {
+            uniqueViewerService.recordBuildingView(buildingId, uniqueViewerService.viewerKey(token, request.getRemoteAddr()));
             Building formattedBuilding = buildingService.getFormattedBuilding(building.get());
             return ResponseEntity.ok(formattedBuilding);
         }
@@ -330,12 +360,12 @@ public class BuildingController {
         }
     }
     
-    // 질문하기 탭 (Post 기반)
+    // 질문하기 탭 (Post 기반, 최신순 고정)
     @GetMapping("/{buildingId}/qnas")
-    public ResponseEntity<Page<Post>> getBuildingQuestions(
+    public ResponseEntity<Page<PostSummaryResponse>> getBuildingQuestions(
             @PathVariable Long buildingId,
-            @PageableDefault(size = 20, sort = "createdAt", direction = org.springframework.data.domain.Sort.Direction.DESC) Pageable pageable) {
-        Page<Post> questions = postService.getQuestionsByBuildingId(buildingId, pageable);
+            @PageableDefault(size = 20) Pageable pageable) {
+        Page<PostSummaryResponse> questions = postService.getQuestionsByBuildingId(buildingId, pageable);
         return ResponseEntity.ok(questions);
     }
     
@@ -360,12 +390,12 @@ public class BuildingController {
         }
     }
     
-    // 양도 탭 (Post 기반)
+    // 양도 탭 (Post 기반, 최신순 고정)
     @GetMapping("/{buildingId}/transfers")
-    public ResponseEntity<Page<Post>> getBuildingTransfers(
+    public ResponseEntity<Page<PostSummaryResponse>> getBuildingTransfers(
             @PathVariable Long buildingId,
-            @PageableDefault(size = 20, sort = "createdAt", direction = org.springframework.data.domain.Sort.Direction.DESC) Pageable pageable) {
-        Page<Post> transfers = postService.getTransfersByBuildingId(buildingId, pageable);
+            @PageableDefault(size = 20) Pageable pageable) {
+        Page<PostSummaryResponse> transfers = postService.getTransfersByBuildingId(buildingId, pageable);
         return ResponseEntity.ok(transfers);
     }
     
@@ -1,7 +1,10 @@
 package com.example.campus_house.controller;
 
+import com.example.campus_house.dto.ChatMessageHistoryResponse;
 import com.example.campus_house.dto.ChatMessageResponse;
 import com.example.campus_house.dto.ChatRoomResponse;
+import com.example.campus_house.dto.ChatSyncRequest;
+import com.example.campus_house.dto.ChatSyncResponse;
 import com.example.campus_house.dto.SendMessageRequest;
 import com.example.campus_house.service.ChatService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -270,6 +273,74 @@ public class ChatController {
         }
     }
     
+    // 메시지 커서 조회
+    @Operation(
+        summary = "메시지 커서 조회", 
+        description = "(생성 시간, ID) 커서 기반으로 메시지를 조회합니다. before/after/around 중 하나를 지정하고, " +
+                      "모두 없으면 최신 메시지를 조회합니다. 메시지는 오래된 순으로 반환됩니다.",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                responseCode = "200", 
+                description = "메시지 조회 성공",
+                content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ChatMessageHistoryResponse.class)
+                )
+            ),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 채팅방 접근 권한 없음")
+    })
+    @GetMapping("/rooms/{roomId}/messages/history")
+    public ResponseEntity<?> getMessageHistory(
+            @Parameter(description = "채팅방 ID", required = true, example = "1")
+            @PathVariable Long roomId,
+            @Parameter(description = "이 커서보다 오래된 메시지 조회")
+            @RequestParam(required = false) String before,
+            @Parameter(description = "이 커서보다 최근 메시지 조회")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "이 커서의 메시지를 중심으로 앞뒤 메시지 조회")
+            @RequestParam(required = false) String around,
+            @Parameter(description = "조회할 메시지 수 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            @RequestHeader("Authorization") String token) {
+        try {
+            ChatMessageHistoryResponse response = chatService.getMessageHistory(token, roomId, before, after, around, size);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+    
+    // 재연결 동기화
+    @Operation(
+        summary = "재연결 동기화", 
+        description = "여러 채팅방에 대해 마지막으로 받은 순번(afterSeq) 이후의 메시지를 한 번에 조회합니다.",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                responseCode = "200", 
+                description = "동기화 성공",
+                content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ChatSyncResponse.class)
+                )
+            ),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 또는 채팅방 접근 권한 없음")
+    })
+    @PostMapping("/sync")
+    public ResponseEntity<?> syncMessages(
+            @RequestBody ChatSyncRequest request,
+            @RequestHeader("Authorization") String token) {
+        try {
+            ChatSyncResponse response = chatService.syncMessages(token, request);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+    
     // 메시지 읽음 처리
     @Operation(
         summary = "메시지 읽음 처리", 
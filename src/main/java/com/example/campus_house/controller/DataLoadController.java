@@ -1,12 +1,17 @@
 package com.example.campus_house.controller;
 
+import com.example.campus_house.dto.DataLoadJobResponse;
+import com.example.campus_house.entity.DataLoadJob;
 import com.example.campus_house.service.BuildingDataLoaderService;
+import com.example.campus_house.service.DataLoadJobService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -16,29 +21,75 @@ import java.util.Map;
 public class DataLoadController {
     
     private final BuildingDataLoaderService buildingDataLoaderService;
+    private final DataLoadJobService dataLoadJobService;
     
     /**
-     * 건물 데이터 로드
+     * 건물 데이터 로드 (비동기 작업, 작업 ID 즉시 반환)
      */
     @PostMapping("/load/buildings")
     public ResponseEntity<Map<String, Object>> loadBuildings() {
+        log.info("🏢 건물 데이터 로드 요청");
+        return submitJob(DataLoadJob.JobType.BUILDING, "건물");
+    }
+    
+    /**
+     * 생활시설 데이터 로드 (비동기 작업, 작업 ID 즉시 반환)
+     */
+    @PostMapping("/load/facilities")
+    public ResponseEntity<Map<String, Object>> loadFacilities() {
+        log.info("🏪 생활시설 데이터 로드 요청");
+        return submitJob(DataLoadJob.JobType.FACILITY, "생활시설");
+    }
+    
+    /**
+     * 데이터 로드 작업 상태 조회 (진행률, 처리량, 오류 수)
+     */
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<Map<String, Object>> getJob(@PathVariable Long jobId) {
         try {
-            log.info("🏢 건물 데이터 로드 요청");
-            
-            buildingDataLoaderService.loadBuildingsFromJson();
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("job", dataLoadJobService.getJob(jobId));
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+        }
+    }
+    
+    /**
+     * 최근 데이터 로드 작업 목록 조회
+     */
+    @GetMapping("/jobs")
+    public ResponseEntity<List<DataLoadJobResponse>> getRecentJobs() {
+        return ResponseEntity.ok(dataLoadJobService.getRecentJobs());
+    }
+    
+    /**
+     * 실패한 데이터 로드 작업을 마지막 체크포인트부터 재개
+     */
+    @PostMapping("/jobs/{jobId}/resume")
+    public ResponseEntity<Map<String, Object>> resumeJob(@PathVariable Long jobId) {
+        try {
+            log.info("🔁 데이터 로드 작업 재개 요청: jobId={}", jobId);
+            DataLoadJobResponse job = dataLoadJobService.resume(jobId);
             
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
-            response.put("message", "건물 데이터가 성공적으로 로드되었습니다.");
+            response.put("message", "데이터 로드 작업이 체크포인트(" + job.getProcessedCount() + ")부터 재개되었습니다.");
+            response.put("jobId", job.getJobId());
+            response.put("job", job);
             
-            return ResponseEntity.ok(response);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
             
         } catch (Exception e) {
-            log.error("건물 데이터 로드 실패", e);
+            log.error("데이터 로드 작업 재개 실패", e);
             
             Map<String, Object> response = new HashMap<>();
             response.put("success", false);
-            response.put("message", "건물 데이터 로드에 실패했습니다: " + e.getMessage());
+            response.put("message", "데이터 로드 작업 재개에 실패했습니다: " + e.getMessage());
             
             return ResponseEntity.badRequest().body(response);
         }
@@ -70,4 +121,27 @@ public class DataLoadController {
             return ResponseEntity.badRequest().body(response);
         }
     }
+    
+    private ResponseEntity<Map<String, Object>> submitJob(DataLoadJob.JobType jobType, String label) {
+        try {
+            DataLoadJobResponse job = dataLoadJobService.submit(jobType);
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", label + " 데이터 로드 작업이 등록되었습니다.");
+            response.put("jobId", job.getJobId());
+            response.put("statusUrl", "/api/data/jobs/" + job.getJobId());
+            
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+            
+        } catch (Exception e) {
+            log.error("{} 데이터 로드 작업 등록 실패", label, e);
+            
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", label + " 데이터 로드에 실패했습니다: " + e.getMessage());
+            
+            return ResponseEntity.badRequest().body(response);
+        }
+    }
 }
@@ -0,0 +1,165 @@
+package com.example.campus_house.controller;
+
+import com.example.campus_house.dto.GroupChatMessageResponse;
+import com.example.campus_house.dto.GroupChatRoomResponse;
+import com.example.campus_house.dto.SendMessageRequest;
+import com.example.campus_house.service.GroupChatService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/chat/groups")
+@RequiredArgsConstructor
+@Tag(name = "그룹 채팅", description = "건물 거주자 그룹 채팅 API")
+public class GroupChatController {
+    
+    private final GroupChatService groupChatService;
+    
+    // 내 건물 그룹 채팅방 참여
+    @Operation(
+        summary = "건물 그룹 채팅방 참여", 
+        description = "거주지 인증된 건물의 그룹 채팅방에 참여합니다. 채팅방이 없으면 생성하고, 이미 참여 중이면 기존 방을 반환합니다.",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                responseCode = "200", 
+                description = "참여 성공",
+                content = @Content(mediaType = "application/json", schema = @Schema(implementation = GroupChatRoomResponse.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "거주지 인증 필요"),
+            @ApiResponse(responseCode = "401", description = "인증 필요")
+    })
+    @PostMapping("/building")
+    public ResponseEntity<?> joinBuildingRoom(@RequestHeader("Authorization") String token) {
+        try {
+            GroupChatRoomResponse response = groupChatService.joinBuildingRoom(token);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+    
+    // 내 그룹 채팅방 목록
+    @Operation(
+        summary = "그룹 채팅방 목록", 
+        description = "참여 중인 그룹 채팅방 목록과 읽지 않은 메시지 수를 조회합니다.",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @GetMapping
+    public ResponseEntity<?> getMyRooms(@RequestHeader("Authorization") String token) {
+        try {
+            List<GroupChatRoomResponse> rooms = groupChatService.getMyRooms(token);
+            return ResponseEntity.ok(rooms);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+    
+    // 메시지 전송
+    @Operation(
+        summary = "그룹 채팅 메시지 전송", 
+        description = "그룹 채팅방에 메시지를 보냅니다. 접속 중인 멤버에게는 /topic/chat/groups/{roomId}로 전달됩니다.",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                responseCode = "200", 
+                description = "메시지 전송 성공",
+                content = @Content(mediaType = "application/json", schema = @Schema(implementation = GroupChatMessageResponse.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+            @ApiResponse(responseCode = "401", description = "인증 필요"),
+            @ApiResponse(responseCode = "403", description = "채팅방 접근 권한 없음")
+    })
+    @PostMapping("/{roomId}/messages")
+    public ResponseEntity<?> sendMessage(
+            @Parameter(description = "그룹 채팅방 ID", required = true, example = "1")
+            @PathVariable Long roomId,
+            @RequestBody SendMessageRequest request,
+            @RequestHeader("Authorization") String token) {
+        try {
+            GroupChatMessageResponse response = groupChatService.sendMessage(token, roomId, request);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+    
+    // 메시지 조회
+    @Operation(
+        summary = "그룹 채팅 메시지 조회", 
+        description = "afterSeq가 있으면 그 이후 메시지(재연결 동기화), beforeSeq가 있으면 그 이전 메시지, 둘 다 없으면 최신 메시지를 순번 오름차순으로 반환합니다.",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @GetMapping("/{roomId}/messages")
+    public ResponseEntity<?> getMessages(
+            @Parameter(description = "그룹 채팅방 ID", required = true, example = "1")
+            @PathVariable Long roomId,
+            @Parameter(description = "이 순번 이전 메시지 조회", example = "100")
+            @RequestParam(required = false) Long beforeSeq,
+            @Parameter(description = "이 순번 이후 메시지 조회", example = "80")
+            @RequestParam(required = false) Long afterSeq,
+            @Parameter(description = "조회 개수 (최대 100)", example = "50")
+            @RequestParam(defaultValue = "50") int size,
+            @RequestHeader("Authorization") String token) {
+        try {
+            List<GroupChatMessageResponse> messages = groupChatService.getMessages(token, roomId, beforeSeq, afterSeq, size);
+            return ResponseEntity.ok(messages);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+    
+    // 읽음 처리
+    @Operation(
+        summary = "그룹 채팅 읽음 처리", 
+        description = "읽음 커서를 지정한 순번(없으면 최신 메시지)까지 전진시킵니다.",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @PostMapping("/{roomId}/read")
+    public ResponseEntity<?> markAsRead(
+            @Parameter(description = "그룹 채팅방 ID", required = true, example = "1")
+            @PathVariable Long roomId,
+            @Parameter(description = "마지막으로 읽은 메시지 순번", example = "42")
+            @RequestParam(required = false) Long seq,
+            @RequestHeader("Authorization") String token) {
+        try {
+            groupChatService.markAsRead(token, roomId, seq);
+            return ResponseEntity.ok(Map.of("message", "읽음 처리 완료"));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+    
+    // 그룹 채팅방 나가기
+    @Operation(
+        summary = "그룹 채팅방 나가기", 
+        description = "그룹 채팅방에서 나갑니다.",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @DeleteMapping("/{roomId}/members/me")
+    public ResponseEntity<?> leaveRoom(
+            @Parameter(description = "그룹 채팅방 ID", required = true, example = "1")
+            @PathVariable Long roomId,
+            @RequestHeader("Authorization") String token) {
+        try {
+            groupChatService.leaveRoom(token, roomId);
+            return ResponseEntity.ok(Map.of("message", "채팅방에서 나갔습니다."));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+}
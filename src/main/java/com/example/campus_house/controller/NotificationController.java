@@ -1,14 +1,19 @@
 package com.example.campus_house.controller;
 
+import com.example.campus_house.dto.CursorSliceResponse;
 import com.example.campus_house.entity.Notification;
 import com.example.campus_house.service.AuthService;
 import com.example.campus_house.service.NotificationService;
+import com.example.campus_house.service.NotificationStreamService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
 
@@ -18,6 +23,7 @@ import java.util.List;
 public class NotificationController {
     
     private final NotificationService notificationService;
+    private final NotificationStreamService notificationStreamService;
     private final AuthService authService;
     
     // 내 알림 목록 조회 (페이징)
@@ -35,6 +41,22 @@ public class NotificationController {
         }
     }
     
+    // 내 알림 목록 조회 (커서, 모바일 앱용)
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorSliceResponse<Notification>> getMyNotificationsByCursor(
+            @RequestHeader("Authorization") String token,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            Long userId = authService.getUserFromToken(token.substring(7)).getUserId();
+            return ResponseEntity.ok(CursorSliceResponse.from(
+                    notificationService.getUserNotificationSlice(userId, cursor, size),
+                    Notification::getCreatedAt, Notification::getId));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
     // 읽지 않은 알림 조회
     @GetMapping("/unread")
     public ResponseEntity<List<Notification>> getUnreadNotifications(
@@ -63,6 +85,22 @@ public class NotificationController {
         }
     }
     
+    // 실시간 알림 스트림 (SSE: notification / count / resync 이벤트, 재연결 시 Last-Event-ID로 이어 받기)
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<Flux<ServerSentEvent<Object>>> streamNotifications(
+            @RequestHeader("Authorization") String token,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        try {
+            String jwtToken = token.substring(7);
+            Long userId = authService.getUserFromToken(jwtToken).getUserId();
+            return ResponseEntity.ok()
+                    .header("X-Accel-Buffering", "no")
+                    .body(notificationStreamService.connect(userId, lastEventId));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
     // 알림 읽음 처리
     @PostMapping("/{notificationId}/read")
     public ResponseEntity<Void> markAsRead(
@@ -1,6 +1,8 @@
 package com.example.campus_house.controller;
 
 import com.example.campus_house.dto.ApiResponse;
+import com.example.campus_house.dto.CursorSliceResponse;
+import com.example.campus_house.dto.PostSummaryResponse;
 import com.example.campus_house.dto.QuestionRequest;
 import com.example.campus_house.entity.BoardType;
 import com.example.campus_house.entity.Post;
@@ -9,9 +11,11 @@ import com.example.campus_house.service.AuthService;
 import com.example.campus_house.service.PostService;
 import com.example.campus_house.service.LikeService;
 import com.example.campus_house.service.BookmarkService;
+import com.example.campus_house.service.UniqueViewerService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -30,6 +34,7 @@ public class PostController {
     private final AuthService authService;
     private final LikeService likeService;
     private final BookmarkService bookmarkService;
+    private final UniqueViewerService uniqueViewerService;
     
     // 게시글 작성
     @Operation(summary = "게시글 작성", description = "새로운 게시글을 작성합니다.")
@@ -62,7 +67,7 @@ public class PostController {
     }
     
     // 모든 게시글 조회 (페이징)
-    @Operation(summary = "게시글 목록 조회", description = "특정 게시판의 모든 게시글을 조회합니다.")
+    @Operation(summary = "게시글 목록 조회", description = "특정 게시판의 모든 게시글을 조회합니다. 정렬은 최신순(작성일, ID 내림차순)으로 고정이며 sort 파라미터는 무시됩니다.")
     @io.swagger.v3.oas.annotations.responses.ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "게시글 조회 성공"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청"),
@@ -70,10 +75,10 @@ public class PostController {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "거주지 인증 필요")
     })
     @GetMapping("/boards/{type}/posts")
-    public ResponseEntity<Page<Post>> getPostsByBoardType(
+    public ResponseEntity<Page<PostSummaryResponse>> getPostsByBoardType(
             @Parameter(description = "게시판 타입 (APARTMENT, QUESTION, LOCAL)", required = true)
             @PathVariable String type,
-            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @PageableDefault(size = 20) Pageable pageable,
             @RequestHeader(value = "Authorization", required = false) String token) {
         try {
             BoardType boardType = BoardType.valueOf(type.toUpperCase());
@@ -90,18 +95,18 @@ public class PostController {
                     
                     // QUESTION 게시판인 경우 거주지 기반 필터링 적용
                     if (boardType == BoardType.QUESTION) {
-                        Page<Post> posts = postService.getQuestionsForResident(user.getUserId(), pageable);
+                        Page<PostSummaryResponse> posts = postService.getQuestionsForResident(user.getUserId(), pageable);
                         return ResponseEntity.ok(posts);
                     }
                     
                     // APARTMENT 게시판인 경우 거주지 기반 필터링 적용
                     if (boardType == BoardType.APARTMENT) {
-                        Page<Post> posts = postService.getApartmentPostsForResident(user.getUserId(), pageable);
+                        Page<PostSummaryResponse> posts = postService.getApartmentPostsForResident(user.getUserId(), pageable);
                         return ResponseEntity.ok(posts);
                     }
                     
                     // 기타 게시판은 일반 조회
-                    Page<Post> posts = postService.getPostsByBoardType(boardType, pageable);
+                    Page<PostSummaryResponse> posts = postService.getPostsByBoardType(boardType, pageable);
                     return ResponseEntity.ok(posts);
                 } catch (RuntimeException e) {
                     return ResponseEntity.status(403).build();
@@ -109,13 +114,69 @@ public class PostController {
             }
             
             // LOCAL과 TRANSFER 게시판은 인증 불필요
-            Page<Post> posts = postService.getPostsByBoardType(boardType, pageable);
+            Page<PostSummaryResponse> posts = postService.getPostsByBoardType(boardType, pageable);
             return ResponseEntity.ok(posts);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
         }
     }
     
+    // 게시글 목록 조회 (커서)
+    @Operation(summary = "게시글 목록 커서 조회", description = "특정 게시판의 게시글을 최신순으로 조회합니다. 응답의 nextCursor를 cursor로 넘겨 다음 페이지를 조회합니다. (모바일 앱용, 전체 개수 없음)")
+    @io.swagger.v3.oas.annotations.responses.ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "게시글 조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청 또는 커서"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 필요"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "거주지 인증 필요")
+    })
+    @GetMapping("/boards/{type}/posts/cursor")
+    public ResponseEntity<CursorSliceResponse<PostSummaryResponse>> getPostsByBoardTypeWithCursor(
+            @Parameter(description = "게시판 타입 (APARTMENT, QUESTION, LOCAL)", required = true)
+            @PathVariable String type,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)")
+            @RequestParam(defaultValue = "20") int size,
+            @RequestHeader(value = "Authorization", required = false) String token) {
+        BoardType boardType;
+        try {
+            boardType = BoardType.valueOf(type.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        // APARTMENT와 QUESTION 게시판은 거주지 인증 필요 (거주 중인 건물의 게시글만)
+        if (boardType == BoardType.APARTMENT || boardType == BoardType.QUESTION) {
+            if (token == null) {
+                return ResponseEntity.status(401).build();
+            }
+            Long userId;
+            try {
+                User user = authService.getUserFromToken(token.substring(7));
+                postService.checkBoardAccessPermission(user.getUserId(), boardType);
+                userId = user.getUserId();
+            } catch (RuntimeException e) {
+                return ResponseEntity.status(403).build();
+            }
+            try {
+                return ResponseEntity.ok(CursorSliceResponse.from(
+                        postService.getResidentPostSlice(userId, boardType, cursor, size),
+                        PostSummaryResponse::getCreatedAt, PostSummaryResponse::getId));
+            } catch (RuntimeException e) {
+                return ResponseEntity.badRequest().build();
+            }
+        }
+        
+        // LOCAL과 TRANSFER 게시판은 인증 불필요
+        try {
+            return ResponseEntity.ok(CursorSliceResponse.from(
+                    postService.getPostSliceByBoardType(boardType, cursor, size),
+                    PostSummaryResponse::getCreatedAt, PostSummaryResponse::getId));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+    
     // 특정 게시글 조회
     @Operation(summary = "게시글 상세 조회", description = "특정 게시글의 상세 정보를 조회합니다.")
     @io.swagger.v3.oas.annotations.responses.ApiResponses(value = {
@@ -125,10 +186,12 @@ public class PostController {
     @GetMapping("/posts/{id}")
     public ResponseEntity<Post> getPostById(
             @Parameter(description = "게시글 ID", required = true)
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            @RequestHeader(value = "Authorization", required = false) String token,
+            HttpServletRequest request) {
         try {
-            Post post = postService.getPostById(id);
-            postService.incrementViewCount(id); // 조회수 증가
+            Post post = postService.getPostDetail(id); // 조회수 증가 포함
+            uniqueViewerService.recordPostView(id, uniqueViewerService.viewerKey(token, request.getRemoteAddr()));
             return ResponseEntity.ok(post);
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
@@ -195,19 +258,19 @@ public class PostController {
     }
     
     // 최신순 조회
-    @Operation(summary = "최신순 게시글 조회", description = "특정 게시판의 최신 게시글을 조회합니다.")
+    @Operation(summary = "최신순 게시글 조회", description = "특정 게시판의 최신 게시글을 조회합니다. 정렬은 최신순(작성일, ID 내림차순)으로 고정이며 sort 파라미터는 무시됩니다.")
     @io.swagger.v3.oas.annotations.responses.ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청")
     })
     @GetMapping("/boards/{type}/posts/latest")
-    public ResponseEntity<Page<Post>> getLatestPosts(
+    public ResponseEntity<Page<PostSummaryResponse>> getLatestPosts(
             @Parameter(description = "게시판 타입 (APARTMENT, QUESTION, LOCAL)", required = true)
             @PathVariable String type,
-            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
+            @PageableDefault(size = 20) Pageable pageable) {
         try {
             BoardType boardType = BoardType.valueOf(type.toUpperCase());
-            Page<Post> posts = postService.getPostsByBoardType(boardType, pageable);
+            Page<PostSummaryResponse> posts = postService.getPostsByBoardType(boardType, pageable);
             return ResponseEntity.ok(posts);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
@@ -215,19 +278,19 @@ public class PostController {
     }
     
     // 인기순 조회
-    @Operation(summary = "인기순 게시글 조회", description = "좋아요 수 기준으로 인기 게시글을 조회합니다.")
+    @Operation(summary = "인기순 게시글 조회", description = "좋아요/댓글/북마크/조회수와 작성 시각으로 계산한 점수 기준으로 최근 인기 게시글을 조회합니다. (상위 100개)")
     @io.swagger.v3.oas.annotations.responses.ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청")
     })
     @GetMapping("/boards/{type}/posts/popular")
-    public ResponseEntity<Page<Post>> getPopularPosts(
+    public ResponseEntity<Page<PostSummaryResponse>> getPopularPosts(
             @Parameter(description = "게시판 타입 (APARTMENT, QUESTION, LOCAL)", required = true)
             @PathVariable String type,
             @PageableDefault(size = 20, sort = "likeCount", direction = Sort.Direction.DESC) Pageable pageable) {
         try {
             BoardType boardType = BoardType.valueOf(type.toUpperCase());
-            Page<Post> posts = postService.getPopularPosts(boardType, pageable);
+            Page<PostSummaryResponse> posts = postService.getPopularPosts(boardType, pageable);
             return ResponseEntity.ok(posts);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
@@ -336,13 +399,13 @@ public class PostController {
     // ========== 건물별 질문 관련 API ==========
     
     // 건물별 질문 목록 조회 (QUESTION 게시판에서)
-    @Operation(summary = "건물별 질문 목록 조회", description = "특정 건물에 대한 질문들을 조회합니다.")
+    @Operation(summary = "건물별 질문 목록 조회", description = "특정 건물에 대한 질문들을 조회합니다. 정렬은 최신순(작성일, ID 내림차순)으로 고정이며 sort 파라미터는 무시됩니다.")
     @GetMapping("/buildings/{buildingId}/questions")
-    public ResponseEntity<Page<Post>> getBuildingQuestions(
+    public ResponseEntity<Page<PostSummaryResponse>> getBuildingQuestions(
             @Parameter(description = "건물 ID", required = true)
             @PathVariable Long buildingId,
-            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
-        Page<Post> questions = postService.getQuestionsByBuildingId(buildingId, pageable);
+            @PageableDefault(size = 20) Pageable pageable) {
+        Page<PostSummaryResponse> questions = postService.getQuestionsByBuildingId(buildingId, pageable);
         return ResponseEntity.ok(questions);
     }
     
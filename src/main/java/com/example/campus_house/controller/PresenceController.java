@@ -0,0 +1,81 @@
+package com.example.campus_house.controller;
+
+import com.example.campus_house.dto.PresenceEvent;
+import com.example.campus_house.dto.TypingRequest;
+import com.example.campus_house.service.PresenceService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.web.bind.annotation.*;
+
+import java.security.Principal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 접속 상태/입력 중 표시
+ * - 하트비트: STOMP SEND /app/presence/heartbeat
+ * - 입력 중: STOMP SEND /app/chat/rooms/{roomId}/typing, /app/chat/groups/{roomId}/typing
+ * - 변경 구독: /topic/presence/{userId}, /topic/chat/rooms/{roomId}/typing, /topic/chat/groups/{roomId}/typing
+ */
+@RestController
+@RequestMapping("/api/chat/presence")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "채팅", description = "채팅 관련 API")
+public class PresenceController {
+    
+    private static final int MAX_PRESENCE_QUERY = 200;
+    
+    private final PresenceService presenceService;
+    
+    // 여러 사용자의 접속 상태 조회
+    @Operation(
+        summary = "접속 상태 조회", 
+        description = "사용자들의 현재 접속 상태를 조회합니다. 이후 변경은 /topic/presence/{userId} 구독으로 받습니다.",
+        security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @GetMapping
+    public ResponseEntity<?> getPresence(
+            @Parameter(description = "사용자 ID 목록 (최대 200명)", required = true, example = "1,2,3")
+            @RequestParam List<Long> userIds) {
+        if (userIds.size() > MAX_PRESENCE_QUERY) {
+            return ResponseEntity.badRequest().body(Map.of("error", "한 번에 최대 " + MAX_PRESENCE_QUERY + "명까지 조회할 수 있습니다."));
+        }
+        List<PresenceEvent> presence = presenceService.getPresence(userIds);
+        return ResponseEntity.ok(presence);
+    }
+    
+    // 하트비트
+    @MessageMapping("/presence/heartbeat")
+    public void heartbeat(Principal principal) {
+        presenceService.heartbeat(Long.valueOf(principal.getName()));
+    }
+    
+    // 1:1 채팅방 입력 중
+    @MessageMapping("/chat/rooms/{roomId}/typing")
+    public void typingInRoom(@DestinationVariable Long roomId, @Payload TypingRequest request, Principal principal) {
+        setTyping(false, roomId, request, principal);
+    }
+    
+    // 그룹 채팅방 입력 중
+    @MessageMapping("/chat/groups/{roomId}/typing")
+    public void typingInGroup(@DestinationVariable Long roomId, @Payload TypingRequest request, Principal principal) {
+        setTyping(true, roomId, request, principal);
+    }
+    
+    private void setTyping(boolean group, Long roomId, TypingRequest request, Principal principal) {
+        try {
+            presenceService.setTyping(group, roomId, Long.valueOf(principal.getName()), request.isTyping());
+        } catch (Exception e) {
+            log.debug("입력 중 상태 무시: roomId={}, {}", roomId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.campus_house.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+@Schema(description = "채팅 메시지 커서 조회 응답")
+public class ChatMessageHistoryResponse {
+    @Schema(description = "메시지 목록 (오래된 순)")
+    private List<ChatMessageResponse> messages;
+    
+    @Schema(description = "더 오래된 메시지가 있는지 여부 (알 수 없으면 null)", example = "true")
+    private Boolean hasOlder;
+    
+    @Schema(description = "더 최근 메시지가 있는지 여부 (알 수 없으면 null)", example = "false")
+    private Boolean hasNewer;
+    
+    @Schema(description = "더 오래된 메시지 조회용 커서 (before 파라미터로 사용)", example = "MTcwNTMxMjcwMC4wOjQy")
+    private String olderCursor;
+    
+    @Schema(description = "더 최근 메시지 조회용 커서 (after 파라미터로 사용)", example = "MTcwNTMxMjcwMC4wOjQz")
+    private String newerCursor;
+}
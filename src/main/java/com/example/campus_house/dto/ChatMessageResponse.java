@@ -15,6 +15,15 @@ public class ChatMessageResponse {
     @Schema(description = "메시지 ID", example = "1")
     private Long id;
     
+    @Schema(description = "채팅방 ID", example = "1")
+    private Long roomId;
+    
+    @Schema(description = "채팅방 내 메시지 순번", example = "42")
+    private Long seq;
+    
+    @Schema(description = "발신자 ID", example = "1")
+    private Long senderId;
+    
     @Schema(description = "메시지 내용", example = "안녕하세요!")
     private String content;
     
@@ -42,6 +51,9 @@ public class ChatMessageResponse {
     public static ChatMessageResponse from(ChatMessage message, User currentUser) {
         return ChatMessageResponse.builder()
                 .id(message.getId())
+                .roomId(message.getChatRoom().getId())
+                .seq(message.getSeq())
+                .senderId(message.getSender().getUserId())
                 .content(message.getContent())
                 .imageUrl(message.getImageUrl())
                 .messageType(message.getType().name())
@@ -36,6 +36,12 @@ public class ChatRoomResponse {
     @Schema(description = "읽지 않은 메시지 수", example = "3")
     private Long unreadCount;
     
+    // 채팅방 요약 컬럼(마지막 메시지, 읽지 않은 수)으로 응답 생성
+    public static ChatRoomResponse from(ChatRoom chatRoom, User currentUser) {
+        return from(chatRoom, currentUser, chatRoom.getLastMessagePreview(), chatRoom.getLastMessageAt(),
+                chatRoom.getUnreadCount(currentUser));
+    }
+    
     public static ChatRoomResponse from(ChatRoom chatRoom, User currentUser, String lastMessageContent, 
                                       LocalDateTime lastMessageTime, Long unreadCount) {
         User otherUser = chatRoom.getUser1().equals(currentUser) ? chatRoom.getUser2() : chatRoom.getUser1();
@@ -0,0 +1,26 @@
+package com.example.campus_house.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Schema(description = "재연결 동기화 요청")
+public class ChatSyncRequest {
+    @Schema(description = "채팅방별 마지막으로 받은 메시지 순번", required = true)
+    private List<RoomCursor> rooms;
+    
+    @Schema(description = "채팅방별 최대 메시지 수 (기본 100, 최대 500)", example = "100")
+    private Integer limitPerRoom;
+    
+    @Data
+    @Schema(description = "채팅방 동기화 기준")
+    public static class RoomCursor {
+        @Schema(description = "채팅방 ID", example = "1", required = true)
+        private Long roomId;
+        
+        @Schema(description = "마지막으로 받은 메시지 순번 (없으면 0)", example = "42")
+        private Long afterSeq;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.campus_house.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+@Schema(description = "재연결 동기화 응답")
+public class ChatSyncResponse {
+    @Schema(description = "채팅방별 누락 메시지")
+    private List<RoomSync> rooms;
+    
+    @Data
+    @Builder
+    @Schema(description = "채팅방 동기화 결과")
+    public static class RoomSync {
+        @Schema(description = "채팅방 ID", example = "1")
+        private Long roomId;
+        
+        @Schema(description = "afterSeq 이후 메시지 (순번순)")
+        private List<ChatMessageResponse> messages;
+        
+        @Schema(description = "응답에 포함된 마지막 순번 (다음 동기화의 afterSeq)", example = "45")
+        private Long lastSeq;
+        
+        @Schema(description = "limitPerRoom을 넘어 남은 메시지가 있는지 여부", example = "false")
+        private boolean hasMore;
+    }
+}
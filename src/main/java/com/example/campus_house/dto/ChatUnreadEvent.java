@@ -0,0 +1,23 @@
+package com.example.campus_house.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "읽지 않은 메시지 수 변경 이벤트 (WebSocket /user/queue/chat/unread)")
+public class ChatUnreadEvent {
+    @Schema(description = "채팅방 ID", example = "1")
+    private Long roomId;
+    
+    @Schema(description = "읽지 않은 메시지 수 변화량 (새 메시지: +1)", example = "1")
+    private Long delta;
+    
+    @Schema(description = "true면 해당 채팅방의 읽지 않은 메시지 수가 0으로 초기화됨", example = "false")
+    private boolean reset;
+}
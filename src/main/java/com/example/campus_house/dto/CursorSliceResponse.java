@@ -0,0 +1,50 @@
+package com.example.campus_house.dto;
+
+import com.example.campus_house.util.CursorUtil;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Function;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "커서 페이지 조회 응답 (최신순, 전체 개수 없음)")
+public class CursorSliceResponse<T> {
+    @Schema(description = "항목 목록 (최신순)")
+    private List<T> content;
+    
+    @Schema(description = "요청한 페이지 크기", example = "20")
+    private int size;
+    
+    @Schema(description = "다음(더 오래된) 항목이 있는지 여부", example = "true")
+    private boolean hasNext;
+    
+    @Schema(description = "다음 페이지 조회용 커서 (cursor 파라미터로 사용, 마지막 페이지면 null)", example = "MTcwNTMxMjcwMC4wOjQy")
+    private String nextCursor;
+    
+    // Slice의 마지막 항목 (생성 시간, ID)로 다음 커서 생성
+    public static <T> CursorSliceResponse<T> from(Slice<T> slice,
+                                                  Function<T, LocalDateTime> createdAt,
+                                                  Function<T, Long> id) {
+        List<T> content = slice.getContent();
+        String nextCursor = null;
+        if (slice.hasNext() && !content.isEmpty()) {
+            T last = content.get(content.size() - 1);
+            nextCursor = CursorUtil.encode(createdAt.apply(last), id.apply(last));
+        }
+        return CursorSliceResponse.<T>builder()
+                .content(content)
+                .size(slice.getSize())
+                .hasNext(slice.hasNext())
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
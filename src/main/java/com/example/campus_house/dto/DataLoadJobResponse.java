@@ -0,0 +1,63 @@
+package com.example.campus_house.dto;
+
+import com.example.campus_house.entity.DataLoadJob;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+public class DataLoadJobResponse {
+    private Long jobId;
+    private String jobType;
+    private String status;
+    private Integer totalCount; // 전체 레코드 수
+    private Integer processedCount; // 체크포인트까지 처리된 레코드 수
+    private Double progressPercent; // 진행률 (0-100)
+    private Integer successCount;
+    private Integer errorCount;
+    private Double throughputPerSecond; // 이번 실행의 초당 처리 레코드 수
+    private Integer attemptCount;
+    private String lastError;
+    private LocalDateTime startedAt;
+    private LocalDateTime lastCheckpointAt;
+    private LocalDateTime finishedAt;
+    private LocalDateTime createdAt;
+
+    public static DataLoadJobResponse from(DataLoadJob job) {
+        int processed = job.getLastProcessedOffset() != null ? job.getLastProcessedOffset() : 0;
+
+        Double progress = null;
+        if (job.getTotalCount() != null) {
+            progress = job.getTotalCount() == 0 ? 100.0 : Math.round(processed * 1000.0 / job.getTotalCount()) / 10.0;
+        }
+
+        Double throughput = null;
+        if (job.getStartedAt() != null && job.getAttemptStartOffset() != null) {
+            LocalDateTime end = job.getStatus() == DataLoadJob.JobStatus.RUNNING || job.getFinishedAt() == null
+                    ? LocalDateTime.now() : job.getFinishedAt();
+            long millis = Math.max(1, Duration.between(job.getStartedAt(), end).toMillis());
+            throughput = Math.round((processed - job.getAttemptStartOffset()) * 10000.0 / millis) / 10.0;
+        }
+
+        return DataLoadJobResponse.builder()
+                .jobId(job.getId())
+                .jobType(job.getJobType().name())
+                .status(job.getStatus().name())
+                .totalCount(job.getTotalCount())
+                .processedCount(processed)
+                .progressPercent(progress)
+                .successCount(job.getSuccessCount())
+                .errorCount(job.getErrorCount())
+                .throughputPerSecond(throughput)
+                .attemptCount(job.getAttemptCount())
+                .lastError(job.getLastError())
+                .startedAt(job.getStartedAt())
+                .lastCheckpointAt(job.getLastCheckpointAt())
+                .finishedAt(job.getFinishedAt())
+                .createdAt(job.getCreatedAt())
+                .build();
+    }
+}
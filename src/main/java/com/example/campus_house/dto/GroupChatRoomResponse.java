@@ -0,0 +1,57 @@
+package com.example.campus_house.dto;
+
+import com.example.campus_house.entity.GroupChatMember;
+import com.example.campus_house.entity.GroupChatRoom;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@Schema(description = "건물 그룹 채팅방 응답 정보")
+public class GroupChatRoomResponse {
+    @Schema(description = "그룹 채팅방 ID", example = "1")
+    private Long id;
+    
+    @Schema(description = "건물 ID", example = "10")
+    private Long buildingId;
+    
+    @Schema(description = "채팅방 이름 (건물명)", example = "캠퍼스 하우스 A동")
+    private String name;
+    
+    @Schema(description = "멤버 수", example = "120")
+    private Integer memberCount;
+    
+    @Schema(description = "마지막 메시지 내용", example = "택배 보관함 위치 아시는 분?")
+    private String lastMessageContent;
+    
+    @Schema(description = "마지막 메시지 시간", example = "2024-01-15T14:25:00")
+    private LocalDateTime lastMessageTime;
+    
+    @Schema(description = "채팅방 마지막 메시지 순번", example = "42")
+    private Long lastSeq;
+    
+    @Schema(description = "내가 마지막으로 읽은 메시지 순번", example = "39")
+    private Long lastReadSeq;
+    
+    @Schema(description = "읽지 않은 메시지 수", example = "3")
+    private Long unreadCount;
+    
+    // 멤버십(읽음 커서)과 채팅방 요약으로 응답 생성
+    public static GroupChatRoomResponse from(GroupChatMember member) {
+        GroupChatRoom room = member.getRoom();
+        return GroupChatRoomResponse.builder()
+                .id(room.getId())
+                .buildingId(room.getBuildingId())
+                .name(room.getName())
+                .memberCount(room.getMemberCount())
+                .lastMessageContent(room.getLastMessagePreview())
+                .lastMessageTime(room.getLastMessageAt())
+                .lastSeq(room.getMessageSeq())
+                .lastReadSeq(member.getLastReadSeq())
+                .unreadCount(Math.max(0L, room.getMessageSeq() - member.getLastReadSeq()))
+                .build();
+    }
+}
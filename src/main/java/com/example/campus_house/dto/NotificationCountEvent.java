@@ -0,0 +1,17 @@
+package com.example.campus_house.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "읽지 않은 알림 수 이벤트 (SSE /api/notifications/stream, event: count / resync)")
+public class NotificationCountEvent {
+    @Schema(description = "읽지 않은 알림 수", example = "3")
+    private Long unreadCount;
+}
@@ -0,0 +1,64 @@
+package com.example.campus_house.dto;
+
+import com.example.campus_house.entity.Notification;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "새 알림/갱신된 묶음 알림 이벤트 (SSE /api/notifications/stream, event: notification)")
+public class NotificationEvent {
+    @Schema(description = "알림 ID (SSE 이벤트 ID로도 사용)", example = "1")
+    private Long id;
+    
+    @Schema(description = "알림 타입", example = "BUILDING_QUESTION")
+    private Notification.NotificationType type;
+    
+    @Schema(description = "알림 제목", example = "새로운 건물 질문이 등록되었습니다")
+    private String title;
+    
+    @Schema(description = "알림 내용", example = "[캠퍼스하우스] 주차 가능한가요?")
+    private String content;
+    
+    @Schema(description = "알림을 보낸 사용자 ID", example = "2")
+    private Long fromUserId;
+    
+    @Schema(description = "관련 ID", example = "10")
+    private String relatedId;
+    
+    @Schema(description = "관련 타입", example = "POST")
+    private String relatedType;
+    
+    @Schema(description = "묶인 행위자 수 (같은 ID로 다시 오면 기존 알림을 갱신)", example = "3")
+    private Integer actorCount;
+    
+    @Schema(description = "최근 행위자 닉네임 (최신순)", example = "[\"민수\", \"지영\"]")
+    private List<String> latestActorNames;
+    
+    @Schema(description = "생성 시간", example = "2024-01-15T10:30:00")
+    private LocalDateTime createdAt;
+    
+    public static NotificationEvent from(Notification notification) {
+        return NotificationEvent.builder()
+                .id(notification.getId())
+                .type(notification.getType())
+                .title(notification.getTitle())
+                .content(notification.getContent())
+                .fromUserId(notification.getFromUser() != null ? notification.getFromUser().getUserId() : null)
+                .relatedId(notification.getRelatedId())
+                .relatedType(notification.getRelatedType())
+                .actorCount(notification.getActorCount())
+                .latestActorNames(notification.getLatestActorNames() != null && !notification.getLatestActorNames().isEmpty()
+                        ? List.of(notification.getLatestActorNames().split(",")) : List.of())
+                .createdAt(notification.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.campus_house.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "이번 주 많이 본 건물")
+public class PopularBuildingResponse {
+    @Schema(description = "건물 ID", example = "1")
+    private Long buildingId;
+
+    @Schema(description = "건물명", example = "신림 하우스")
+    private String buildingName;
+
+    @Schema(description = "건물 주소", example = "서울시 관악구 신림동 123-45")
+    private String address;
+
+    @Schema(description = "이번 주 고유 조회자 수 (HyperLogLog 추정치, 오차 약 2%)", example = "128")
+    private Long uniqueViewers;
+
+    @Schema(description = "집계 주 시작일 (월요일)", example = "2025-01-06")
+    private LocalDate weekStart;
+}
@@ -0,0 +1,80 @@
+package com.example.campus_house.dto;
+
+import com.example.campus_house.entity.BoardType;
+import com.example.campus_house.repository.PostSummaryView;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "게시글 목록 항목")
+public class PostSummaryResponse {
+    @Schema(description = "게시글 ID", example = "1")
+    private Long id;
+    
+    @Schema(description = "제목", example = "엘리베이터 점검 안내")
+    private String title;
+    
+    @Schema(description = "본문 미리보기 (앞부분 최대 100자)", example = "이번 주 목요일 오전에 엘리베이터 점검이 있습니다.")
+    private String contentPreview;
+    
+    @Schema(description = "대표 이미지 URL")
+    private String imageUrl;
+    
+    @Schema(description = "게시판 타입", example = "LOCAL")
+    private BoardType boardType;
+    
+    @Schema(description = "좋아요 수", example = "3")
+    private int likeCount;
+    
+    @Schema(description = "댓글 수", example = "5")
+    private int commentCount;
+    
+    @Schema(description = "스크랩(북마크) 수", example = "1")
+    private int scrapCount;
+    
+    @Schema(description = "조회수", example = "42")
+    private int viewCount;
+    
+    @Schema(description = "작성 시간")
+    private LocalDateTime createdAt;
+    
+    @Schema(description = "작성자 ID", example = "7")
+    private Long authorId;
+    
+    @Schema(description = "작성자 닉네임", example = "신림동주민")
+    private String authorNickname;
+    
+    @Schema(description = "작성자 대표 캐릭터 이미지 (없으면 프로필 이미지)")
+    private String authorCharacterImage;
+    
+    // 프로젝션 → 응답 (pendingViews: 아직 DB에 반영되지 않은 조회수)
+    public static PostSummaryResponse from(PostSummaryView view, long pendingViews) {
+        return PostSummaryResponse.builder()
+                .id(view.getId())
+                .title(view.getTitle())
+                .contentPreview(view.getContentPreview())
+                .imageUrl(view.getImageUrl())
+                .boardType(view.getBoardType())
+                .likeCount(orZero(view.getLikeCount()))
+                .commentCount(orZero(view.getCommentCount()))
+                .scrapCount(orZero(view.getScrapCount()))
+                .viewCount((int) Math.min(Integer.MAX_VALUE, orZero(view.getViewCount()) + pendingViews))
+                .createdAt(view.getCreatedAt())
+                .authorId(view.getAuthorId())
+                .authorNickname(view.getAuthorNickname())
+                .authorCharacterImage(view.getAuthorCharacterImage())
+                .build();
+    }
+    
+    private static int orZero(Integer value) {
+        return value != null ? value : 0;
+    }
+}
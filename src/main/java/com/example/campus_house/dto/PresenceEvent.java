@@ -0,0 +1,23 @@
+package com.example.campus_house.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "접속 상태 이벤트 (WebSocket /topic/presence/{userId})")
+public class PresenceEvent {
+    @Schema(description = "사용자 ID", example = "1")
+    private Long userId;
+    
+    @Schema(description = "접속 여부", example = "true")
+    private boolean online;
+    
+    @Schema(description = "마지막 활동 시각 (epoch millis)", example = "1705296300000")
+    private Long lastSeenAt;
+}
@@ -0,0 +1,22 @@
+package com.example.campus_house.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "입력 중 상태 이벤트 (WebSocket /topic/chat/rooms/{roomId}/typing, /topic/chat/groups/{roomId}/typing)")
+public class TypingEvent {
+    @Schema(description = "채팅방 ID", example = "1")
+    private Long roomId;
+    
+    @Schema(description = "현재 입력 중인 사용자 ID 목록 (빈 목록이면 아무도 입력 중이 아님)", example = "[3, 7]")
+    private List<Long> typingUserIds;
+}
@@ -0,0 +1,11 @@
+package com.example.campus_house.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+@Data
+@Schema(description = "입력 중 상태 전송 (STOMP /app/chat/rooms/{roomId}/typing, /app/chat/groups/{roomId}/typing)")
+public class TypingRequest {
+    @Schema(description = "입력 중 여부 (입력 중에는 몇 초마다 다시 전송)", example = "true")
+    private boolean typing;
+}
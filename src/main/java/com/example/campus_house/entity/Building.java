@@ -17,7 +17,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "buildings")
+@Table(name = "buildings",
+       indexes = @Index(name = "idx_buildings_created_id", columnList = "created_at, id"))
 @Data
 @Builder
 @NoArgsConstructor
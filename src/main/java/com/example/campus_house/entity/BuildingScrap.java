@@ -12,7 +12,9 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "building_scraps")
+@Table(name = "building_scraps",
+       uniqueConstraints = @UniqueConstraint(name = BuildingScrap.UNIQUE_USER_BUILDING,
+                                             columnNames = {"user_id", "building_id"})) // 중복 스크랩 방지
 @Data
 @Builder
 @NoArgsConstructor
@@ -20,6 +22,9 @@ import java.time.LocalDateTime;
 @EntityListeners(AuditingEntityListener.class)
 public class BuildingScrap {
     
+    // (user_id, building_id) 유니크 제약 이름 (스크랩 추가의 ON CONFLICT 대상)
+    public static final String UNIQUE_USER_BUILDING = "uk_building_scraps_user_building";
+    
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -44,8 +49,4 @@ public class BuildingScrap {
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
-    
-    // 중복 스크랩 방지
-    @Table(uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "building_id"}))
-    public static class UniqueScrap {}
 }
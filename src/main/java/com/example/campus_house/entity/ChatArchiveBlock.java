@@ -0,0 +1,58 @@
+package com.example.campus_house.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관(archive)된 채팅 메시지 블록
+ * 보관 기간이 지난 메시지를 채팅방·월 단위로 묶어 deflate 압축한 블록입니다. (형식: ChatArchiveCodec)
+ * 블록 메타데이터(순번/시간 범위, 메시지 수)만으로 페이지 위치를 계산하고 필요한 블록만 압축 해제합니다.
+ */
+@Entity
+@Table(name = "chat_archive_blocks",
+       indexes = @Index(name = "idx_chat_archive_blocks_room_seq", columnList = "chat_room_id, last_seq"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class ChatArchiveBlock {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "chat_room_id", nullable = false)
+    private Long chatRoomId;
+
+    // 메시지가 속한 월 (yyyyMM)
+    @Column(name = "period_month", nullable = false)
+    private Integer periodMonth;
+
+    @Column(name = "first_seq", nullable = false)
+    private Long firstSeq;
+
+    @Column(name = "last_seq", nullable = false)
+    private Long lastSeq;
+
+    @Column(name = "first_created_at", nullable = false)
+    private LocalDateTime firstCreatedAt;
+
+    @Column(name = "last_created_at", nullable = false)
+    private LocalDateTime lastCreatedAt;
+
+    @Column(name = "message_count", nullable = false)
+    private Integer messageCount;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "bytea")
+    private byte[] payload;
+
+    @CreatedDate
+    @Column(name = "archived_at", nullable = false, updatable = false)
+    private LocalDateTime archivedAt;
+}
@@ -8,7 +8,11 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "chat_messages")
+@Table(name = "chat_messages",
+       indexes = {
+           @Index(name = "idx_chat_messages_room_created_id", columnList = "chat_room_id, created_at, id"),
+           @Index(name = "uk_chat_messages_room_seq", columnList = "chat_room_id, seq", unique = true)
+       })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -29,6 +33,10 @@ public class ChatMessage {
     @JoinColumn(name = "sender_id", nullable = false)
     private User sender;
     
+    // 채팅방 내 순번 (1부터 단조 증가, 재연결 동기화 기준)
+    @Column(name = "seq")
+    private Long seq;
+    
     @Column(nullable = false, length = 2000)
     private String content;
     
@@ -9,7 +9,11 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "chat_rooms",
-       uniqueConstraints = @UniqueConstraint(columnNames = {"user1_id", "user2_id"}))
+       uniqueConstraints = @UniqueConstraint(columnNames = {"user1_id", "user2_id"}),
+       indexes = {
+           @Index(name = "idx_chat_rooms_user1_activity", columnList = "user1_id, last_activity_at"),
+           @Index(name = "idx_chat_rooms_user2_activity", columnList = "user2_id, last_activity_at")
+       })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -39,6 +43,59 @@ public class ChatRoom {
     @Column(name = "user2_last_read_at")
     private LocalDateTime user2LastReadAt;
     
+    // ===== 채팅방 목록용 요약 (sendMessage/markAsRead에서 원자적으로 갱신) =====
+    
+    @Column(name = "last_message_id")
+    private Long lastMessageId;
+    
+    // 마지막 메시지의 채팅방 순번 (요약 갱신 순서 기준, write-behind ID는 전송 순서와 다를 수 있음)
+    @Column(name = "last_message_seq")
+    private Long lastMessageSeq;
+    
+    @Column(name = "last_message_preview", length = PREVIEW_LENGTH)
+    private String lastMessagePreview;
+    
+    @Column(name = "last_message_at")
+    private LocalDateTime lastMessageAt;
+    
+    // 마지막 활동 시간 (마지막 메시지 시간, 메시지가 없으면 생성 시간) - 목록 정렬 기준
+    @Column(name = "last_activity_at")
+    private LocalDateTime lastActivityAt;
+    
+    @Builder.Default
+    @Column(name = "user1_unread_count", nullable = false, columnDefinition = "integer default 0")
+    private Integer user1UnreadCount = 0;
+    
+    @Builder.Default
+    @Column(name = "user2_unread_count", nullable = false, columnDefinition = "integer default 0")
+    private Integer user2UnreadCount = 0;
+    
+    // 채팅방 메시지 순번 카운터 (메시지마다 1씩 증가, ChatMessage.seq로 부여)
+    @Builder.Default
+    @Column(name = "message_seq", nullable = false, columnDefinition = "bigint default 0")
+    private Long messageSeq = 0L;
+    
+    public static final int PREVIEW_LENGTH = 100;
+    
+    // 메시지 내용으로 미리보기 생성
+    public static String toPreview(String content) {
+        if (content == null) {
+            return null;
+        }
+        return content.length() > PREVIEW_LENGTH ? content.substring(0, PREVIEW_LENGTH) : content;
+    }
+    
+    // 사용자별 읽지 않은 메시지 수 조회
+    public long getUnreadCount(User user) {
+        Integer count = null;
+        if (user.equals(user1)) {
+            count = user1UnreadCount;
+        } else if (user.equals(user2)) {
+            count = user2UnreadCount;
+        }
+        return count != null ? count : 0;
+    }
+    
     // 사용자별 마지막 읽음 시간 설정
     public void setLastReadTime(User user, LocalDateTime readTime) {
         if (user.equals(user1)) {
@@ -0,0 +1,86 @@
+package com.example.campus_house.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "data_load_jobs")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class DataLoadJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private JobType jobType; // 로드 대상 (BUILDING, FACILITY)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private JobStatus status; // 작업 상태
+
+    @Column(nullable = false)
+    private Integer chunkSize; // 청크(커밋) 단위
+
+    @Column
+    private Integer totalCount; // 전체 레코드 수
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer lastProcessedOffset = 0; // 체크포인트: 마지막으로 커밋된 레코드 위치
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer successCount = 0; // 성공 건수
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer errorCount = 0; // 실패 건수
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attemptCount = 0; // 실행(재개 포함) 횟수
+
+    @Column
+    private Integer attemptStartOffset; // 이번 실행이 시작된 위치 (처리량 계산용)
+
+    @Column(columnDefinition = "TEXT")
+    private String lastError; // 마지막 오류 메시지
+
+    @Column
+    private LocalDateTime startedAt; // 이번 실행 시작 시간
+
+    @Column
+    private LocalDateTime lastCheckpointAt; // 마지막 체크포인트 커밋 시간
+
+    @Column
+    private LocalDateTime finishedAt; // 완료/실패 시간
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public enum JobType {
+        BUILDING,   // 건물 데이터
+        FACILITY    // 생활시설 데이터
+    }
+
+    public enum JobStatus {
+        PENDING,    // 대기 중
+        RUNNING,    // 실행 중
+        COMPLETED,  // 완료
+        FAILED      // 실패 (체크포인트부터 재개 가능)
+    }
+}
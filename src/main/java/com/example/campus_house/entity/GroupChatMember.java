@@ -0,0 +1,46 @@
+package com.example.campus_house.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 그룹 채팅방 멤버십 + 읽음 커서
+ * 읽지 않은 수 = 채팅방 messageSeq - lastReadSeq
+ */
+@Entity
+@Table(name = "group_chat_members",
+       uniqueConstraints = @UniqueConstraint(name = "uk_group_chat_members_room_user", columnNames = {"room_id", "user_id"}),
+       indexes = @Index(name = "idx_group_chat_members_user", columnList = "user_id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class GroupChatMember {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "room_id", nullable = false)
+    private GroupChatRoom room;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    // 마지막으로 읽은 메시지 순번 (가입 시점의 순번부터 시작: 가입 전 메시지는 읽지 않은 수에서 제외)
+    @Builder.Default
+    @Column(name = "last_read_seq", nullable = false, columnDefinition = "bigint default 0")
+    private Long lastReadSeq = 0L;
+
+    @CreatedDate
+    @Column(name = "joined_at", nullable = false, updatable = false)
+    private LocalDateTime joinedAt;
+}
@@ -0,0 +1,54 @@
+package com.example.campus_house.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 건물 거주자 그룹 채팅방 (verifiedBuildingId당 하나)
+ * 메시지 순번 카운터와 마지막 메시지 요약만 채팅방 행에 두고, 멤버별 읽지 않은 수는
+ * (messageSeq - 멤버의 lastReadSeq)로 계산하므로 메시지 하나당 쓰기 수가 멤버 수와 무관합니다.
+ */
+@Entity
+@Table(name = "group_chat_rooms",
+       uniqueConstraints = @UniqueConstraint(name = "uk_group_chat_rooms_building", columnNames = "building_id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class GroupChatRoom {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "building_id", nullable = false)
+    private Long buildingId;
+
+    @Column(nullable = false)
+    private String name; // 건물명 (인증 시 저장된 건물명)
+
+    // 메시지 순번 카운터 (메시지마다 1씩 증가, GroupChatMessage.seq로 부여)
+    @Builder.Default
+    @Column(name = "message_seq", nullable = false, columnDefinition = "bigint default 0")
+    private Long messageSeq = 0L;
+
+    @Column(name = "last_message_preview", length = ChatRoom.PREVIEW_LENGTH)
+    private String lastMessagePreview;
+
+    @Column(name = "last_message_at")
+    private LocalDateTime lastMessageAt;
+
+    @Builder.Default
+    @Column(name = "member_count", nullable = false, columnDefinition = "integer default 0")
+    private Integer memberCount = 0;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -11,7 +11,13 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications",
+       indexes = {
+           @Index(name = "idx_notifications_user_type_related", columnList = "user_id, type, related_id"),
+           @Index(name = "idx_notifications_created_at", columnList = "created_at"),
+           @Index(name = "idx_notifications_user_created_id", columnList = "user_id, created_at, id"),
+           @Index(name = "uk_notifications_dedupe_key", columnList = "dedupe_key", unique = true)
+       })
 @Data
 @Builder
 @NoArgsConstructor
@@ -51,6 +57,22 @@ public class Notification {
     @Column(name = "related_type")
     private String relatedType; // 관련 타입 (POST, COMMENT, MEMO 등)
     
+    @Column(name = "actor_count")
+    @Builder.Default
+    private Integer actorCount = 1; // 묶인 행위자 수 ("N명이 좋아요")
+    
+    @Column(name = "latest_actor_ids")
+    private String latestActorIds; // 최근 행위자 ID (쉼표 구분, 최신순)
+    
+    @Column(name = "latest_actor_names")
+    private String latestActorNames; // 최근 행위자 닉네임 (쉼표 구분, 최신순)
+    
+    @Column(name = "last_actor_at")
+    private LocalDateTime lastActorAt; // 마지막으로 행위자가 묶인 시간 (묶음 기간 기준)
+    
+    @Column(name = "dedupe_key")
+    private String dedupeKey; // 중복 방지 키 (createNotificationIfNotExists로 만든 알림만, 나머지는 null)
+    
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -8,7 +8,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "posts")
+@Table(name = "posts",
+       indexes = {
+           @Index(name = "idx_posts_board_created_id", columnList = "board_type, created_at, id"),
+           @Index(name = "idx_posts_building_board_created_id", columnList = "building_id, board_type, created_at, id")
+       })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -60,6 +64,11 @@ public class Post extends BaseEntity {
     @Column(name = "view_count")
     private int viewCount = 0;
 
+    // 고유 조회자 수 추정치 (HyperLogLog, UniqueViewerService가 주기적으로 갱신)
+    @Builder.Default
+    @Column(name = "unique_viewer_count", nullable = false, columnDefinition = "integer default 0")
+    private int uniqueViewerCount = 0;
+
     @Builder.Default
     @Column(name = "scrap_count")
     private int scrapCount = 0;
@@ -0,0 +1,37 @@
+package com.example.campus_house.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 읽지 않은 수 (앱 배지용)
+ * 채팅/알림 원본 테이블을 세지 않도록 메시지·알림 저장 시 증가, 읽음 처리 시 감소/초기화합니다.
+ */
+@Entity
+@Table(name = "unread_counters")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UnreadCounter {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "chat_unread", nullable = false)
+    @Builder.Default
+    private Long chatUnread = 0L; // 읽지 않은 채팅 메시지 수
+
+    @Column(name = "notification_unread", nullable = false)
+    @Builder.Default
+    private Long notificationUnread = 0L; // 읽지 않은 알림 수
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,57 @@
+package com.example.campus_house.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 고유 방문자 HyperLogLog 스케치
+ * 게시글은 전체 기간 하나, 건물은 주(월요일 시작)마다 하나씩 저장합니다. (형식: HyperLogLog.toBytes)
+ * 서버마다 모아 둔 스케치를 행 잠금 후 레지스터 최댓값으로 병합하고, 추정치(estimate)를 함께 저장해 순위 조회에 사용합니다.
+ */
+@Entity
+@Table(name = "viewer_sketches",
+       uniqueConstraints = @UniqueConstraint(name = "uk_viewer_sketches_target_period",
+               columnNames = {"target_type", "target_id", "period_start"}),
+       indexes = @Index(name = "idx_viewer_sketches_type_period_estimate", columnList = "target_type, period_start, estimate"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ViewerSketch {
+
+    // 전체 기간 스케치의 period_start
+    public static final LocalDate ALL_TIME = LocalDate.of(1970, 1, 1);
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", nullable = false, length = 20)
+    private TargetType targetType;
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    // 집계 기간 시작일 (전체 기간: ALL_TIME, 주간: 해당 주 월요일)
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(name = "registers", nullable = false, columnDefinition = "bytea")
+    private byte[] registers;
+
+    @Column(name = "estimate", nullable = false)
+    private Long estimate;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public enum TargetType {
+        POST,
+        BUILDING
+    }
+}
@@ -33,4 +33,11 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
     // 특정 게시글의 북마크 삭제
     @Query("DELETE FROM Bookmark b WHERE b.user.userId = :userId AND b.post.id = :postId")
     void deleteByUserIdAndPostId(@Param("userId") Long userId, @Param("postId") Long postId);
+    
+    // 토글 (한 문장으로 결정: 있으면 삭제 -1, 없으면 추가 +1, 동시에 다른 요청이 추가했으면 0)
+    @Query(value = "WITH removed AS (DELETE FROM bookmarks WHERE user_id = :userId AND post_id = :postId RETURNING id), " +
+           "added AS (INSERT INTO bookmarks (user_id, post_id, created_at) SELECT :userId, :postId, now() " +
+           "WHERE NOT EXISTS (SELECT 1 FROM removed) ON CONFLICT (user_id, post_id) DO NOTHING RETURNING id) " +
+           "SELECT CAST((SELECT COUNT(*) FROM added) - (SELECT COUNT(*) FROM removed) AS int)", nativeQuery = true)
+    int toggle(@Param("userId") Long userId, @Param("postId") Long postId);
 }
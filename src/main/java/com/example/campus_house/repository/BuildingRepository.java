@@ -3,12 +3,14 @@ package com.example.campus_house.repository;
 import com.example.campus_house.entity.Building;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 @Repository
 public interface BuildingRepository extends JpaRepository<Building, Long> {
@@ -94,4 +96,21 @@ public interface BuildingRepository extends JpaRepository<Building, Long> {
     
     // 좌표가 있는 건물 수 조회
     long countByLatitudeIsNotNullAndLongitudeIsNotNull();
+    
+    // 인메모리 카탈로그 인덱스용 컬럼 조회 (id, 건물명, 주소, 위도, 경도, 용도)
+    @Query("SELECT b.id, b.buildingName, b.address, b.latitude, b.longitude, b.buildingUsage FROM Building b ORDER BY b.id")
+    java.util.List<Object[]> findCatalogRows();
+    
+    // 카탈로그 스냅샷 최신 여부 판단용 (건물 수, 최대 ID, 최종 수정 시각)
+    @Query("SELECT COUNT(b), MAX(b.id), MAX(b.updatedAt) FROM Building b")
+    java.util.List<Object[]> findCatalogFingerprint();
+    
+    // 건물 목록 첫 페이지 (최신순, 커서 페이지네이션) - (created_at, id) 인덱스 사용
+    @Query("SELECT b FROM Building b ORDER BY b.createdAt DESC, b.id DESC")
+    Slice<Building> findFeed(Pageable pageable);
+    
+    // 건물 목록 커서 이후(더 오래된) 건물
+    @Query("SELECT b FROM Building b WHERE b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.id < :id) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    Slice<Building> findFeedBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
 }
@@ -4,6 +4,7 @@ import com.example.campus_house.entity.BuildingScrap;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -40,4 +41,32 @@ public interface BuildingScrapRepository extends JpaRepository<BuildingScrap, Lo
     // 스크랩 삭제
     @Query("DELETE FROM BuildingScrap bs WHERE bs.user.userId = :userId AND bs.building.id = :buildingId")
     void deleteByUserIdAndBuildingId(@Param("userId") Long userId, @Param("buildingId") Long buildingId);
+    
+    // 스크랩 추가 (이미 있거나 건물이 없으면 빈 결과, 건물명/주소는 같은 문장에서 복사)
+    @Query(value = "INSERT INTO building_scraps (user_id, building_id, building_name, building_address, created_at) " +
+           "SELECT :userId, b.id, b.building_name, b.address, now() FROM buildings b WHERE b.id = :buildingId " +
+           "ON CONFLICT (user_id, building_id) DO NOTHING RETURNING id", nativeQuery = true)
+    Optional<Long> insertIfAbsent(@Param("userId") Long userId, @Param("buildingId") Long buildingId);
+    
+    // 중복 스크랩 정리 (같은 사용자/건물의 스크랩 중 가장 먼저 만든 것만 남김)
+    @Modifying
+    @Query(value = "DELETE FROM building_scraps a USING building_scraps b " +
+           "WHERE a.user_id = b.user_id AND a.building_id = b.building_id AND a.id > b.id", nativeQuery = true)
+    int deleteDuplicateScraps();
+    
+    // (user_id, building_id) 유니크 제약 존재 여부
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = '" + BuildingScrap.UNIQUE_USER_BUILDING + "')",
+           nativeQuery = true)
+    boolean existsUniqueUserBuildingConstraint();
+    
+    // (user_id, building_id) 유니크 제약 추가 (중복 정리 후 호출)
+    @Modifying
+    @Query(value = "ALTER TABLE building_scraps ADD CONSTRAINT " + BuildingScrap.UNIQUE_USER_BUILDING +
+           " UNIQUE (user_id, building_id)", nativeQuery = true)
+    void addUniqueUserBuildingConstraint();
+    
+    // 스크랩 삭제 (삭제한 행 수 반환, 없으면 0)
+    @Modifying
+    @Query(value = "DELETE FROM building_scraps WHERE user_id = :userId AND building_id = :buildingId", nativeQuery = true)
+    int deleteIfPresent(@Param("userId") Long userId, @Param("buildingId") Long buildingId);
 }
@@ -0,0 +1,146 @@
+package com.example.campus_house.repository;
+
+import com.example.campus_house.entity.Building;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 건물 스테이징 테이블(buildings_staging) 접근
+ * 새 데이터는 스테이징 테이블에 적재/검증한 뒤, 하나의 짧은 트랜잭션으로 buildings에 반영합니다.
+ * buildings.id는 posts/building_reviews/building_scraps가 참조하므로 테이블 RENAME 대신
+ * (building_name, address) 기준 집합 연산으로 교체하여 ID와 외래키를 유지합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BuildingStagingRepository {
+
+    public static final String STAGING_TABLE = "buildings_staging";
+
+    private static final String DATA_COLUMNS =
+            "building_name, address, latitude, longitude, deposit, monthly_rent, jeonse, households, heating_type, " +
+            "elevators, building_usage, school_walking_time, station_walking_time, floors_ground, area, " +
+            "construction_year, road_name, sample_count, avg_price";
+
+    // 같은 (building_name, address)가 여러 번 들어온 경우 원본 순서상 첫 레코드만 사용
+    private static final String DEDUPED_STAGING =
+            "(SELECT DISTINCT ON (building_name, address) * FROM " + STAGING_TABLE +
+            " ORDER BY building_name, address, id)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 스테이징 테이블 재생성 (buildings와 동일한 컬럼, 제약조건/인덱스 없음)
+    public void recreateStagingTable() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + STAGING_TABLE);
+        jdbcTemplate.execute("CREATE TABLE " + STAGING_TABLE + " AS SELECT * FROM buildings WHERE 1 = 0");
+    }
+
+    // 스테이징 테이블에 청크 저장 (id는 원본 레코드 위치: 재개 시에도 동일)
+    public int[] insertStaging(List<Long> stagingIds, List<Building> buildings) {
+        String sql = "INSERT INTO " + STAGING_TABLE + " (id, " + DATA_COLUMNS +
+                ", nearby_convenience_stores, nearby_marts, nearby_hospitals, scrap_count, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = new ArrayList<>(buildings.size());
+        for (int i = 0; i < buildings.size(); i++) {
+            Building b = buildings.get(i);
+            args.add(new Object[] {
+                    stagingIds.get(i), b.getBuildingName(), b.getAddress(), b.getLatitude(), b.getLongitude(),
+                    b.getDeposit(), b.getMonthlyRent(), b.getJeonse(), b.getHouseholds(), b.getHeatingType(),
+                    b.getElevators(), b.getBuildingUsage(), b.getSchoolWalkingTime(), b.getStationWalkingTime(),
+                    b.getFloorsGround(), b.getArea(), b.getConstructionYear(), b.getRoadName(), b.getSampleCount(),
+                    b.getAvgPrice(), b.getNearbyConvenienceStores(), b.getNearbyMarts(), b.getNearbyHospitals(),
+                    b.getScrapCount(), now, now
+            });
+        }
+        int[] types = new int[] {
+                Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.DOUBLE, Types.DOUBLE,
+                Types.NUMERIC, Types.NUMERIC, Types.NUMERIC, Types.INTEGER, Types.VARCHAR,
+                Types.INTEGER, Types.VARCHAR, Types.INTEGER, Types.INTEGER,
+                Types.INTEGER, Types.DOUBLE, Types.INTEGER, Types.VARCHAR, Types.INTEGER,
+                Types.NUMERIC, Types.INTEGER, Types.INTEGER, Types.INTEGER,
+                Types.INTEGER, Types.TIMESTAMP, Types.TIMESTAMP
+        };
+        return jdbcTemplate.batchUpdate(sql, args, types);
+    }
+
+    // 적재 완료 후 교체(join)에 사용할 인덱스 생성
+    public void createStagingIndexes() {
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_buildings_staging_name_address ON " +
+                STAGING_TABLE + " (building_name, address)");
+        jdbcTemplate.execute("ANALYZE " + STAGING_TABLE);
+    }
+
+    // 스테이징 행 수
+    public long countStaging() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + STAGING_TABLE, Long.class);
+        return count != null ? count : 0;
+    }
+
+    // 좌표 범위를 벗어난 스테이징 행 수
+    public long countStagingOutOfBounds(double minLat, double maxLat, double minLng, double maxLng) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + STAGING_TABLE + " WHERE latitude IS NULL OR longitude IS NULL " +
+                "OR latitude < ? OR latitude > ? OR longitude < ? OR longitude > ?",
+                Long.class, minLat, maxLat, minLng, maxLng);
+        return count != null ? count : 0;
+    }
+
+    // 라이브 테이블 행 수 (샘플 데이터 제외)
+    public long countLiveExcluding(List<String> excludedNames) {
+        String placeholders = String.join(", ", excludedNames.stream().map(n -> "?").toList());
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM buildings WHERE building_name NOT IN (" + placeholders + ")",
+                Long.class, excludedNames.toArray());
+        return count != null ? count : 0;
+    }
+
+    /**
+     * 스테이징 → 라이브 교체 (호출자의 트랜잭션 하나에서 실행)
+     * 1) 기존 건물 갱신 2) 신규 건물 추가 3) 스테이징에 없고 참조되지 않는 건물 삭제 (샘플 제외)
+     *
+     * @return {갱신, 추가, 삭제} 건수
+     */
+    public int[] swapIntoLive(List<String> preservedNames) {
+        jdbcTemplate.execute("LOCK TABLE buildings IN SHARE ROW EXCLUSIVE MODE");
+
+        int updated = jdbcTemplate.update(
+                "UPDATE buildings b SET latitude = s.latitude, longitude = s.longitude, deposit = s.deposit, " +
+                "monthly_rent = s.monthly_rent, jeonse = s.jeonse, households = s.households, " +
+                "heating_type = s.heating_type, elevators = s.elevators, building_usage = s.building_usage, " +
+                "school_walking_time = s.school_walking_time, station_walking_time = s.station_walking_time, " +
+                "floors_ground = s.floors_ground, area = s.area, construction_year = s.construction_year, " +
+                "road_name = s.road_name, sample_count = s.sample_count, avg_price = s.avg_price, " +
+                "updated_at = s.updated_at " +
+                "FROM " + DEDUPED_STAGING + " s " +
+                "WHERE b.building_name = s.building_name AND b.address = s.address");
+
+        int inserted = jdbcTemplate.update(
+                "INSERT INTO buildings (" + DATA_COLUMNS +
+                ", nearby_convenience_stores, nearby_marts, nearby_hospitals, scrap_count, created_at, updated_at) " +
+                "SELECT " + DATA_COLUMNS +
+                ", nearby_convenience_stores, nearby_marts, nearby_hospitals, scrap_count, created_at, updated_at " +
+                "FROM " + DEDUPED_STAGING + " s " +
+                "WHERE NOT EXISTS (SELECT 1 FROM buildings b " +
+                "WHERE b.building_name = s.building_name AND b.address = s.address)");
+
+        String placeholders = String.join(", ", preservedNames.stream().map(n -> "?").toList());
+        int deleted = jdbcTemplate.update(
+                "DELETE FROM buildings b WHERE b.building_name NOT IN (" + placeholders + ") " +
+                "AND NOT EXISTS (SELECT 1 FROM " + STAGING_TABLE + " s " +
+                "WHERE s.building_name = b.building_name AND s.address = b.address) " +
+                "AND NOT EXISTS (SELECT 1 FROM posts p WHERE p.building_id = b.id) " +
+                "AND NOT EXISTS (SELECT 1 FROM building_reviews r WHERE r.building_id = b.id) " +
+                "AND NOT EXISTS (SELECT 1 FROM building_scraps bs WHERE bs.building_id = b.id)",
+                preservedNames.toArray());
+
+        return new int[] { updated, inserted, deleted };
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.campus_house.repository;
+
+import com.example.campus_house.entity.ChatArchiveBlock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ChatArchiveBlockRepository extends JpaRepository<ChatArchiveBlock, Long> {
+
+    // 채팅방 보관 블록 메타데이터 (ID, 메시지 수) - 최신 블록부터, 본문(payload) 제외
+    @Query("SELECT b.id, b.messageCount FROM ChatArchiveBlock b WHERE b.chatRoomId = :roomId ORDER BY b.lastSeq DESC")
+    List<Object[]> findBlockSizesByRoomId(@Param("roomId") Long roomId);
+}
@@ -0,0 +1,45 @@
+package com.example.campus_house.repository;
+
+import com.example.campus_house.util.ChatArchiveCodec;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 보관 대상 채팅 메시지 조회/삭제 (hot 테이블 chat_messages → chat_archive_blocks 이동용)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatArchiveRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 기준 시각 이전 메시지가 남아 있는 채팅방
+    public List<Long> findRoomIdsWithMessagesBefore(LocalDateTime horizon, int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT DISTINCT chat_room_id FROM chat_messages WHERE created_at < ? AND seq IS NOT NULL LIMIT ?",
+                Long.class, Timestamp.valueOf(horizon), limit);
+    }
+
+    // 채팅방의 기준 시각 이전 메시지 (순번 오름차순)
+    public List<ChatArchiveCodec.ArchivedMessage> findMessagesBefore(Long roomId, LocalDateTime horizon, int limit) {
+        return jdbcTemplate.query(
+                "SELECT id, seq, sender_id, created_at, type, content, image_url FROM chat_messages " +
+                "WHERE chat_room_id = ? AND created_at < ? AND seq IS NOT NULL ORDER BY seq LIMIT ?",
+                (rs, rowNum) -> new ChatArchiveCodec.ArchivedMessage(
+                        rs.getLong("id"), rs.getLong("seq"), rs.getLong("sender_id"),
+                        rs.getTimestamp("created_at").toLocalDateTime(), rs.getString("type"),
+                        rs.getString("content"), rs.getString("image_url")),
+                roomId, Timestamp.valueOf(horizon), limit);
+    }
+
+    // 보관 완료된 메시지 삭제
+    public int deleteByIds(List<Long> ids) {
+        String placeholders = String.join(", ", ids.stream().map(id -> "?").toList());
+        return jdbcTemplate.update("DELETE FROM chat_messages WHERE id IN (" + placeholders + ")", ids.toArray());
+    }
+}
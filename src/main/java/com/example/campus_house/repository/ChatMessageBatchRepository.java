@@ -0,0 +1,134 @@
+package com.example.campus_house.repository;
+
+import com.example.campus_house.entity.ChatMessage;
+import com.example.campus_house.entity.ChatRoom;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * 채팅 메시지 일괄 저장 (write-behind 모드)
+ * IDENTITY 컬럼은 JPA 배치 INSERT가 불가능하므로 ID를 시퀀스에서 미리 받아 두고,
+ * 메시지와 채팅방 요약은 컬럼별 배열 파라미터(unnest)로 각각 SQL 한 번에 저장합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 채팅방 요약 변경분 (한 번의 flush에서 채팅방별로 합산)
+     */
+    public record RoomDelta(Long roomId, Long lastMessageId, Long lastMessageSeq, String lastMessagePreview,
+                            java.time.LocalDateTime lastMessageAt, int user1Unread, int user2Unread) {
+    }
+
+    // chat_messages.id 시퀀스에서 ID 여러 개 할당
+    public List<Long> allocateIds(int count) {
+        return jdbcTemplate.queryForList(
+                "SELECT nextval(pg_get_serial_sequence('chat_messages', 'id')) FROM generate_series(1, ?)",
+                Long.class, count);
+    }
+
+    /**
+     * 채팅방 순번 count개 할당 (동기 전송과 같은 chat_rooms.message_seq 카운터)
+     * 채팅방 행 잠금이 커밋까지 유지되므로 다른 서버/경로의 순번은 이 트랜잭션이 끝난 뒤에 이어집니다.
+     *
+     * @return 할당한 마지막 순번 (채팅방이 삭제되었으면 null)
+     */
+    public Long allocateSeqs(Long roomId, int count) {
+        List<Long> last = jdbcTemplate.queryForList(
+                "UPDATE chat_rooms SET message_seq = message_seq + ? WHERE id = ? RETURNING message_seq",
+                Long.class, count, roomId);
+        return last.isEmpty() ? null : last.get(0);
+    }
+
+    // 메시지 다중 행 INSERT (배치 크기와 관계없이 문장 하나, 컬럼별 배열 파라미터)
+    public void insertAll(List<ChatMessage> messages) {
+        int size = messages.size();
+        Object[] ids = new Object[size];
+        Object[] roomIds = new Object[size];
+        Object[] senderIds = new Object[size];
+        Object[] seqs = new Object[size];
+        Object[] contents = new Object[size];
+        Object[] imageUrls = new Object[size];
+        Object[] types = new Object[size];
+        Object[] createdAts = new Object[size];
+        for (int i = 0; i < size; i++) {
+            ChatMessage message = messages.get(i);
+            ids[i] = message.getId();
+            roomIds[i] = message.getChatRoom().getId();
+            senderIds[i] = message.getSender().getUserId();
+            seqs[i] = message.getSeq();
+            contents[i] = message.getContent();
+            imageUrls[i] = message.getImageUrl();
+            types[i] = message.getType().name();
+            createdAts[i] = Timestamp.valueOf(message.getCreatedAt());
+        }
+        jdbcTemplate.update(
+                "INSERT INTO chat_messages (id, chat_room_id, sender_id, seq, content, image_url, type, created_at) " +
+                "SELECT * FROM unnest(?::bigint[], ?::bigint[], ?::bigint[], ?::bigint[], ?::text[], ?::text[], ?::text[], ?::timestamp[])",
+                ps -> {
+                    ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids));
+                    ps.setArray(2, ps.getConnection().createArrayOf("bigint", roomIds));
+                    ps.setArray(3, ps.getConnection().createArrayOf("bigint", senderIds));
+                    ps.setArray(4, ps.getConnection().createArrayOf("bigint", seqs));
+                    ps.setArray(5, ps.getConnection().createArrayOf("text", contents));
+                    ps.setArray(6, ps.getConnection().createArrayOf("text", imageUrls));
+                    ps.setArray(7, ps.getConnection().createArrayOf("text", types));
+                    ps.setArray(8, ps.getConnection().createArrayOf("timestamp", createdAts));
+                });
+    }
+
+    /**
+     * 채팅방별 요약/읽지 않은 수 반영 (UPDATE ... FROM unnest 한 번, 순번 카운터는 allocateSeqs에서 이미 증가)
+     * 마지막 메시지 요약은 채팅방 순번이 저장된 것보다 클 때만 바꿉니다.
+     * 미리 받아 둔 write-behind ID는 동기 경로의 ID보다 작을 수 있어 ID로는 순서를 비교할 수 없습니다.
+     */
+    public void applyRoomDeltas(List<RoomDelta> deltas) {
+        int size = deltas.size();
+        Object[] roomIds = new Object[size];
+        Object[] lastIds = new Object[size];
+        Object[] lastSeqs = new Object[size];
+        Object[] previews = new Object[size];
+        Object[] lastAts = new Object[size];
+        Object[] user1Unreads = new Object[size];
+        Object[] user2Unreads = new Object[size];
+        for (int i = 0; i < size; i++) {
+            RoomDelta delta = deltas.get(i);
+            roomIds[i] = delta.roomId();
+            lastIds[i] = delta.lastMessageId();
+            lastSeqs[i] = delta.lastMessageSeq();
+            previews[i] = ChatRoom.toPreview(delta.lastMessagePreview());
+            lastAts[i] = Timestamp.valueOf(delta.lastMessageAt());
+            user1Unreads[i] = delta.user1Unread();
+            user2Unreads[i] = delta.user2Unread();
+        }
+        String newer = "cr.last_message_seq IS NULL OR cr.last_message_seq < d.last_seq";
+        jdbcTemplate.update(
+                "UPDATE chat_rooms cr SET " +
+                "last_message_id = CASE WHEN " + newer + " THEN d.last_id ELSE cr.last_message_id END, " +
+                "last_message_seq = CASE WHEN " + newer + " THEN d.last_seq ELSE cr.last_message_seq END, " +
+                "last_message_preview = CASE WHEN " + newer + " THEN d.preview ELSE cr.last_message_preview END, " +
+                "last_message_at = CASE WHEN " + newer + " THEN d.last_at ELSE cr.last_message_at END, " +
+                "last_activity_at = CASE WHEN " + newer + " THEN d.last_at ELSE cr.last_activity_at END, " +
+                "user1_unread_count = cr.user1_unread_count + d.user1_unread, " +
+                "user2_unread_count = cr.user2_unread_count + d.user2_unread " +
+                "FROM unnest(?::bigint[], ?::bigint[], ?::bigint[], ?::text[], ?::timestamp[], ?::int[], ?::int[]) " +
+                "AS d(room_id, last_id, last_seq, preview, last_at, user1_unread, user2_unread) " +
+                "WHERE cr.id = d.room_id",
+                ps -> {
+                    ps.setArray(1, ps.getConnection().createArrayOf("bigint", roomIds));
+                    ps.setArray(2, ps.getConnection().createArrayOf("bigint", lastIds));
+                    ps.setArray(3, ps.getConnection().createArrayOf("bigint", lastSeqs));
+                    ps.setArray(4, ps.getConnection().createArrayOf("text", previews));
+                    ps.setArray(5, ps.getConnection().createArrayOf("timestamp", lastAts));
+                    ps.setArray(6, ps.getConnection().createArrayOf("int4", user1Unreads));
+                    ps.setArray(7, ps.getConnection().createArrayOf("int4", user2Unreads));
+                });
+    }
+}
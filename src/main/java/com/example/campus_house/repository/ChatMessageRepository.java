@@ -5,6 +5,7 @@ import com.example.campus_house.entity.ChatRoom;
 import com.example.campus_house.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -19,6 +20,48 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
     // 특정 채팅방의 메시지 목록 조회 (최신순, 페이징)
     Page<ChatMessage> findByChatRoomOrderByCreatedAtDesc(ChatRoom chatRoom, Pageable pageable);
     
+    // 특정 채팅방의 메시지 목록 조회 (최신순, COUNT 쿼리 없는 Slice)
+    @Query("SELECT cm FROM ChatMessage cm JOIN FETCH cm.sender WHERE cm.chatRoom = :chatRoom " +
+           "ORDER BY cm.createdAt DESC, cm.id DESC")
+    Slice<ChatMessage> findLatestByChatRoom(@Param("chatRoom") ChatRoom chatRoom, Pageable pageable);
+    
+    // 커서 이전(더 오래된) 메시지 (최신순) - (chat_room_id, created_at, id) 인덱스 사용
+    @Query("SELECT cm FROM ChatMessage cm JOIN FETCH cm.sender WHERE cm.chatRoom = :chatRoom " +
+           "AND (cm.createdAt < :createdAt OR (cm.createdAt = :createdAt AND cm.id < :id)) " +
+           "ORDER BY cm.createdAt DESC, cm.id DESC")
+    Slice<ChatMessage> findBeforeCursor(@Param("chatRoom") ChatRoom chatRoom,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+    
+    // 커서 이전 메시지 (커서 메시지 포함, 최신순) - around 조회용
+    @Query("SELECT cm FROM ChatMessage cm JOIN FETCH cm.sender WHERE cm.chatRoom = :chatRoom " +
+           "AND (cm.createdAt < :createdAt OR (cm.createdAt = :createdAt AND cm.id <= :id)) " +
+           "ORDER BY cm.createdAt DESC, cm.id DESC")
+    Slice<ChatMessage> findAtOrBeforeCursor(@Param("chatRoom") ChatRoom chatRoom,
+                                            @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") Long id,
+                                            Pageable pageable);
+    
+    // 커서 이후(더 최근) 메시지 (시간순)
+    @Query("SELECT cm FROM ChatMessage cm JOIN FETCH cm.sender WHERE cm.chatRoom = :chatRoom " +
+           "AND (cm.createdAt > :createdAt OR (cm.createdAt = :createdAt AND cm.id > :id)) " +
+           "ORDER BY cm.createdAt ASC, cm.id ASC")
+    Slice<ChatMessage> findAfterCursor(@Param("chatRoom") ChatRoom chatRoom,
+                                       @Param("createdAt") LocalDateTime createdAt,
+                                       @Param("id") Long id,
+                                       Pageable pageable);
+    
+    // ID 목록으로 메시지 조회 (발신자 포함, 채팅방/순번순) - 동기화 응답용
+    @Query("SELECT cm FROM ChatMessage cm JOIN FETCH cm.sender WHERE cm.id IN :ids ORDER BY cm.chatRoom.id, cm.seq")
+    List<ChatMessage> findAllWithSenderByIdIn(@Param("ids") java.util.Collection<Long> ids);
+    
+    // 채팅방 hot 테이블 메시지 수 (보관 블록 조회 위치 계산용)
+    long countByChatRoom(ChatRoom chatRoom);
+    
+    // 순번이 비어 있는 메시지 존재 여부
+    boolean existsBySeqIsNull();
+    
     // 특정 채팅방의 메시지 목록 조회 (시간순)
     List<ChatMessage> findByChatRoomOrderByCreatedAtAsc(ChatRoom chatRoom);
     
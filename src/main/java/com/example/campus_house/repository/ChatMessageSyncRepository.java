@@ -0,0 +1,54 @@
+package com.example.campus_house.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 재연결 동기화용 메시지 조회
+ * 여러 채팅방의 (roomId, afterSeq) 요청을 LATERAL 조인 한 번으로 처리하며,
+ * 채팅방마다 (chat_room_id, seq) 인덱스를 따라 최대 limit개까지만 읽습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageSyncRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 채팅방별 afterSeq 이후 메시지 ID 목록 (채팅방/순번순)
+     *
+     * @param afterSeqByRoom 채팅방 ID → 마지막으로 받은 순번
+     * @param limitPerRoom   채팅방별 최대 메시지 수
+     */
+    public List<Long> findMessageIdsAfterSeq(Map<Long, Long> afterSeqByRoom, int limitPerRoom) {
+        if (afterSeqByRoom.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        StringBuilder values = new StringBuilder();
+        List<Object> args = new ArrayList<>(afterSeqByRoom.size() * 2 + 1);
+        for (Map.Entry<Long, Long> entry : afterSeqByRoom.entrySet()) {
+            if (values.length() > 0) {
+                values.append(", ");
+            }
+            values.append("(CAST(? AS BIGINT), CAST(? AS BIGINT))");
+            args.add(entry.getKey());
+            args.add(entry.getValue() != null ? entry.getValue() : 0L);
+        }
+        args.add(limitPerRoom);
+
+        String sql = "SELECT m.id FROM (VALUES " + values + ") AS req(room_id, after_seq) " +
+                "CROSS JOIN LATERAL (SELECT cm.id, cm.seq FROM chat_messages cm " +
+                "WHERE cm.chat_room_id = req.room_id AND cm.seq > req.after_seq " +
+                "ORDER BY cm.seq LIMIT ?) m " +
+                "ORDER BY req.room_id, m.seq";
+
+        return jdbcTemplate.queryForList(sql, Long.class, args.toArray());
+    }
+}
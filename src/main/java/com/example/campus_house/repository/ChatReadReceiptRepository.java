@@ -0,0 +1,86 @@
+package com.example.campus_house.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 채팅방 읽음 시간 일괄 반영 (ReadReceiptService의 flush 전용)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatReadReceiptRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 채팅방 참여자와 읽지 않은 수
+     */
+    public record RoomState(Long roomId, Long user1Id, Long user2Id, int user1Unread, int user2Unread) {
+    }
+
+    /**
+     * 채팅방별 반영할 읽음 시간 (해당 사용자가 읽지 않았으면 null)
+     */
+    public record RoomRead(Long roomId, LocalDateTime user1ReadAt, LocalDateTime user2ReadAt) {
+    }
+
+    // 채팅방 행 잠금 후 현재 상태 조회 (교착 방지를 위해 ID 순서로 잠금)
+    public Map<Long, RoomState> lockRooms(Collection<Long> roomIds) {
+        String placeholders = String.join(", ", roomIds.stream().map(id -> "?").toList());
+        Map<Long, RoomState> states = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT id, user1_id, user2_id, user1_unread_count, user2_unread_count FROM chat_rooms " +
+                "WHERE id IN (" + placeholders + ") ORDER BY id FOR UPDATE",
+                rs -> {
+                    RoomState state = new RoomState(rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getInt(4), rs.getInt(5));
+                    states.put(state.roomId(), state);
+                },
+                roomIds.toArray());
+        return states;
+    }
+
+    /**
+     * 읽음 시간을 한 번의 UPDATE로 반영
+     * 읽음 시간은 뒤로 가지 않고(GREATEST), 읽지 않은 수는 새 읽음 시간 이후 상대방 메시지 수로 다시 계산합니다.
+     *
+     * @return 채팅방별 갱신 후 상태
+     */
+    public Map<Long, RoomState> applyReads(List<RoomRead> reads) {
+        String values = String.join(", ", reads.stream().map(r -> "(?::bigint, ?::timestamp, ?::timestamp)").toList());
+        String sql = "UPDATE chat_rooms cr SET " +
+                "user1_last_read_at = GREATEST(cr.user1_last_read_at, r.user1_read_at), " +
+                "user2_last_read_at = GREATEST(cr.user2_last_read_at, r.user2_read_at), " +
+                "user1_unread_count = CASE WHEN r.user1_read_at IS NULL THEN cr.user1_unread_count ELSE " +
+                "(SELECT COUNT(*) FROM chat_messages m WHERE m.chat_room_id = cr.id AND m.sender_id <> cr.user1_id " +
+                "AND m.created_at > GREATEST(cr.user1_last_read_at, r.user1_read_at)) END, " +
+                "user2_unread_count = CASE WHEN r.user2_read_at IS NULL THEN cr.user2_unread_count ELSE " +
+                "(SELECT COUNT(*) FROM chat_messages m WHERE m.chat_room_id = cr.id AND m.sender_id <> cr.user2_id " +
+                "AND m.created_at > GREATEST(cr.user2_last_read_at, r.user2_read_at)) END " +
+                "FROM (VALUES " + values + ") AS r(room_id, user1_read_at, user2_read_at) " +
+                "WHERE cr.id = r.room_id " +
+                "RETURNING cr.id, cr.user1_id, cr.user2_id, cr.user1_unread_count, cr.user2_unread_count";
+
+        List<Object> args = new ArrayList<>(reads.size() * 3);
+        for (RoomRead read : reads) {
+            args.add(read.roomId());
+            args.add(read.user1ReadAt() != null ? Timestamp.valueOf(read.user1ReadAt()) : null);
+            args.add(read.user2ReadAt() != null ? Timestamp.valueOf(read.user2ReadAt()) : null);
+        }
+
+        Map<Long, RoomState> updated = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            RoomState state = new RoomState(rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getInt(4), rs.getInt(5));
+            updated.put(state.roomId(), state);
+        }, args.toArray());
+        return updated;
+    }
+}
@@ -3,10 +3,12 @@ package com.example.campus_house.repository;
 import com.example.campus_house.entity.ChatRoom;
 import com.example.campus_house.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +19,95 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
     @Query("SELECT cr FROM ChatRoom cr WHERE cr.user1 = :user OR cr.user2 = :user ORDER BY cr.createdAt DESC")
     List<ChatRoom> findByUserOrderByCreatedAtDesc(@Param("user") User user);
     
+    // 사용자가 참여한 채팅방 목록 (상대방 정보 포함, 마지막 활동순) - 요약 컬럼 사용으로 단일 쿼리
+    @Query("SELECT cr FROM ChatRoom cr JOIN FETCH cr.user1 JOIN FETCH cr.user2 " +
+           "WHERE cr.user1 = :user OR cr.user2 = :user " +
+           "ORDER BY cr.lastActivityAt DESC, cr.id DESC")
+    List<ChatRoom> findByUserOrderByLastActivityAtDesc(@Param("user") User user);
+    
+    // 사용자의 전체 읽지 않은 메시지 수 (채팅방별 카운터 합계)
+    @Query("SELECT COALESCE(SUM(CASE WHEN cr.user1 = :user THEN cr.user1UnreadCount ELSE cr.user2UnreadCount END), 0) " +
+           "FROM ChatRoom cr WHERE cr.user1 = :user OR cr.user2 = :user")
+    Long sumUnreadCountByUser(@Param("user") User user);
+    
+    // 새 메시지 반영: 마지막 메시지 요약 갱신 + 수신자(user1) 읽지 않은 수 증가 (요약은 채팅방 순번이 더 클 때만)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ChatRoom cr SET " +
+           "cr.lastMessageId = CASE WHEN cr.lastMessageSeq IS NULL OR cr.lastMessageSeq < :seq THEN :messageId ELSE cr.lastMessageId END, " +
+           "cr.lastMessagePreview = CASE WHEN cr.lastMessageSeq IS NULL OR cr.lastMessageSeq < :seq THEN :preview ELSE cr.lastMessagePreview END, " +
+           "cr.lastMessageAt = CASE WHEN cr.lastMessageSeq IS NULL OR cr.lastMessageSeq < :seq THEN :sentAt ELSE cr.lastMessageAt END, " +
+           "cr.lastActivityAt = CASE WHEN cr.lastMessageSeq IS NULL OR cr.lastMessageSeq < :seq THEN :sentAt ELSE cr.lastActivityAt END, " +
+           "cr.lastMessageSeq = CASE WHEN cr.lastMessageSeq IS NULL OR cr.lastMessageSeq < :seq THEN :seq ELSE cr.lastMessageSeq END, " +
+           "cr.user1UnreadCount = cr.user1UnreadCount + 1 " +
+           "WHERE cr.id = :roomId")
+    int recordMessageToUser1(@Param("roomId") Long roomId, @Param("messageId") Long messageId, @Param("seq") Long seq,
+                             @Param("preview") String preview, @Param("sentAt") LocalDateTime sentAt);
+    
+    // 새 메시지 반영: 마지막 메시지 요약 갱신 + 수신자(user2) 읽지 않은 수 증가 (요약은 채팅방 순번이 더 클 때만)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ChatRoom cr SET " +
+           "cr.lastMessageId = CASE WHEN cr.lastMessageSeq IS NULL OR cr.lastMessageSeq < :seq THEN :messageId ELSE cr.lastMessageId END, " +
+           "cr.lastMessagePreview = CASE WHEN cr.lastMessageSeq IS NULL OR cr.lastMessageSeq < :seq THEN :preview ELSE cr.lastMessagePreview END, " +
+           "cr.lastMessageAt = CASE WHEN cr.lastMessageSeq IS NULL OR cr.lastMessageSeq < :seq THEN :sentAt ELSE cr.lastMessageAt END, " +
+           "cr.lastActivityAt = CASE WHEN cr.lastMessageSeq IS NULL OR cr.lastMessageSeq < :seq THEN :sentAt ELSE cr.lastActivityAt END, " +
+           "cr.lastMessageSeq = CASE WHEN cr.lastMessageSeq IS NULL OR cr.lastMessageSeq < :seq THEN :seq ELSE cr.lastMessageSeq END, " +
+           "cr.user2UnreadCount = cr.user2UnreadCount + 1 " +
+           "WHERE cr.id = :roomId")
+    int recordMessageToUser2(@Param("roomId") Long roomId, @Param("messageId") Long messageId, @Param("seq") Long seq,
+                             @Param("preview") String preview, @Param("sentAt") LocalDateTime sentAt);
+    
+    // 읽음 처리 (user1): 마지막 읽음 시간 갱신 + 읽지 않은 수 초기화
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ChatRoom cr SET cr.user1LastReadAt = :readAt, cr.user1UnreadCount = 0 WHERE cr.id = :roomId")
+    int markReadByUser1(@Param("roomId") Long roomId, @Param("readAt") LocalDateTime readAt);
+    
+    // 읽음 처리 (user2): 마지막 읽음 시간 갱신 + 읽지 않은 수 초기화
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ChatRoom cr SET cr.user2LastReadAt = :readAt, cr.user2UnreadCount = 0 WHERE cr.id = :roomId")
+    int markReadByUser2(@Param("roomId") Long roomId, @Param("readAt") LocalDateTime readAt);
+    
+    // 메시지 순번 증가 (채팅방 행 잠금으로 같은 방의 순번 부여를 직렬화)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ChatRoom cr SET cr.messageSeq = cr.messageSeq + 1 WHERE cr.id = :roomId")
+    int incrementMessageSeq(@Param("roomId") Long roomId);
+    
+    // 현재 메시지 순번 조회
+    @Query("SELECT cr.messageSeq FROM ChatRoom cr WHERE cr.id = :roomId")
+    Long findMessageSeq(@Param("roomId") Long roomId);
+    
+    // 사용자가 참여한 채팅방 ID만 필터링 (동기화 권한 확인용)
+    @Query("SELECT cr.id FROM ChatRoom cr WHERE cr.id IN :roomIds AND (cr.user1 = :user OR cr.user2 = :user)")
+    List<Long> findParticipatingRoomIds(@Param("roomIds") java.util.Collection<Long> roomIds, @Param("user") User user);
+    
+    // 순번 도입 이전 메시지에 채팅방별 순번 부여 (seq가 비어 있는 메시지만, 기존 순번 뒤에 이어서)
+    @Modifying
+    @Query(value = "UPDATE chat_messages m SET seq = cr.message_seq + x.rn " +
+           "FROM (SELECT id, chat_room_id, ROW_NUMBER() OVER (PARTITION BY chat_room_id ORDER BY created_at, id) AS rn " +
+           "FROM chat_messages WHERE seq IS NULL) x, chat_rooms cr " +
+           "WHERE m.id = x.id AND cr.id = x.chat_room_id", nativeQuery = true)
+    int backfillMessageSeq();
+    
+    // 채팅방 순번 카운터를 메시지 최대 순번에 맞춤
+    @Modifying
+    @Query(value = "UPDATE chat_rooms cr SET message_seq = s.max_seq " +
+           "FROM (SELECT chat_room_id, MAX(seq) AS max_seq FROM chat_messages GROUP BY chat_room_id) s " +
+           "WHERE s.chat_room_id = cr.id AND cr.message_seq < s.max_seq", nativeQuery = true)
+    int syncMessageSeqCounters();
+    
+    // 요약 컬럼 추가 이전에 생성된 채팅방 요약 채우기 (last_activity_at이 비어 있는 채팅방만)
+    @Modifying
+    @Query(value = "UPDATE chat_rooms cr SET " +
+           "last_message_id = (SELECT m.id FROM chat_messages m WHERE m.chat_room_id = cr.id ORDER BY m.created_at DESC, m.id DESC LIMIT 1), " +
+           "last_message_preview = (SELECT LEFT(m.content, " + ChatRoom.PREVIEW_LENGTH + ") FROM chat_messages m WHERE m.chat_room_id = cr.id ORDER BY m.created_at DESC, m.id DESC LIMIT 1), " +
+           "last_message_at = (SELECT MAX(m.created_at) FROM chat_messages m WHERE m.chat_room_id = cr.id), " +
+           "last_activity_at = COALESCE((SELECT MAX(m.created_at) FROM chat_messages m WHERE m.chat_room_id = cr.id), cr.created_at, now()), " +
+           "user1_unread_count = (SELECT COUNT(*) FROM chat_messages m WHERE m.chat_room_id = cr.id AND m.sender_id <> cr.user1_id " +
+           "AND (cr.user1_last_read_at IS NULL OR m.created_at > cr.user1_last_read_at)), " +
+           "user2_unread_count = (SELECT COUNT(*) FROM chat_messages m WHERE m.chat_room_id = cr.id AND m.sender_id <> cr.user2_id " +
+           "AND (cr.user2_last_read_at IS NULL OR m.created_at > cr.user2_last_read_at)) " +
+           "WHERE cr.last_activity_at IS NULL", nativeQuery = true)
+    int backfillRoomSummaries();
+    
     // 두 사용자 간의 채팅방 조회
     @Query("SELECT cr FROM ChatRoom cr WHERE " +
            "(cr.user1 = :user1 AND cr.user2 = :user2) OR " +
@@ -29,6 +120,16 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
            "(cr.user1.nickname = :user2Name AND cr.user2.nickname = :user1Name)")
     Optional<ChatRoom> findByUserNames(@Param("user1Name") String user1Name, @Param("user2Name") String user2Name);
     
+    // 채팅방 참여자 여부 확인 (WebSocket 구독 권한 확인용)
+    @Query("SELECT COUNT(cr) > 0 FROM ChatRoom cr WHERE cr.id = :roomId AND (cr.user1.userId = :userId OR cr.user2.userId = :userId)")
+    boolean isParticipant(@Param("roomId") Long roomId, @Param("userId") Long userId);
+    
+    // 두 사용자가 함께 쓰는 1:1 채팅방 존재 여부 (접속 상태 구독 권한 확인용)
+    @Query("SELECT COUNT(cr) > 0 FROM ChatRoom cr WHERE " +
+           "(cr.user1.userId = :userId AND cr.user2.userId = :otherUserId) OR " +
+           "(cr.user1.userId = :otherUserId AND cr.user2.userId = :userId)")
+    boolean existsBetween(@Param("userId") Long userId, @Param("otherUserId") Long otherUserId);
+    
     // 특정 사용자가 참여한 채팅방 존재 여부 확인
     boolean existsByUser1OrUser2(User user1, User user2);
     
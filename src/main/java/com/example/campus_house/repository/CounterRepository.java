@@ -0,0 +1,82 @@
+package com.example.campus_house.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 집계 컬럼 증감/재계산 (CounterService 전용)
+ * 엔티티를 읽어 고쳐 쓰지 않고 UPDATE 한 번으로 증감하므로 동시에 눌러도 유실되지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CounterRepository {
+
+    /**
+     * 증감 대상 집계 컬럼과 실제 개수를 세는 원본 테이블
+     */
+    public enum Counter {
+        POST_LIKE("posts", "like_count", "likes", "post_id"),
+        POST_COMMENT("posts", "comment_count", "comments", "post_id"),
+        POST_BOOKMARK("posts", "bookmark_count", "bookmarks", "post_id"),
+        POST_SCRAP("posts", "scrap_count", "bookmarks", "post_id"),
+        BUILDING_SCRAP("buildings", "scrap_count", "building_scraps", "building_id");
+
+        private final String table;
+        private final String column;
+        private final String sourceTable;
+        private final String sourceColumn;
+
+        Counter(String table, String column, String sourceTable, String sourceColumn) {
+            this.table = table;
+            this.column = column;
+            this.sourceTable = sourceTable;
+            this.sourceColumn = sourceColumn;
+        }
+
+        public String getTable() {
+            return table;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 증감 (0 아래로 내려가지 않음, 대상이 없으면 0 반환)
+    public int add(Counter counter, Long id, long delta) {
+        return jdbcTemplate.update(addSql(counter), delta, id);
+    }
+
+    // 대상별 증감분을 JDBC 배치 한 번으로 반영
+    public void addAll(Counter counter, Map<Long, Long> deltas) {
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((id, delta) -> args.add(new Object[]{delta, id}));
+        jdbcTemplate.batchUpdate(addSql(counter), args);
+    }
+
+    public Long findMaxId(String table) {
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+    }
+
+    /**
+     * [fromId, toId) 구간의 집계 컬럼을 원본 테이블 개수로 재계산
+     *
+     * @return 값이 달라 고친 행 수
+     */
+    public int reconcile(Counter counter, long fromId, long toId) {
+        String sql = "UPDATE " + counter.table + " t SET " + counter.column + " = c.cnt " +
+                "FROM (SELECT r.id, COUNT(s." + counter.sourceColumn + ") AS cnt FROM " + counter.table + " r " +
+                "LEFT JOIN " + counter.sourceTable + " s ON s." + counter.sourceColumn + " = r.id " +
+                "WHERE r.id >= ? AND r.id < ? GROUP BY r.id) c " +
+                "WHERE t.id = c.id AND t." + counter.column + " IS DISTINCT FROM c.cnt";
+        return jdbcTemplate.update(sql, fromId, toId);
+    }
+
+    private String addSql(Counter counter) {
+        return "UPDATE " + counter.table + " SET " + counter.column + " = GREATEST(0, COALESCE(" + counter.column + ", 0) + ?) " +
+                "WHERE id = ?";
+    }
+}
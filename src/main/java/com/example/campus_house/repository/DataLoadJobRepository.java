@@ -0,0 +1,20 @@
+package com.example.campus_house.repository;
+
+import com.example.campus_house.entity.DataLoadJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface DataLoadJobRepository extends JpaRepository<DataLoadJob, Long> {
+
+    // 최근 작업 목록 조회
+    List<DataLoadJob> findTop20ByOrderByCreatedAtDesc();
+
+    // 특정 상태의 작업 조회 (재시작 시 중단된 작업 정리용)
+    List<DataLoadJob> findByStatus(DataLoadJob.JobStatus status);
+
+    // 특정 타입의 진행 중인 작업 존재 여부 확인
+    boolean existsByJobTypeAndStatusIn(DataLoadJob.JobType jobType, List<DataLoadJob.JobStatus> statuses);
+}
@@ -135,4 +135,16 @@ public interface FacilityRepository extends JpaRepository<Facility, Long> {
                                         @Param("longitude") Double longitude, 
                                         @Param("radiusKm") Double radiusKm,
                                         @Param("category") String category);
+    
+    /**
+     * 인메모리 카탈로그 인덱스용 컬럼 조회 (id, 카테고리, 위도, 경도, 영업상태)
+     */
+    @Query("SELECT f.id, f.category, f.latitude, f.longitude, f.businessStatus FROM Facility f ORDER BY f.id")
+    List<Object[]> findCatalogRows();
+    
+    /**
+     * 카탈로그 스냅샷 최신 여부 판단용 (생활시설 수, 최대 ID, 최종 수정 시각)
+     */
+    @Query("SELECT COUNT(f), MAX(f.id), MAX(f.updatedAt) FROM Facility f")
+    List<Object[]> findCatalogFingerprint();
 }
@@ -0,0 +1,56 @@
+package com.example.campus_house.repository;
+
+import com.example.campus_house.entity.GroupChatMember;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface GroupChatMemberRepository extends JpaRepository<GroupChatMember, Long> {
+
+    // 멤버십 조회 (채팅방 함께 조회)
+    @Query("SELECT m FROM GroupChatMember m JOIN FETCH m.room WHERE m.room.id = :roomId AND m.user.userId = :userId")
+    Optional<GroupChatMember> findByRoomIdAndUserId(@Param("roomId") Long roomId, @Param("userId") Long userId);
+
+    // 사용자의 그룹 채팅방 멤버십 목록 (채팅방 함께 조회, 최근 메시지 순)
+    @Query("SELECT m FROM GroupChatMember m JOIN FETCH m.room r WHERE m.user.userId = :userId " +
+           "ORDER BY r.lastMessageAt DESC NULLS LAST, r.id DESC")
+    List<GroupChatMember> findByUserIdWithRoom(@Param("userId") Long userId);
+
+    // 멤버 여부 확인 (WebSocket 구독 권한 확인용)
+    @Query("SELECT COUNT(m) > 0 FROM GroupChatMember m WHERE m.room.id = :roomId AND m.user.userId = :userId")
+    boolean isMember(@Param("roomId") Long roomId, @Param("userId") Long userId);
+
+    // 두 사용자가 함께 속한 그룹 채팅방 존재 여부 (접속 상태 구독 권한 확인용)
+    @Query("SELECT COUNT(m) > 0 FROM GroupChatMember m, GroupChatMember o " +
+           "WHERE m.room.id = o.room.id AND m.user.userId = :userId AND o.user.userId = :otherUserId")
+    boolean sharesRoom(@Param("userId") Long userId, @Param("otherUserId") Long otherUserId);
+
+    // 멤버 추가 (현재 순번부터 읽음 커서 시작, 이미 멤버면 무시)
+    @Modifying
+    @Query(value = "INSERT INTO group_chat_members (room_id, user_id, last_read_seq, joined_at) " +
+           "SELECT r.id, :userId, r.message_seq, now() FROM group_chat_rooms r WHERE r.id = :roomId " +
+           "ON CONFLICT (room_id, user_id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("roomId") Long roomId, @Param("userId") Long userId);
+
+    // 읽음 커서 전진 (뒤로 가지 않음)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE GroupChatMember m SET m.lastReadSeq = :seq " +
+           "WHERE m.room.id = :roomId AND m.user.userId = :userId AND m.lastReadSeq < :seq")
+    int advanceReadSeq(@Param("roomId") Long roomId, @Param("userId") Long userId, @Param("seq") Long seq);
+
+    // 사용자의 그룹 채팅방 전체 읽지 않은 수 (채팅방 순번 - 읽음 커서)
+    @Query("SELECT COALESCE(SUM(r.messageSeq - m.lastReadSeq), 0) FROM GroupChatMember m JOIN m.room r " +
+           "WHERE m.user.userId = :userId")
+    Long sumUnreadByUserId(@Param("userId") Long userId);
+
+    // 멤버 탈퇴
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM GroupChatMember m WHERE m.room.id = :roomId AND m.user.userId = :userId")
+    int deleteByRoomIdAndUserId(@Param("roomId") Long roomId, @Param("userId") Long userId);
+}
@@ -0,0 +1,29 @@
+package com.example.campus_house.repository;
+
+import com.example.campus_house.entity.GroupChatMessage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface GroupChatMessageRepository extends JpaRepository<GroupChatMessage, Long> {
+
+    // 최신 메시지 (순번 내림차순)
+    @Query("SELECT m FROM GroupChatMessage m JOIN FETCH m.sender WHERE m.room.id = :roomId ORDER BY m.seq DESC")
+    Slice<GroupChatMessage> findLatest(@Param("roomId") Long roomId, Pageable pageable);
+
+    // 특정 순번 이전 메시지 (순번 내림차순)
+    @Query("SELECT m FROM GroupChatMessage m JOIN FETCH m.sender " +
+           "WHERE m.room.id = :roomId AND m.seq < :beforeSeq ORDER BY m.seq DESC")
+    Slice<GroupChatMessage> findBeforeSeq(@Param("roomId") Long roomId, @Param("beforeSeq") Long beforeSeq,
+                                          Pageable pageable);
+
+    // 특정 순번 이후 메시지 (순번 오름차순, 재연결 동기화)
+    @Query("SELECT m FROM GroupChatMessage m JOIN FETCH m.sender " +
+           "WHERE m.room.id = :roomId AND m.seq > :afterSeq ORDER BY m.seq ASC")
+    Slice<GroupChatMessage> findAfterSeq(@Param("roomId") Long roomId, @Param("afterSeq") Long afterSeq,
+                                         Pageable pageable);
+}
@@ -0,0 +1,40 @@
+package com.example.campus_house.repository;
+
+import com.example.campus_house.entity.GroupChatRoom;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface GroupChatRoomRepository extends JpaRepository<GroupChatRoom, Long> {
+
+    // 건물별 그룹 채팅방 조회
+    Optional<GroupChatRoom> findByBuildingId(Long buildingId);
+
+    // 건물 그룹 채팅방 생성 (동시에 생성 요청이 와도 하나만 생성)
+    @Modifying
+    @Query(value = "INSERT INTO group_chat_rooms (building_id, name, message_seq, member_count, created_at) " +
+           "VALUES (:buildingId, :name, 0, 0, now()) ON CONFLICT (building_id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("buildingId") Long buildingId, @Param("name") String name);
+
+    // 새 메시지 반영: 순번 증가 + 마지막 메시지 요약 갱신 (멤버 수와 무관한 단일 UPDATE)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE GroupChatRoom r SET r.messageSeq = r.messageSeq + 1, " +
+           "r.lastMessagePreview = :preview, r.lastMessageAt = :sentAt WHERE r.id = :roomId")
+    int recordMessage(@Param("roomId") Long roomId, @Param("preview") String preview,
+                      @Param("sentAt") LocalDateTime sentAt);
+
+    // 현재 메시지 순번 조회
+    @Query("SELECT r.messageSeq FROM GroupChatRoom r WHERE r.id = :roomId")
+    Long findMessageSeq(@Param("roomId") Long roomId);
+
+    // 멤버 수 증감
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE GroupChatRoom r SET r.memberCount = r.memberCount + :delta WHERE r.id = :roomId")
+    int addMemberCount(@Param("roomId") Long roomId, @Param("delta") int delta);
+}
@@ -0,0 +1,42 @@
+package com.example.campus_house.repository;
+
+import com.example.campus_house.entity.BoardType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * 인기 게시글 점수 재구성용 조회 (HotPostService 전용)
+ */
+@Repository
+@RequiredArgsConstructor
+public class HotPostRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 점수 계산에 필요한 게시글 통계 (스크랩 수 = 북마크 수)
+     */
+    public record PostStats(long postId, BoardType boardType, LocalDateTime createdAt,
+                            long likes, long comments, long bookmarks, long views) {
+    }
+
+    // since 이후 작성된 게시글 통계를 한 행씩 전달 (엔티티/연관관계 로딩 없이 필요한 컬럼만)
+    public void forEachPostSince(LocalDateTime since, Consumer<PostStats> consumer) {
+        jdbcTemplate.query(
+                "SELECT id, board_type, created_at, like_count, comment_count, scrap_count, view_count " +
+                "FROM posts WHERE created_at >= ? AND board_type IS NOT NULL",
+                rs -> {
+                    consumer.accept(new PostStats(
+                            rs.getLong(1),
+                            BoardType.valueOf(rs.getString(2)),
+                            rs.getTimestamp(3).toLocalDateTime(),
+                            rs.getLong(4), rs.getLong(5), rs.getLong(6), rs.getLong(7)));
+                },
+                Timestamp.valueOf(since));
+    }
+}
@@ -27,6 +27,13 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
     @Query("DELETE FROM Like l WHERE l.user.userId = :userId AND l.post.id = :postId")
     void deleteByUserIdAndPostId(@Param("userId") Long userId, @Param("postId") Long postId);
     
+    // 토글 (한 문장으로 결정: 있으면 삭제 -1, 없으면 추가 +1, 동시에 다른 요청이 추가했으면 0)
+    @Query(value = "WITH removed AS (DELETE FROM likes WHERE user_id = :userId AND post_id = :postId RETURNING id), " +
+           "added AS (INSERT INTO likes (user_id, post_id, created_at) SELECT :userId, :postId, now() " +
+           "WHERE NOT EXISTS (SELECT 1 FROM removed) ON CONFLICT (user_id, post_id) DO NOTHING RETURNING id) " +
+           "SELECT CAST((SELECT COUNT(*) FROM added) - (SELECT COUNT(*) FROM removed) AS int)", nativeQuery = true)
+    int toggle(@Param("userId") Long userId, @Param("postId") Long postId);
+    
     // 특정 사용자의 좋아요한 게시글 조회
     @Query("SELECT l FROM Like l WHERE l.user.userId = :userId ORDER BY l.createdAt DESC")
     List<Like> findByUserIdOrderByCreatedAtDesc(@Param("userId") Long userId);
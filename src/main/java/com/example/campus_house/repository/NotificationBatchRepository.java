@@ -0,0 +1,183 @@
+package com.example.campus_house.repository;
+
+import com.example.campus_house.entity.Notification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 알림 일괄 처리 (JDBC)
+ * fan-out 알림은 수신자마다 엔티티를 만들지 않고 같은 내용의 알림을 INSERT ... SELECT 한 번으로 저장합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 저장된 알림 (실시간 전송용)
+     */
+    public record InsertedNotification(Long id, Long userId, LocalDateTime createdAt) {
+    }
+
+    /**
+     * 수신자 목록에 같은 알림 저장 (INSERT 한 번, 수신자 ID는 배열 파라미터로 전달)
+     *
+     * @return 저장된 알림 ID와 수신자
+     */
+    public List<InsertedNotification> insertForRecipients(List<Long> recipientIds, Long fromUserId,
+                                                          Notification.NotificationType type, String title, String content,
+                                                          String relatedId, String relatedType) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<InsertedNotification> inserted = new ArrayList<>(recipientIds.size());
+        jdbcTemplate.query(
+                "INSERT INTO notifications (user_id, from_user_id, type, title, content, is_read, related_id, related_type, created_at) " +
+                "SELECT r.user_id, ?, ?, ?, ?, false, ?, ?, ? FROM unnest(?::bigint[]) AS r(user_id) " +
+                "RETURNING id, user_id, created_at",
+                ps -> {
+                    if (fromUserId != null) {
+                        ps.setLong(1, fromUserId);
+                    } else {
+                        ps.setNull(1, Types.BIGINT);
+                    }
+                    ps.setString(2, type.name());
+                    ps.setString(3, title);
+                    ps.setString(4, content);
+                    ps.setString(5, relatedId);
+                    ps.setString(6, relatedType);
+                    ps.setTimestamp(7, now);
+                    ps.setArray(8, ps.getConnection().createArrayOf("bigint", recipientIds.toArray()));
+                },
+                rs -> {
+                    inserted.add(new InsertedNotification(rs.getLong(1), rs.getLong(2), rs.getTimestamp(3).toLocalDateTime()));
+                });
+        return inserted;
+    }
+
+    /**
+     * 수신자마다 내용이 다른 알림 (채팅 메시지 알림 등)
+     */
+    public record NewNotification(Long userId, Long fromUserId, Notification.NotificationType type, String title,
+                                  String content, String relatedId, String relatedType) {
+    }
+
+    /**
+     * 저장된 알림 (ID/생성 시각 + 저장한 내용)
+     */
+    public record InsertedDirectNotification(Long id, NewNotification notification, LocalDateTime createdAt) {
+    }
+
+    /**
+     * 서로 다른 알림 여러 개 저장 (INSERT 한 번, 컬럼별 배열 파라미터로 전달)
+     * RETURNING 순서에 기대지 않도록 저장한 내용을 함께 돌려받습니다.
+     */
+    public List<InsertedDirectNotification> insertAll(List<NewNotification> notifications) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int size = notifications.size();
+        Object[] userIds = new Object[size];
+        Object[] fromUserIds = new Object[size];
+        Object[] types = new Object[size];
+        Object[] titles = new Object[size];
+        Object[] contents = new Object[size];
+        Object[] relatedIds = new Object[size];
+        Object[] relatedTypes = new Object[size];
+        for (int i = 0; i < size; i++) {
+            NewNotification notification = notifications.get(i);
+            userIds[i] = notification.userId();
+            fromUserIds[i] = notification.fromUserId();
+            types[i] = notification.type().name();
+            titles[i] = notification.title();
+            contents[i] = notification.content();
+            relatedIds[i] = notification.relatedId();
+            relatedTypes[i] = notification.relatedType();
+        }
+
+        List<InsertedDirectNotification> inserted = new ArrayList<>(size);
+        jdbcTemplate.query(
+                "INSERT INTO notifications (user_id, from_user_id, type, title, content, is_read, related_id, related_type, created_at) " +
+                "SELECT r.user_id, r.from_user_id, r.type, r.title, r.content, false, r.related_id, r.related_type, ? " +
+                "FROM unnest(?::bigint[], ?::bigint[], ?::text[], ?::text[], ?::text[], ?::text[], ?::text[]) " +
+                "AS r(user_id, from_user_id, type, title, content, related_id, related_type) " +
+                "RETURNING id, user_id, from_user_id, type, title, content, related_id, related_type, created_at",
+                ps -> {
+                    ps.setTimestamp(1, now);
+                    ps.setArray(2, ps.getConnection().createArrayOf("bigint", userIds));
+                    ps.setArray(3, ps.getConnection().createArrayOf("bigint", fromUserIds));
+                    ps.setArray(4, ps.getConnection().createArrayOf("text", types));
+                    ps.setArray(5, ps.getConnection().createArrayOf("text", titles));
+                    ps.setArray(6, ps.getConnection().createArrayOf("text", contents));
+                    ps.setArray(7, ps.getConnection().createArrayOf("text", relatedIds));
+                    ps.setArray(8, ps.getConnection().createArrayOf("text", relatedTypes));
+                },
+                rs -> {
+                    long fromUserId = rs.getLong(3);
+                    boolean noFromUser = rs.wasNull();
+                    NewNotification notification = new NewNotification(
+                            rs.getLong(2), noFromUser ? null : fromUserId,
+                            Notification.NotificationType.valueOf(rs.getString(4)),
+                            rs.getString(5), rs.getString(6), rs.getString(7), rs.getString(8));
+                    inserted.add(new InsertedDirectNotification(rs.getLong(1), notification, rs.getTimestamp(9).toLocalDateTime()));
+                });
+        return inserted;
+    }
+
+    /**
+     * 중복 방지 키가 없을 때만 알림 저장 (dedupe_key 유니크 인덱스에 ON CONFLICT DO NOTHING)
+     * 여러 서버가 같은 키로 동시에 저장해도 한 건만 남습니다.
+     *
+     * @return 저장된 알림, 같은 키의 알림이 이미 있으면 null
+     */
+    public InsertedDirectNotification insertIfAbsent(NewNotification notification, String dedupeKey) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<InsertedDirectNotification> inserted = jdbcTemplate.query(
+                "INSERT INTO notifications (user_id, from_user_id, type, title, content, is_read, related_id, related_type, dedupe_key, created_at) " +
+                "VALUES (?, ?, ?, ?, ?, false, ?, ?, ?, ?) " +
+                "ON CONFLICT (dedupe_key) DO NOTHING " +
+                "RETURNING id, created_at",
+                ps -> {
+                    ps.setLong(1, notification.userId());
+                    if (notification.fromUserId() != null) {
+                        ps.setLong(2, notification.fromUserId());
+                    } else {
+                        ps.setNull(2, Types.BIGINT);
+                    }
+                    ps.setString(3, notification.type().name());
+                    ps.setString(4, notification.title());
+                    ps.setString(5, notification.content());
+                    ps.setString(6, notification.relatedId());
+                    ps.setString(7, notification.relatedType());
+                    ps.setString(8, dedupeKey);
+                    ps.setTimestamp(9, now);
+                },
+                (rs, rowNum) -> new InsertedDirectNotification(rs.getLong(1), notification, rs.getTimestamp(2).toLocalDateTime()));
+        return inserted.isEmpty() ? null : inserted.get(0);
+    }
+
+    /**
+     * 중복 방지 키 (NotificationDedupeService 재구성용)
+     */
+    public record DedupeKey(String key, LocalDateTime createdAt) {
+    }
+
+    // since 이후 중복 방지 키가 있는 알림을 커서로 조금씩 읽으며 처리 (트랜잭션 안에서 호출해야 fetch size가 적용됨)
+    public void forEachDedupeKeySince(LocalDateTime since, Consumer<DedupeKey> consumer) {
+        jdbcTemplate.query(
+                con -> {
+                    PreparedStatement ps = con.prepareStatement(
+                            "SELECT dedupe_key, created_at FROM notifications WHERE dedupe_key IS NOT NULL AND created_at >= ?");
+                    ps.setFetchSize(5000);
+                    ps.setTimestamp(1, Timestamp.valueOf(since));
+                    return ps;
+                },
+                rs -> consumer.accept(new DedupeKey(rs.getString(1), rs.getTimestamp(2).toLocalDateTime())));
+    }
+}
@@ -1,9 +1,13 @@
 package com.example.campus_house.repository;
 
 import com.example.campus_house.entity.Notification;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -18,6 +22,19 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     @Query("SELECT n FROM Notification n WHERE n.user.userId = :userId ORDER BY n.createdAt DESC")
     Page<Notification> findByUserIdOrderByCreatedAtDesc(@Param("userId") Long userId, Pageable pageable);
     
+    // 사용자별 알림 첫 페이지 (최신순, 커서 페이지네이션) - (user_id, created_at, id) 인덱스 사용
+    @Query("SELECT n FROM Notification n WHERE n.user.userId = :userId ORDER BY n.createdAt DESC, n.id DESC")
+    Slice<Notification> findFeedByUserId(@Param("userId") Long userId, Pageable pageable);
+    
+    // 사용자별 알림 커서 이후(더 오래된) 알림
+    @Query("SELECT n FROM Notification n WHERE n.user.userId = :userId " +
+           "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    Slice<Notification> findFeedByUserIdBefore(@Param("userId") Long userId,
+                                               @Param("createdAt") LocalDateTime createdAt,
+                                               @Param("id") Long id,
+                                               Pageable pageable);
+    
     // 사용자별 읽지 않은 알림 조회
     @Query("SELECT n FROM Notification n WHERE n.user.userId = :userId AND n.isRead = false ORDER BY n.createdAt DESC")
     List<Notification> findByUserIdAndIsReadFalseOrderByCreatedAtDesc(@Param("userId") Long userId);
@@ -40,15 +57,29 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     List<Notification> findByUserIdAndRelatedIdAndRelatedTypeAndType(
             @Param("userId") Long userId, @Param("relatedId") String relatedId, @Param("relatedType") String relatedType, @Param("type") Notification.NotificationType type);
     
+    // 같은 중복 방지 키의 알림 존재 여부 (블룸 필터가 "있을 수도 있음"이라고 할 때만 호출, 유니크 인덱스 조회)
+    boolean existsByDedupeKey(String dedupeKey);
+    
+    // 묶을 대상 알림 조회 (같은 사용자·타입·관련 ID의 읽지 않은 알림 중 묶음 기간 안에 갱신된 것, 행 잠금)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT n FROM Notification n WHERE n.user.userId = :userId AND n.type = :type AND n.relatedId = :relatedId " +
+           "AND n.isRead = false AND n.lastActorAt >= :since ORDER BY n.lastActorAt DESC")
+    List<Notification> findAggregationTargets(@Param("userId") Long userId, @Param("type") Notification.NotificationType type,
+                                              @Param("relatedId") String relatedId, @Param("since") LocalDateTime since,
+                                              Pageable pageable);
+    
     // 읽지 않은 알림을 읽음으로 표시
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
     @Query("UPDATE Notification n SET n.isRead = true WHERE n.user.userId = :userId AND n.isRead = false")
-    void markAllAsReadByUserId(@Param("userId") Long userId);
+    int markAllAsReadByUserId(@Param("userId") Long userId);
     
-    // 특정 알림을 읽음으로 표시
-    @Query("UPDATE Notification n SET n.isRead = true WHERE n.id = :notificationId AND n.user.userId = :userId")
-    void markAsReadByIdAndUserId(@Param("notificationId") Long notificationId, @Param("userId") Long userId);
+    // 특정 알림을 읽음으로 표시 (이미 읽은 알림은 제외: 변경된 행 수로 읽지 않은 수 감소)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.id = :notificationId AND n.user.userId = :userId AND n.isRead = false")
+    int markAsReadByIdAndUserId(@Param("notificationId") Long notificationId, @Param("userId") Long userId);
     
-    // 오래된 알림 삭제 (30일 이상)
+    // 오래된 알림 한 번에 삭제 (대량 삭제는 NotificationRetentionService의 구간 삭제 사용)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
     @Query("DELETE FROM Notification n WHERE n.createdAt < :cutoffDate")
-    void deleteOldNotifications(@Param("cutoffDate") LocalDateTime cutoffDate);
+    int deleteOldNotifications(@Param("cutoffDate") LocalDateTime cutoffDate);
 }
@@ -0,0 +1,131 @@
+package com.example.campus_house.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 보관 기간이 지난 알림 정리 (NotificationRetentionService 전용)
+ * 기본은 ID 구간 단위 DELETE이고, notifications가 월별 파티션 테이블이면 파티션 생성/삭제도 처리합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationRetentionRepository {
+
+    public static final String PARTITION_PREFIX = "notifications_p";
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // ========== ID 구간 삭제 ==========
+
+    // 가장 작은 알림 ID (없으면 null)
+    public Long findMinId() {
+        return jdbcTemplate.queryForObject("SELECT MIN(id) FROM notifications", Long.class);
+    }
+
+    // 보관 기간이 지난 알림 중 가장 최근 알림의 ID (created_at 인덱스로 한 행만 읽음, 없으면 null)
+    public Long findLastExpiredId(LocalDateTime cutoff) {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM notifications WHERE created_at < ? ORDER BY created_at DESC LIMIT 1",
+                Long.class, Timestamp.valueOf(cutoff));
+        return ids.isEmpty() ? null : ids.get(0);
+    }
+
+    /**
+     * 구간 삭제 결과 (삭제 건수 + 삭제된 읽지 않은 알림의 사용자별 개수)
+     */
+    public record DeletedChunk(long deleted, Map<Long, Long> unreadByUser) {
+    }
+
+    // [fromId, toId) 구간에서 보관 기간이 지난 알림 삭제
+    public DeletedChunk deleteExpiredInRange(long fromId, long toId, LocalDateTime cutoff) {
+        Map<Long, Long> unreadByUser = new HashMap<>();
+        long[] deleted = {0};
+        jdbcTemplate.query(
+                "DELETE FROM notifications WHERE id >= ? AND id < ? AND created_at < ? RETURNING user_id, is_read",
+                rs -> {
+                    deleted[0]++;
+                    if (!rs.getBoolean(2)) {
+                        unreadByUser.merge(rs.getLong(1), 1L, Long::sum);
+                    }
+                },
+                fromId, toId, Timestamp.valueOf(cutoff));
+        return new DeletedChunk(deleted[0], unreadByUser);
+    }
+
+    // ========== 월별 파티션 (notifications가 파티션 테이블일 때만) ==========
+
+    public boolean isPartitioned() {
+        Boolean partitioned = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table pt JOIN pg_class c ON c.oid = pt.partrelid " +
+                "WHERE c.relname = 'notifications' AND pg_catalog.pg_table_is_visible(c.oid))", Boolean.class);
+        return Boolean.TRUE.equals(partitioned);
+    }
+
+    // 이름 규칙(notifications_pYYYYMM)을 따르는 파티션 목록
+    public List<String> findMonthlyPartitions() {
+        return jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+                "JOIN pg_class p ON p.oid = i.inhparent WHERE p.relname = 'notifications' AND c.relname LIKE ? " +
+                "ORDER BY c.relname",
+                String.class, PARTITION_PREFIX + "%");
+    }
+
+    // month가 속한 달의 파티션 생성 (이미 있으면 그대로)
+    public void createMonthlyPartition(LocalDate month) {
+        LocalDate from = month.withDayOfMonth(1);
+        LocalDate to = from.plusMonths(1);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(from) + " PARTITION OF notifications " +
+                "FOR VALUES FROM ('" + from + "') TO ('" + to + "')");
+    }
+
+    // 파티션의 읽지 않은 알림 수 (사용자별)
+    public Map<Long, Long> countUnreadByUser(String partition) {
+        Map<Long, Long> unreadByUser = new HashMap<>();
+        jdbcTemplate.query("SELECT user_id, COUNT(*) FROM " + checked(partition) + " WHERE is_read = false GROUP BY user_id",
+                rs -> {
+                    unreadByUser.put(rs.getLong(1), rs.getLong(2));
+                });
+        return unreadByUser;
+    }
+
+    // 파티션 삭제 (행 단위 DELETE 없이 파일째 제거)
+    public void dropPartition(String partition) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + checked(partition));
+    }
+
+    public static String partitionName(LocalDate month) {
+        return PARTITION_PREFIX + month.format(PARTITION_SUFFIX);
+    }
+
+    // 파티션 이름의 달 (규칙에 맞지 않으면 null)
+    public static LocalDate monthOf(String partition) {
+        if (!partition.matches(PARTITION_PREFIX + "\\d{6}")) {
+            return null;
+        }
+        String suffix = partition.substring(PARTITION_PREFIX.length());
+        try {
+            return LocalDate.of(Integer.parseInt(suffix.substring(0, 4)), Integer.parseInt(suffix.substring(4)), 1);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    // SQL에 이름을 직접 넣으므로 규칙에 맞는 이름만 허용
+    private String checked(String partition) {
+        if (monthOf(partition) == null) {
+            throw new IllegalArgumentException("알림 파티션 이름이 올바르지 않습니다: " + partition);
+        }
+        return partition;
+    }
+}
@@ -4,11 +4,15 @@ import com.example.campus_house.entity.BoardType;
 import com.example.campus_house.entity.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
@@ -30,17 +34,80 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Query("SELECT p FROM Post p WHERE p.author.userId = :authorId ORDER BY p.createdAt DESC")
     Page<Post> findByAuthorIdOrderByCreatedAtDesc(@Param("authorId") Long authorId, Pageable pageable);
     
-    // 인기 게시글 조회 (좋아요 수 기준)
-    @Query("SELECT p FROM Post p WHERE p.boardType = :boardType ORDER BY p.likeCount DESC, p.createdAt DESC")
-    Page<Post> findPopularPosts(@Param("boardType") BoardType boardType, Pageable pageable);
-    
-    // 조회수 기준 인기 게시글
-    @Query("SELECT p FROM Post p WHERE p.boardType = :boardType ORDER BY p.viewCount DESC, p.createdAt DESC")
-    Page<Post> findPopularPostsByViewCount(@Param("boardType") BoardType boardType, Pageable pageable);
-    
     // 건물별 질문 게시글 조회
     Page<Post> findByBuildingIdAndBoardTypeOrderByCreatedAtDesc(Long buildingId, BoardType boardType, Pageable pageable);
     
+    // ========== 목록용 프로젝션 (PostSummaryView) ==========
+    
+    // 목록 컬럼 + 작성자 닉네임/대표 캐릭터 이미지 (엔티티/연관관계 로딩 없이 한 쿼리)
+    String SUMMARY_SELECT = "SELECT p.id AS id, p.title AS title, SUBSTRING(p.content, 1, 100) AS contentPreview, " +
+            "p.imageUrl AS imageUrl, p.boardType AS boardType, p.likeCount AS likeCount, " +
+            "p.commentCount AS commentCount, p.scrapCount AS scrapCount, p.viewCount AS viewCount, " +
+            "p.createdAt AS createdAt, a.userId AS authorId, a.nickname AS authorNickname, " +
+            "COALESCE(c.imageUrl, a.profileImage) AS authorCharacterImage " +
+            "FROM Post p LEFT JOIN p.author a " +
+            "LEFT JOIN UserCharacter uc ON uc.user = a AND uc.character.id = a.mainCharacterId AND uc.isMain = true " +
+            "LEFT JOIN uc.character c ";
+    
+    // 게시판 타입별 게시글 목록 (페이징)
+    @Query(value = SUMMARY_SELECT + "WHERE p.boardType = :boardType ORDER BY p.createdAt DESC, p.id DESC",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.boardType = :boardType")
+    Page<PostSummaryView> findSummariesByBoardType(@Param("boardType") BoardType boardType, Pageable pageable);
+    
+    // 건물별 게시판 게시글 목록 (질문/양도/아파트소식, 페이징)
+    @Query(value = SUMMARY_SELECT + "WHERE p.building.id = :buildingId AND p.boardType = :boardType " +
+           "ORDER BY p.createdAt DESC, p.id DESC",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.building.id = :buildingId AND p.boardType = :boardType")
+    Page<PostSummaryView> findSummariesByBuildingIdAndBoardType(@Param("buildingId") Long buildingId,
+                                                                @Param("boardType") BoardType boardType,
+                                                                Pageable pageable);
+    
+    // 인기 게시글 목록 (좋아요 수 기준, HotPostService 순위 준비 전 대체용)
+    @Query(value = SUMMARY_SELECT + "WHERE p.boardType = :boardType ORDER BY p.likeCount DESC, p.createdAt DESC",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.boardType = :boardType")
+    Page<PostSummaryView> findPopularSummaries(@Param("boardType") BoardType boardType, Pageable pageable);
+    
+    // 조회수 기준 인기 게시글 목록 (고유 조회자 수 추정치 우선, 같으면 전체 조회수)
+    @Query(value = SUMMARY_SELECT + "WHERE p.boardType = :boardType " +
+           "ORDER BY p.uniqueViewerCount DESC, p.viewCount DESC, p.createdAt DESC",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.boardType = :boardType")
+    Page<PostSummaryView> findPopularSummariesByViewCount(@Param("boardType") BoardType boardType, Pageable pageable);
+    
+    // ID 목록의 게시글 목록 항목 (순서는 호출자가 복원, 인기 게시글 순위용)
+    @Query(SUMMARY_SELECT + "WHERE p.id IN :ids")
+    List<PostSummaryView> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+    
+    // ========== 커서 페이지네이션 (created_at, id 키셋, COUNT 쿼리 없는 Slice) ==========
+    
+    // 게시판 첫 페이지 (최신순) - (board_type, created_at, id) 인덱스 사용
+    @Query(SUMMARY_SELECT + "WHERE p.boardType = :boardType ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<PostSummaryView> findFeed(@Param("boardType") BoardType boardType, Pageable pageable);
+    
+    // 게시판 커서 이후(더 오래된) 게시글
+    @Query(SUMMARY_SELECT + "WHERE p.boardType = :boardType " +
+           "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<PostSummaryView> findFeedBefore(@Param("boardType") BoardType boardType,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") Long id,
+                                          Pageable pageable);
+    
+    // 건물별 게시판 첫 페이지 (최신순) - (building_id, board_type, created_at, id) 인덱스 사용
+    @Query(SUMMARY_SELECT + "WHERE p.building.id = :buildingId AND p.boardType = :boardType " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<PostSummaryView> findBuildingFeed(@Param("buildingId") Long buildingId, @Param("boardType") BoardType boardType,
+                                            Pageable pageable);
+    
+    // 건물별 게시판 커서 이후(더 오래된) 게시글
+    @Query(SUMMARY_SELECT + "WHERE p.building.id = :buildingId AND p.boardType = :boardType " +
+           "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    Slice<PostSummaryView> findBuildingFeedBefore(@Param("buildingId") Long buildingId,
+                                                  @Param("boardType") BoardType boardType,
+                                                  @Param("createdAt") LocalDateTime createdAt,
+                                                  @Param("id") Long id,
+                                                  Pageable pageable);
+    
     // 건물별 질문 게시글 수
     Long countByBuildingIdAndBoardType(Long buildingId, BoardType boardType);
     
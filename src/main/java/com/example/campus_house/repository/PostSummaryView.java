@@ -0,0 +1,38 @@
+package com.example.campus_house.repository;
+
+import com.example.campus_house.entity.BoardType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록용 프로젝션 (PostRepository.SUMMARY_SELECT의 별칭과 이름이 같아야 함)
+ * 목록에 필요한 컬럼과 작성자 닉네임/대표 캐릭터 이미지만 한 쿼리로 가져옵니다.
+ */
+public interface PostSummaryView {
+
+    Long getId();
+
+    String getTitle();
+
+    String getContentPreview();
+
+    String getImageUrl();
+
+    BoardType getBoardType();
+
+    Integer getLikeCount();
+
+    Integer getCommentCount();
+
+    Integer getScrapCount();
+
+    Integer getViewCount();
+
+    LocalDateTime getCreatedAt();
+
+    Long getAuthorId();
+
+    String getAuthorNickname();
+
+    String getAuthorCharacterImage();
+}
@@ -0,0 +1,26 @@
+package com.example.campus_house.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 조회수 일괄 반영 (PostViewCountService의 flush 전용)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostViewCountRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 게시글별 조회수 증가분을 JDBC 배치 한 번으로 반영 (행 전체가 아니라 view_count만 갱신)
+    public void addViewCounts(Map<Long, Long> deltas) {
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((postId, delta) -> args.add(new Object[]{delta, postId}));
+        jdbcTemplate.batchUpdate("UPDATE posts SET view_count = view_count + ? WHERE id = ?", args);
+    }
+}
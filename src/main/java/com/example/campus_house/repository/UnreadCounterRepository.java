@@ -0,0 +1,69 @@
+package com.example.campus_house.repository;
+
+import com.example.campus_house.entity.UnreadCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UnreadCounterRepository extends JpaRepository<UnreadCounter, Long> {
+
+    // 원본 테이블 기준 사용자별 읽지 않은 수 (채팅: 채팅방 카운터 합계, 알림: is_read = false)
+    String ACTUAL_COUNTS =
+            "SELECT u.user_id, COALESCE(c.cnt, 0) AS chat_unread, COALESCE(n.cnt, 0) AS notification_unread, now() AS updated_at " +
+            "FROM users u " +
+            "LEFT JOIN (SELECT x.user_id, SUM(x.cnt) AS cnt FROM (" +
+            "SELECT user1_id AS user_id, user1_unread_count AS cnt FROM chat_rooms " +
+            "UNION ALL SELECT user2_id, user2_unread_count FROM chat_rooms) x GROUP BY x.user_id) c ON c.user_id = u.user_id " +
+            "LEFT JOIN (SELECT user_id, COUNT(*) AS cnt FROM notifications WHERE is_read = false GROUP BY user_id) n " +
+            "ON n.user_id = u.user_id";
+
+    // 읽지 않은 채팅 수 증감 (행이 없으면 생성, 0 미만으로 내려가지 않음)
+    @Modifying
+    @Query(value = "INSERT INTO unread_counters (user_id, chat_unread, notification_unread, updated_at) " +
+           "VALUES (:userId, GREATEST(0, :delta), 0, now()) " +
+           "ON CONFLICT (user_id) DO UPDATE SET chat_unread = GREATEST(0, unread_counters.chat_unread + :delta), " +
+           "updated_at = now()", nativeQuery = true)
+    int addChatUnread(@Param("userId") Long userId, @Param("delta") long delta);
+
+    // 읽지 않은 알림 수 증감 (행이 없으면 생성, 0 미만으로 내려가지 않음)
+    @Modifying
+    @Query(value = "INSERT INTO unread_counters (user_id, chat_unread, notification_unread, updated_at) " +
+           "VALUES (:userId, 0, GREATEST(0, :delta), now()) " +
+           "ON CONFLICT (user_id) DO UPDATE SET notification_unread = GREATEST(0, unread_counters.notification_unread + :delta), " +
+           "updated_at = now()", nativeQuery = true)
+    int addNotificationUnread(@Param("userId") Long userId, @Param("delta") long delta);
+
+    // 여러 사용자의 읽지 않은 알림 수를 한 번에 증감 (알림 fan-out 배치용)
+    @Modifying
+    @Query(value = "INSERT INTO unread_counters (user_id, chat_unread, notification_unread, updated_at) " +
+           "SELECT u.user_id, 0, GREATEST(0, :delta), now() FROM users u WHERE u.user_id IN (:userIds) " +
+           "ON CONFLICT (user_id) DO UPDATE SET notification_unread = GREATEST(0, unread_counters.notification_unread + :delta), " +
+           "updated_at = now()", nativeQuery = true)
+    int addNotificationUnreadAll(@Param("userIds") java.util.Collection<Long> userIds, @Param("delta") long delta);
+
+    // 읽지 않은 알림 수 초기화
+    @Modifying
+    @Query(value = "UPDATE unread_counters SET notification_unread = 0, updated_at = now() WHERE user_id = :userId",
+           nativeQuery = true)
+    int resetNotificationUnread(@Param("userId") Long userId);
+
+    // 카운터가 없는 사용자만 원본 테이블에서 채우기
+    @Modifying
+    @Query(value = "INSERT INTO unread_counters (user_id, chat_unread, notification_unread, updated_at) " +
+           ACTUAL_COUNTS + " WHERE NOT EXISTS (SELECT 1 FROM unread_counters uc WHERE uc.user_id = u.user_id) " +
+           "ON CONFLICT (user_id) DO NOTHING", nativeQuery = true)
+    int seedMissingCounters();
+
+    // 모든 카운터를 원본 테이블 값으로 보정 (값이 다른 행만 갱신)
+    @Modifying
+    @Query(value = "INSERT INTO unread_counters (user_id, chat_unread, notification_unread, updated_at) " +
+           ACTUAL_COUNTS + " " +
+           "ON CONFLICT (user_id) DO UPDATE SET chat_unread = EXCLUDED.chat_unread, " +
+           "notification_unread = EXCLUDED.notification_unread, updated_at = EXCLUDED.updated_at " +
+           "WHERE unread_counters.chat_unread <> EXCLUDED.chat_unread " +
+           "OR unread_counters.notification_unread <> EXCLUDED.notification_unread", nativeQuery = true)
+    int reconcileAllCounters();
+}
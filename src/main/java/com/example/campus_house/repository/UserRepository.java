@@ -2,6 +2,8 @@ package com.example.campus_house.repository;
 
 import com.example.campus_house.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -25,4 +27,8 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     // 거주지 인증된 사용자 중 특정 건물에 인증된 사용자 조회
     java.util.List<User> findByVerifiedBuildingIdAndIsVerifiedTrue(Long verifiedBuildingId);
+
+    // 특정 건물에 거주지 인증된 사용자 ID만 조회 (알림 fan-out용)
+    @Query("SELECT u.userId FROM User u WHERE u.verifiedBuildingId = :buildingId AND u.isVerified = true ORDER BY u.userId")
+    java.util.List<Long> findVerifiedResidentIdsByBuildingId(@Param("buildingId") Long buildingId);
 }
@@ -0,0 +1,105 @@
+package com.example.campus_house.repository;
+
+import com.example.campus_house.dto.PopularBuildingResponse;
+import com.example.campus_house.entity.ViewerSketch;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 고유 조회자 스케치 병합/조회 (UniqueViewerService 전용)
+ * 같은 (대상 타입, 기간)의 스케치를 행 잠금 후 병합해 여러 서버가 동시에 반영해도 레지스터가 유실되지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ViewerSketchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 병합 결과 (대상 ID, 직렬화된 레지스터, 추정치)
+     */
+    public record SketchRow(long targetId, byte[] registers, long estimate) {
+    }
+
+    // 아직 없는 스케치 행 생성 (이미 있으면 그대로, 이후 잠금 조회에서 병합)
+    public void insertMissing(ViewerSketch.TargetType targetType, LocalDate periodStart, List<SketchRow> rows) {
+        List<Object[]> args = new ArrayList<>(rows.size());
+        for (SketchRow row : rows) {
+            args.add(new Object[]{targetType.name(), row.targetId(), Date.valueOf(periodStart), row.registers(), row.estimate()});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO viewer_sketches (target_type, target_id, period_start, registers, estimate, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, now()) ON CONFLICT (target_type, target_id, period_start) DO NOTHING",
+                args);
+    }
+
+    // 스케치 잠금 조회 (교착을 피하려고 대상 ID 순으로 잠금)
+    public Map<Long, byte[]> lockSketches(ViewerSketch.TargetType targetType, LocalDate periodStart,
+                                          Collection<Long> targetIds) {
+        Map<Long, byte[]> sketches = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT target_id, registers FROM viewer_sketches " +
+                "WHERE target_type = ? AND period_start = ? AND target_id = ANY(?) ORDER BY target_id FOR UPDATE",
+                ps -> {
+                    ps.setString(1, targetType.name());
+                    ps.setDate(2, Date.valueOf(periodStart));
+                    ps.setArray(3, ps.getConnection().createArrayOf("bigint", targetIds.toArray()));
+                },
+                rs -> {
+                    sketches.put(rs.getLong(1), rs.getBytes(2));
+                });
+        return sketches;
+    }
+
+    public void updateSketches(ViewerSketch.TargetType targetType, LocalDate periodStart, List<SketchRow> rows) {
+        List<Object[]> args = new ArrayList<>(rows.size());
+        for (SketchRow row : rows) {
+            args.add(new Object[]{row.registers(), row.estimate(), targetType.name(), row.targetId(), Date.valueOf(periodStart)});
+        }
+        jdbcTemplate.batchUpdate(
+                "UPDATE viewer_sketches SET registers = ?, estimate = ?, updated_at = now() " +
+                "WHERE target_type = ? AND target_id = ? AND period_start = ?",
+                args);
+    }
+
+    // 게시글 고유 조회자 수 추정치 반영 (인기 게시글 정렬용)
+    public void updatePostUniqueViewers(List<SketchRow> rows) {
+        List<Object[]> args = new ArrayList<>(rows.size());
+        for (SketchRow row : rows) {
+            args.add(new Object[]{(int) Math.min(Integer.MAX_VALUE, row.estimate()), row.targetId()});
+        }
+        jdbcTemplate.batchUpdate("UPDATE posts SET unique_viewer_count = ? WHERE id = ?", args);
+    }
+
+    // 기간별 고유 조회자 수 상위 건물
+    public List<PopularBuildingResponse> findTopBuildings(LocalDate periodStart, int limit) {
+        return jdbcTemplate.query(
+                "SELECT b.id, b.building_name, b.address, s.estimate FROM viewer_sketches s " +
+                "JOIN buildings b ON b.id = s.target_id " +
+                "WHERE s.target_type = ? AND s.period_start = ? ORDER BY s.estimate DESC, b.id LIMIT ?",
+                (rs, rowNum) -> PopularBuildingResponse.builder()
+                        .buildingId(rs.getLong(1))
+                        .buildingName(rs.getString(2))
+                        .address(rs.getString(3))
+                        .uniqueViewers(rs.getLong(4))
+                        .weekStart(periodStart)
+                        .build(),
+                ViewerSketch.TargetType.BUILDING.name(), Date.valueOf(periodStart), limit);
+    }
+
+    // 보관 기간이 지난 기간별 스케치 삭제 (전체 기간 스케치는 period_start가 가장 이르므로 제외)
+    public int deleteOlderThan(ViewerSketch.TargetType targetType, LocalDate periodStart) {
+        return jdbcTemplate.update(
+                "DELETE FROM viewer_sketches WHERE target_type = ? AND period_start < ? AND period_start > ?",
+                targetType.name(), Date.valueOf(periodStart), Date.valueOf(ViewerSketch.ALL_TIME));
+    }
+}
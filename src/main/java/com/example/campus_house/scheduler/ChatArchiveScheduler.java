@@ -0,0 +1,21 @@
+package com.example.campus_house.scheduler;
+
+import com.example.campus_house.service.ChatArchiveService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class ChatArchiveScheduler {
+    
+    private final ChatArchiveService chatArchiveService;
+    
+    // 매일 새벽 - 보관 기간이 지난 채팅 메시지를 압축 블록으로 이동
+    @Scheduled(cron = "${chat.archive.cron:0 0 5 * * *}")
+    public void archiveExpiredMessages() {
+        chatArchiveService.archiveExpiredMessages();
+    }
+}
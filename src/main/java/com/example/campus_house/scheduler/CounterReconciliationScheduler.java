@@ -0,0 +1,21 @@
+package com.example.campus_house.scheduler;
+
+import com.example.campus_house.service.CounterService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "counter.reconcile.enabled", havingValue = "true", matchIfMissing = true)
+public class CounterReconciliationScheduler {
+    
+    private final CounterService counterService;
+    
+    // 매일 새벽 - 좋아요/댓글/북마크/스크랩 수를 실제 개수로 재계산
+    @Scheduled(cron = "${counter.reconcile.cron:0 45 3 * * *}")
+    public void reconcileCounters() {
+        counterService.reconcile();
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.campus_house.scheduler;
+
+import com.example.campus_house.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "notification.retention.enabled", havingValue = "true", matchIfMissing = true)
+public class NotificationRetentionScheduler {
+    
+    private final NotificationService notificationService;
+    
+    // 매일 새벽 - 보관 기간이 지난 알림 정리
+    @Scheduled(cron = "${notification.retention.cron:0 30 3 * * *}")
+    public void cleanupOldNotifications() {
+        notificationService.cleanupOldNotifications();
+    }
+}
@@ -1,12 +1,10 @@
 package com.example.campus_house.service;
 
 import com.example.campus_house.entity.Bookmark;
-import com.example.campus_house.entity.Post;
-import com.example.campus_house.entity.User;
 import com.example.campus_house.repository.BookmarkRepository;
-import com.example.campus_house.repository.PostRepository;
-import com.example.campus_house.repository.UserRepository;
+import com.example.campus_house.repository.CounterRepository.Counter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -20,8 +18,7 @@ import java.util.List;
 public class BookmarkService {
     
     private final BookmarkRepository bookmarkRepository;
-    private final PostRepository postRepository;
-    private final UserRepository userRepository;
+    private final CounterService counterService;
     
     // 게시글 북마크 토글 (간단한 버전)
     @Transactional
@@ -29,40 +26,26 @@ public class BookmarkService {
         return togglePostBookmark(postId, userId);
     }
     
-    // 게시글 북마크 토글
+    // 게시글 북마크 토글 (유니크 제약 기반 한 문장으로 상태 결정)
     @Transactional
     public boolean togglePostBookmark(Long postId, Long userId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
-        
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+        int change;
+        try {
+            change = bookmarkRepository.toggle(userId, postId);
+        } catch (DataIntegrityViolationException e) {
+            throw new RuntimeException("게시글을 찾을 수 없습니다.");
+        }
         
-        // 이미 북마크했는지 확인
-        if (bookmarkRepository.existsByUserIdAndPostId(userId, postId)) {
-            // 북마크 취소
-            bookmarkRepository.deleteByUserIdAndPostId(userId, postId);
-            
-            // 게시글의 스크랩 수 감소
-            post.setScrapCount(Math.max(0, post.getScrapCount() - 1));
-            postRepository.save(post);
-            
+        if (change < 0) {
+            // 북마크 취소 → 게시글의 스크랩 수 감소
+            counterService.decrement(Counter.POST_SCRAP, postId);
             return false; // 북마크 취소됨
-        } else {
-            // 북마크 추가
-            Bookmark bookmark = Bookmark.builder()
-                    .user(user)
-                    .post(post)
-                    .build();
-            
-            bookmarkRepository.save(bookmark);
-            
-            // 게시글의 스크랩 수 증가
-            post.setScrapCount(post.getScrapCount() + 1);
-            postRepository.save(post);
-            
-            return true; // 북마크 추가됨
         }
+        if (change > 0) {
+            // 북마크 추가 → 게시글의 스크랩 수 증가
+            counterService.increment(Counter.POST_SCRAP, postId);
+        }
+        return true; // 북마크 추가됨 (0이면 동시에 들어온 다른 요청이 이미 추가함)
     }
     
     // 게시글 북마크 상태 확인
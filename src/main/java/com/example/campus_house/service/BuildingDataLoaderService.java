@@ -1,76 +1,146 @@
 package com.example.campus_house.service;
 
 import com.example.campus_house.entity.Building;
+import com.example.campus_house.entity.DataLoadJob;
 import com.example.campus_house.repository.BuildingRepository;
+import com.example.campus_house.repository.BuildingStagingRepository;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * 건물 데이터 로드 서비스
+ * 새 데이터는 buildings_staging에 청크 단위로 적재하고, 검증을 통과한 경우에만 buildings에 한 번에 반영합니다.
+ * 적재 중에도 기존 buildings와 인메모리 인덱스는 그대로 조회됩니다.
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
-public class BuildingDataLoaderService {
+public class BuildingDataLoaderService implements DataImporter {
+    
+    // 재로드 시에도 유지하는 샘플 건물
+    private static final List<String> SAMPLE_BUILDING_NAMES = List.of("캠퍼스 하우스 A동", "캠퍼스 하우스 B동", "하이빌 영통");
+    
+    // 좌표 유효 범위 (대한민국)
+    private static final double MIN_LATITUDE = 33.0;
+    private static final double MAX_LATITUDE = 39.0;
+    private static final double MIN_LONGITUDE = 124.0;
+    private static final double MAX_LONGITUDE = 132.0;
     
     private final BuildingRepository buildingRepository;
+    private final BuildingStagingRepository buildingStagingRepository;
+    private final CatalogIndexService catalogIndexService;
     private final ObjectMapper objectMapper;
+    private final double minRowRatio;
+    private final double maxInvalidCoordinateRatio;
+    
+    public BuildingDataLoaderService(BuildingRepository buildingRepository,
+                                     BuildingStagingRepository buildingStagingRepository,
+                                     CatalogIndexService catalogIndexService,
+                                     ObjectMapper objectMapper,
+                                     @Value("${data.loading.swap.min-row-ratio:0.5}") double minRowRatio,
+                                     @Value("${data.loading.swap.max-invalid-coordinate-ratio:0.05}") double maxInvalidCoordinateRatio) {
+        this.buildingRepository = buildingRepository;
+        this.buildingStagingRepository = buildingStagingRepository;
+        this.catalogIndexService = catalogIndexService;
+        this.objectMapper = objectMapper;
+        this.minRowRatio = minRowRatio;
+        this.maxInvalidCoordinateRatio = maxInvalidCoordinateRatio;
+    }
+    
+    @Override
+    public DataLoadJob.JobType getJobType() {
+        return DataLoadJob.JobType.BUILDING;
+    }
     
     /**
-     * JSON 파일에서 건물 데이터를 로드하여 데이터베이스에 저장
+     * JSON 파일에서 건물 레코드 읽기
      */
-    @Transactional
-    public void loadBuildingsFromJson() {
-        try {
-            log.info("🏢 건물 데이터 로드 시작");
-            
-            // 기존 샘플 데이터가 아닌 실제 데이터 삭제
-            clearExistingData();
-            
-            // JSON 파일 읽기
-            List<Map<String, Object>> buildingsData = readJsonFile();
-            
-            if (buildingsData.isEmpty()) {
-                log.warn("로드할 건물 데이터가 없습니다.");
-                return;
-            }
-            
-            log.info("📄 JSON 파일에서 {}개 건물 데이터 읽기 완료", buildingsData.size());
-            
-            // 건물 데이터 변환 및 저장
-            int successCount = 0;
-            for (Map<String, Object> buildingData : buildingsData) {
-                try {
-                    Building building = convertToBuilding(buildingData);
-                    buildingRepository.save(building);
-                    successCount++;
-                    
-                    if (successCount % 50 == 0) {
-                        log.info("📊 진행상황: {}/{} ({}%)", 
-                            successCount, buildingsData.size(), 
-                            successCount * 100 / buildingsData.size());
-                    }
-                } catch (Exception e) {
-                    log.error("건물 데이터 변환 실패: {}", buildingData.get("building_name"), e);
-                }
+    @Override
+    public List<Map<String, Object>> readRecords() throws IOException {
+        List<Map<String, Object>> buildingsData = readJsonFile();
+        log.info("📄 JSON 파일에서 {}개 건물 데이터 읽기 완료", buildingsData.size());
+        return buildingsData;
+    }
+    
+    /**
+     * 새 로드 시작 전 스테이징 테이블 재생성 (라이브 테이블은 건드리지 않음)
+     */
+    @Override
+    public void prepare() {
+        buildingStagingRepository.recreateStagingTable();
+        log.info("🧹 건물 스테이징 테이블 초기화 완료");
+    }
+    
+    /**
+     * 건물 데이터 청크 변환 후 스테이징 테이블에 저장 (호출자의 트랜잭션에서 실행)
+     */
+    @Override
+    public int importChunk(int offset, List<Map<String, Object>> records) {
+        List<Long> stagingIds = new ArrayList<>(records.size());
+        List<Building> buildings = new ArrayList<>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            Map<String, Object> buildingData = records.get(i);
+            try {
+                buildings.add(convertToBuilding(buildingData));
+                stagingIds.add((long) offset + i + 1);
+            } catch (Exception e) {
+                log.error("건물 데이터 변환 실패: {}", buildingData.get("building_name"), e);
             }
-            
-            log.info("✅ 건물 데이터 로드 완료!");
-            log.info("  - 성공: {}개", successCount);
-            log.info("  - 실패: {}개", buildingsData.size() - successCount);
-            log.info("  - 성공률: {}%", successCount * 100 / buildingsData.size());
-            
-        } catch (Exception e) {
-            log.error("건물 데이터 로드 중 오류 발생", e);
-            throw new RuntimeException("건물 데이터 로드 실패", e);
         }
+        if (!buildings.isEmpty()) {
+            buildingStagingRepository.insertStaging(stagingIds, buildings);
+        }
+        return buildings.size();
+    }
+    
+    /**
+     * 스테이징 데이터 검증 후 라이브 테이블에 반영 (호출자의 트랜잭션 하나에서 실행)
+     * 검증에 실패하면 예외를 던지고 라이브 테이블은 변경되지 않습니다.
+     */
+    @Override
+    public void complete() {
+        buildingStagingRepository.createStagingIndexes();
+        validateStaging();
+        
+        int[] result = buildingStagingRepository.swapIntoLive(SAMPLE_BUILDING_NAMES);
+        log.info("🔁 건물 데이터 교체 완료: 갱신 {}개, 추가 {}개, 삭제 {}개", result[0], result[1], result[2]);
+        
+        // 커밋 후 인메모리 인덱스 재구성
+        catalogIndexService.markDirty();
+    }
+    
+    /**
+     * 스테이징 검증: 행 수, 기존 대비 비율, 좌표 범위
+     */
+    private void validateStaging() {
+        long stagingCount = buildingStagingRepository.countStaging();
+        if (stagingCount == 0) {
+            throw new RuntimeException("스테이징 건물 데이터가 비어 있어 교체를 중단합니다.");
+        }
+        
+        long liveCount = buildingStagingRepository.countLiveExcluding(SAMPLE_BUILDING_NAMES);
+        if (liveCount > 0 && stagingCount < liveCount * minRowRatio) {
+            throw new RuntimeException("스테이징 건물 수(" + stagingCount + ")가 기존 건물 수(" + liveCount +
+                    ")의 " + (int) (minRowRatio * 100) + "% 미만이라 교체를 중단합니다.");
+        }
+        
+        long invalidCount = buildingStagingRepository.countStagingOutOfBounds(
+                MIN_LATITUDE, MAX_LATITUDE, MIN_LONGITUDE, MAX_LONGITUDE);
+        if (invalidCount > stagingCount * maxInvalidCoordinateRatio) {
+            throw new RuntimeException("좌표가 유효 범위를 벗어난 건물이 " + invalidCount + "개로 너무 많아 교체를 중단합니다.");
+        }
+        
+        log.info("✅ 스테이징 검증 통과: 스테이징 {}개, 기존 {}개, 좌표 이상 {}개", stagingCount, liveCount, invalidCount);
     }
     
     /**
@@ -80,10 +150,9 @@ public class BuildingDataLoaderService {
     public void clearExistingData() {
         try {
             // 샘플 데이터는 유지하고 실제 데이터만 삭제
-            int deletedCount = buildingRepository.deleteByBuildingNameNotIn(
-                List.of("캠퍼스 하우스 A동", "캠퍼스 하우스 B동", "하이빌 영통")
-            );
+            int deletedCount = buildingRepository.deleteByBuildingNameNotIn(SAMPLE_BUILDING_NAMES);
             log.info("🗑️ 기존 데이터 삭제 완료: {}개 건물", deletedCount);
+            catalogIndexService.markDirty();
         } catch (Exception e) {
             log.error("기존 데이터 삭제 실패", e);
         }
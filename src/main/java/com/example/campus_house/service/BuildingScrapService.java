@@ -1,11 +1,12 @@
 package com.example.campus_house.service;
 
-import com.example.campus_house.entity.Building;
 import com.example.campus_house.entity.BuildingScrap;
-import com.example.campus_house.entity.User;
 import com.example.campus_house.repository.BuildingScrapRepository;
-import com.example.campus_house.repository.UserRepository;
+import com.example.campus_house.repository.CounterRepository.Counter;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -17,55 +18,37 @@ import java.util.Optional;
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Slf4j
 public class BuildingScrapService {
     
     private final BuildingScrapRepository buildingScrapRepository;
     private final BuildingService buildingService;
-    private final UserRepository userRepository;
+    private final CounterService counterService;
     
-    // 건물 스크랩
+    // 건물 스크랩 (유니크 제약 기반 한 문장으로 추가, 이미 스크랩했으면 기존 스크랩 반환)
     @Transactional
     public BuildingScrap scrapBuilding(Long userId, Long buildingId) {
-        // 이미 스크랩했는지 확인
-        Optional<BuildingScrap> existingScrap = buildingScrapRepository.findByUserIdAndBuildingId(userId, buildingId);
-        if (existingScrap.isPresent()) {
-            throw new RuntimeException("이미 스크랩한 건물입니다.");
+        Optional<Long> scrapId = buildingScrapRepository.insertIfAbsent(userId, buildingId);
+        if (scrapId.isEmpty()) {
+            // 이미 스크랩했거나 건물이 없음
+            return buildingScrapRepository.findByUserIdAndBuildingId(userId, buildingId)
+                    .orElseThrow(() -> new RuntimeException("건물을 찾을 수 없습니다."));
         }
         
-        // 건물 존재 확인
-        Building building = buildingService.getBuildingById(buildingId)
-                .orElseThrow(() -> new RuntimeException("건물을 찾을 수 없습니다."));
-        
-        // 사용자 조회
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-        
-        // 스크랩 생성
-        BuildingScrap scrap = BuildingScrap.builder()
-                .user(user)
-                .building(building)
-                .buildingName(building.getBuildingName())
-                .buildingAddress(building.getAddress())
-                .build();
-        
-        BuildingScrap savedScrap = buildingScrapRepository.save(scrap);
-        
         // 건물의 스크랩 수 증가
         buildingService.incrementScrapCount(buildingId);
         
-        return savedScrap;
+        return buildingScrapRepository.findById(scrapId.get())
+                .orElseThrow(() -> new RuntimeException("스크랩을 찾을 수 없습니다."));
     }
     
-    // 건물 스크랩 취소
+    // 건물 스크랩 취소 (스크랩하지 않은 건물이면 아무것도 하지 않음)
     @Transactional
     public void unscrapBuilding(Long userId, Long buildingId) {
-        BuildingScrap scrap = buildingScrapRepository.findByUserIdAndBuildingId(userId, buildingId)
-                .orElseThrow(() -> new RuntimeException("스크랩한 건물이 아닙니다."));
-        
-        buildingScrapRepository.delete(scrap);
-        
-        // 건물의 스크랩 수 감소
-        buildingService.decrementScrapCount(buildingId);
+        if (buildingScrapRepository.deleteIfPresent(userId, buildingId) > 0) {
+            // 건물의 스크랩 수 감소
+            buildingService.decrementScrapCount(buildingId);
+        }
     }
     
     // 사용자의 건물 스크랩 목록 조회 (페이징)
@@ -97,4 +80,23 @@ public class BuildingScrapService {
     public Long getUserScrapCount(Long userId) {
         return buildingScrapRepository.countByUserId(userId);
     }
+    
+    /**
+     * 스크랩 유니크 제약 보장 (스크랩 추가의 ON CONFLICT가 이 제약에 의존)
+     * 예전 확인 후 추가 방식으로 생긴 중복이 있으면 스키마 갱신의 제약 추가가 실패하므로,
+     * 중복을 먼저 정리하고 제약이 없을 때만 추가합니다. 정리한 만큼 건물 스크랩 수도 다시 계산합니다.
+     */
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureUniqueScraps() {
+        if (buildingScrapRepository.existsUniqueUserBuildingConstraint()) {
+            return;
+        }
+        int removed = buildingScrapRepository.deleteDuplicateScraps();
+        buildingScrapRepository.addUniqueUserBuildingConstraint();
+        if (removed > 0) {
+            counterService.reconcile(Counter.BUILDING_SCRAP);
+        }
+        log.info("건물 스크랩 유니크 제약 추가: 중복 스크랩 {}개 정리", removed);
+    }
 }
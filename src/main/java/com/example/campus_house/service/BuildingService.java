@@ -2,17 +2,25 @@ package com.example.campus_house.service;
 
 import com.example.campus_house.entity.Building;
 import com.example.campus_house.repository.BuildingRepository;
+import com.example.campus_house.repository.CounterRepository.Counter;
+import com.example.campus_house.util.CatalogIndex;
+import com.example.campus_house.util.CursorUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -22,12 +30,28 @@ public class BuildingService {
     
     private final BuildingRepository buildingRepository;
     private final NearbyFacilityService nearbyFacilityService;
+    private final CatalogIndexService catalogIndexService;
+    private final CounterService counterService;
     
     // 모든 건물 조회
     public Page<Building> getAllBuildings(Pageable pageable) {
         return buildingRepository.findAll(pageable);
     }
     
+    // 모든 건물 커서 조회 (최신순, OFFSET/COUNT 없음, 포맷팅 적용)
+    public Slice<Building> getBuildingSlice(String cursor, int size) {
+        Pageable pageable = CursorUtil.pageRequest(size);
+        Slice<Building> buildings;
+        if (CursorUtil.isFirstPage(cursor)) {
+            buildings = buildingRepository.findFeed(pageable);
+        } else {
+            CursorUtil.Key key = CursorUtil.decode(cursor);
+            buildings = buildingRepository.findFeedBefore(key.createdAt(), key.id(), pageable);
+        }
+        buildings.forEach(this::getFormattedBuilding);
+        return buildings;
+    }
+    
     // 건물 ID로 조회
     public Optional<Building> getBuildingById(Long buildingId) {
         return buildingRepository.findById(buildingId);
@@ -35,15 +59,46 @@ public class BuildingService {
     
     // 키워드로 건물 검색
     public Page<Building> searchBuildingsByKeyword(String keyword, Pageable pageable) {
+        if (catalogIndexService.isReady()) {
+            return findByIds(catalogIndexService.getIndex().searchBuildingIds(keyword), pageable);
+        }
         return buildingRepository.findByKeyword(keyword, pageable);
     }
     
     
     // 위치 기반 검색
     public Page<Building> searchBuildingsByLocation(Double latitude, Double longitude, Double radiusKm, Pageable pageable) {
+        if (catalogIndexService.isReady()) {
+            CatalogIndex index = catalogIndexService.getIndex();
+            return findByIds(index.findBuildingIdsWithinRadius(latitude, longitude, radiusKm), pageable);
+        }
         return buildingRepository.findByLocationWithinRadius(latitude, longitude, radiusKm, pageable);
     }
     
+    /**
+     * 인메모리 인덱스로 찾은 ID 목록을 페이지로 조회
+     * 인덱스 순서(거리순/관련도순)대로 메모리에서 자른 뒤 해당 페이지의 ID만 조회하므로 IN 목록은 페이지 크기를 넘지 않습니다.
+     * (정렬은 인덱스 순서를 따르고 요청의 sort는 적용하지 않음)
+     */
+    private Page<Building> findByIds(List<Long> ids, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            pageable = PageRequest.of(0, CursorUtil.MAX_PAGE_SIZE);
+        }
+        if (pageable.getOffset() >= ids.size()) {
+            return new PageImpl<>(List.of(), pageable, ids.size());
+        }
+        int from = (int) pageable.getOffset();
+        List<Long> pageIds = ids.subList(from, Math.min(from + pageable.getPageSize(), ids.size()));
+        Map<Long, Building> buildings = buildingRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(Building::getId, building -> building));
+        // 인덱스 적재 후 삭제된 건물은 건너뜀
+        List<Building> content = pageIds.stream()
+                .map(buildings::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageImpl<>(content, pageable, ids.size());
+    }
+    
     // 보증금 범위로 검색
     public Page<Building> searchBuildingsByDepositRange(BigDecimal minDeposit, BigDecimal maxDeposit, Pageable pageable) {
         return buildingRepository.findByDepositBetween(minDeposit, maxDeposit, pageable);
@@ -89,6 +144,9 @@ public class BuildingService {
     
     // 건물 용도 목록 조회
     public java.util.List<String> getDistinctBuildingUsages() {
+        if (catalogIndexService.isReady()) {
+            return catalogIndexService.getIndex().getDistinctBuildingUsages();
+        }
         return buildingRepository.findDistinctBuildingUsages();
     }
     
@@ -119,7 +177,9 @@ public class BuildingService {
     // 건물 생성
     @Transactional
     public Building createBuilding(Building building) {
-        return buildingRepository.save(building);
+        Building saved = buildingRepository.save(building);
+        catalogIndexService.markDirty();
+        return saved;
     }
     
     // 건물 수정
@@ -169,7 +229,9 @@ public class BuildingService {
             building.setSchoolWalkingTime(updatedBuilding.getSchoolWalkingTime());
         }
         
-        return buildingRepository.save(building);
+        Building saved = buildingRepository.save(building);
+        catalogIndexService.markDirty();
+        return saved;
     }
     
     // 건물 삭제
@@ -179,29 +241,20 @@ public class BuildingService {
             throw new RuntimeException("건물을 찾을 수 없습니다.");
         }
         buildingRepository.deleteById(buildingId);
+        catalogIndexService.markDirty();
     }
     
     
-    // 스크랩 수 증가
+    // 스크랩 수 증가 (UPDATE 한 번으로 증감)
     @Transactional
     public void incrementScrapCount(Long buildingId) {
-        Building building = buildingRepository.findById(buildingId)
-                .orElseThrow(() -> new RuntimeException("건물을 찾을 수 없습니다."));
-        
-        building.setScrapCount(building.getScrapCount() != null ? building.getScrapCount() + 1 : 1);
-        buildingRepository.save(building);
+        counterService.increment(Counter.BUILDING_SCRAP, buildingId);
     }
     
-    // 스크랩 수 감소
+    // 스크랩 수 감소 (0 아래로 내려가지 않음)
     @Transactional
     public void decrementScrapCount(Long buildingId) {
-        Building building = buildingRepository.findById(buildingId)
-                .orElseThrow(() -> new RuntimeException("건물을 찾을 수 없습니다."));
-        
-        if (building.getScrapCount() != null && building.getScrapCount() > 0) {
-            building.setScrapCount(building.getScrapCount() - 1);
-            buildingRepository.save(building);
-        }
+        counterService.decrement(Counter.BUILDING_SCRAP, buildingId);
     }
     
     // ========== 주변 생활시설 관련 메서드 ==========
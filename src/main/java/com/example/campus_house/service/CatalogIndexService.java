@@ -0,0 +1,215 @@
+package com.example.campus_house.service;
+
+import com.example.campus_house.repository.BuildingRepository;
+import com.example.campus_house.repository.FacilityRepository;
+import com.example.campus_house.util.CatalogIndex;
+import com.example.campus_house.util.CatalogSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 건물/생활시설 카탈로그 인메모리 인덱스 관리
+ * 새 인덱스는 현재 인덱스와 별도로 구성한 뒤 volatile 참조 하나만 교체하므로,
+ * 조회 요청은 재구성 중에도 항상 완성된 인덱스를 봅니다.
+ * 재구성할 때마다 바이너리 스냅샷을 저장하고, 서버 시작 시 스냅샷이 최신이면 DB 대신 스냅샷에서 인덱스를 올립니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CatalogIndexService {
+
+    private final BuildingRepository buildingRepository;
+    private final FacilityRepository facilityRepository;
+
+    @Value("${catalog.snapshot.enabled:true}")
+    private boolean snapshotEnabled;
+
+    @Value("${catalog.snapshot.path:data/snapshot/catalog.bin}")
+    private String snapshotPath;
+
+    private volatile CatalogIndex current = CatalogIndex.empty();
+    private volatile boolean ready = false;
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+
+    // 현재 인덱스 (재구성 중에도 이전 인덱스를 그대로 반환)
+    public CatalogIndex getIndex() {
+        return current;
+    }
+
+    // 최초 구성이 끝났는지 여부 (false면 DB 쿼리로 처리)
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 서버 시작 시 인덱스 구성 (스냅샷이 없거나 오래된 경우에만 DB에서 구성)
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!loadSnapshot()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 데이터 변경 표시 (트랜잭션 안이면 커밋 후에 표시)
+     */
+    public void markDirty() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dirty.set(true);
+                }
+            });
+        } else {
+            dirty.set(true);
+        }
+    }
+
+    // 변경이 있으면 인덱스 재구성
+    @Scheduled(fixedDelayString = "${catalog.index.refresh-interval-ms:2000}")
+    public void rebuildIfDirty() {
+        if (dirty.compareAndSet(true, false)) {
+            rebuild();
+        }
+    }
+
+    /**
+     * DB에서 컬럼을 읽어 새 인덱스를 구성하고 참조를 교체
+     */
+    public synchronized void rebuild() {
+        try {
+            long start = System.currentTimeMillis();
+            // 행을 읽기 전에 fingerprint를 계산 (읽는 도중 변경되면 다음 시작 시 오래된 스냅샷으로 판단)
+            String fingerprint = snapshotEnabled ? computeFingerprint() : null;
+            CatalogIndex index = loadFromDatabase();
+            current = index;
+            ready = true;
+            log.info("🗂️ 카탈로그 인덱스 교체 완료: 건물 {}개, 생활시설 {}개 ({}ms)",
+                    index.getBuildingCount(), index.getFacilityCount(), System.currentTimeMillis() - start);
+
+            if (snapshotEnabled) {
+                writeSnapshot(index, fingerprint);
+            }
+        } catch (Exception e) {
+            dirty.set(true);
+            log.error("카탈로그 인덱스 구성 실패 (기존 인덱스 유지)", e);
+        }
+    }
+
+    /**
+     * 스냅샷이 있고 DB와 일치하면 메모리 매핑으로 읽어 인덱스로 사용
+     *
+     * @return 스냅샷 사용 여부
+     */
+    private boolean loadSnapshot() {
+        if (!snapshotEnabled) {
+            return false;
+        }
+        Path path = Paths.get(snapshotPath);
+        if (!Files.exists(path)) {
+            log.info("카탈로그 스냅샷이 없어 DB에서 인덱스를 구성합니다: {}", path);
+            return false;
+        }
+
+        try {
+            long start = System.currentTimeMillis();
+            CatalogSnapshot.Loaded loaded = CatalogSnapshot.read(path);
+            String fingerprint = computeFingerprint();
+            if (!fingerprint.equals(loaded.header().fingerprint())) {
+                log.info("카탈로그 스냅샷이 오래되어 DB에서 인덱스를 구성합니다. (스냅샷: {}, DB: {})",
+                        loaded.header().fingerprint(), fingerprint);
+                return false;
+            }
+
+            CatalogIndex index = loaded.index();
+            current = index;
+            ready = true;
+            log.info("🗂️ 카탈로그 스냅샷 로드 완료: 건물 {}개, 생활시설 {}개 ({}ms)",
+                    index.getBuildingCount(), index.getFacilityCount(), System.currentTimeMillis() - start);
+            return true;
+        } catch (Exception e) {
+            log.warn("카탈로그 스냅샷 로드 실패, DB에서 인덱스를 구성합니다: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void writeSnapshot(CatalogIndex index, String fingerprint) {
+        try {
+            CatalogSnapshot.write(Paths.get(snapshotPath), index, fingerprint);
+            log.info("💾 카탈로그 스냅샷 저장 완료: {}", snapshotPath);
+        } catch (Exception e) {
+            log.error("카탈로그 스냅샷 저장 실패: {}", snapshotPath, e);
+        }
+    }
+
+    // 건물/생활시설 테이블의 (행 수, 최대 ID, 최종 수정 시각)
+    private String computeFingerprint() {
+        return "v" + CatalogSnapshot.VERSION
+                + "|b:" + fingerprintOf(buildingRepository.findCatalogFingerprint())
+                + "|f:" + fingerprintOf(facilityRepository.findCatalogFingerprint());
+    }
+
+    private String fingerprintOf(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return "0";
+        }
+        Object[] row = rows.get(0);
+        return row[0] + ":" + row[1] + ":" + row[2];
+    }
+
+    private CatalogIndex loadFromDatabase() {
+        List<Object[]> buildings = buildingRepository.findCatalogRows();
+        int buildingCount = buildings.size();
+        long[] buildingIds = new long[buildingCount];
+        String[] buildingNames = new String[buildingCount];
+        String[] buildingAddresses = new String[buildingCount];
+        double[] buildingLatitudes = new double[buildingCount];
+        double[] buildingLongitudes = new double[buildingCount];
+        String[] buildingUsages = new String[buildingCount];
+        for (int i = 0; i < buildingCount; i++) {
+            Object[] row = buildings.get(i);
+            buildingIds[i] = ((Number) row[0]).longValue();
+            buildingNames[i] = (String) row[1];
+            buildingAddresses[i] = (String) row[2];
+            buildingLatitudes[i] = toDouble(row[3]);
+            buildingLongitudes[i] = toDouble(row[4]);
+            buildingUsages[i] = (String) row[5];
+        }
+
+        List<Object[]> facilities = facilityRepository.findCatalogRows();
+        int facilityCount = facilities.size();
+        long[] facilityIds = new long[facilityCount];
+        String[] facilityCategories = new String[facilityCount];
+        double[] facilityLatitudes = new double[facilityCount];
+        double[] facilityLongitudes = new double[facilityCount];
+        boolean[] facilityOperating = new boolean[facilityCount];
+        for (int i = 0; i < facilityCount; i++) {
+            Object[] row = facilities.get(i);
+            facilityIds[i] = ((Number) row[0]).longValue();
+            facilityCategories[i] = (String) row[1];
+            facilityLatitudes[i] = toDouble(row[2]);
+            facilityLongitudes[i] = toDouble(row[3]);
+            facilityOperating[i] = CatalogIndex.OPERATING_STATUS.equals(row[4]);
+        }
+
+        return new CatalogIndex(buildingIds, buildingNames, buildingAddresses, buildingLatitudes, buildingLongitudes,
+                buildingUsages, facilityIds, facilityCategories, facilityLatitudes, facilityLongitudes, facilityOperating);
+    }
+
+    private double toDouble(Object value) {
+        return value != null ? ((Number) value).doubleValue() : Double.NaN;
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.campus_house.service;
+
+import com.example.campus_house.entity.ChatArchiveBlock;
+import com.example.campus_house.repository.ChatArchiveBlockRepository;
+import com.example.campus_house.repository.ChatArchiveRepository;
+import com.example.campus_house.util.ChatArchiveCodec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅 메시지 보관(cold storage)
+ * 보관 기간이 지난 메시지를 채팅방·월 단위 압축 블록으로 옮겨 chat_messages(hot)를 최근 메시지만으로 유지하고,
+ * 메시지 목록 조회 시 hot 테이블 다음 페이지부터는 보관 블록에서 이어서 읽습니다.
+ */
+@Service
+@Slf4j
+public class ChatArchiveService {
+
+    private final ChatArchiveRepository chatArchiveRepository;
+    private final ChatArchiveBlockRepository chatArchiveBlockRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int horizonDays;
+    private final int blockSize;
+    private final int roomsPerRun;
+
+    public ChatArchiveService(ChatArchiveRepository chatArchiveRepository,
+                              ChatArchiveBlockRepository chatArchiveBlockRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${chat.archive.horizon-days:180}") int horizonDays,
+                              @Value("${chat.archive.block-size:500}") int blockSize,
+                              @Value("${chat.archive.rooms-per-run:1000}") int roomsPerRun) {
+        this.chatArchiveRepository = chatArchiveRepository;
+        this.chatArchiveBlockRepository = chatArchiveBlockRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.horizonDays = horizonDays;
+        this.blockSize = blockSize;
+        this.roomsPerRun = roomsPerRun;
+    }
+
+    /**
+     * 보관 기간이 지난 메시지를 블록으로 이동 (채팅방·블록 단위 트랜잭션)
+     *
+     * @return 이동한 메시지 수
+     */
+    public long archiveExpiredMessages() {
+        LocalDateTime horizon = LocalDateTime.now().minusDays(horizonDays);
+        long start = System.currentTimeMillis();
+        long archived = 0;
+        List<Long> roomIds = chatArchiveRepository.findRoomIdsWithMessagesBefore(horizon, roomsPerRun);
+        for (Long roomId : roomIds) {
+            try {
+                archived += archiveRoom(roomId, horizon);
+            } catch (Exception e) {
+                log.error("채팅 메시지 보관 실패: roomId={}", roomId, e);
+            }
+        }
+        if (archived > 0) {
+            log.info("채팅 메시지 보관 완료: 채팅방 {}개, 메시지 {}개 ({}ms)",
+                    roomIds.size(), archived, System.currentTimeMillis() - start);
+        }
+        return archived;
+    }
+
+    private long archiveRoom(Long roomId, LocalDateTime horizon) {
+        long archived = 0;
+        while (true) {
+            Integer moved = transactionTemplate.execute(status -> {
+                List<ChatArchiveCodec.ArchivedMessage> messages =
+                        chatArchiveRepository.findMessagesBefore(roomId, horizon, blockSize);
+                if (messages.isEmpty()) {
+                    return 0;
+                }
+                // 월이 바뀌는 지점에서 블록을 나눔
+                List<ChatArchiveBlock> blocks = new ArrayList<>();
+                int from = 0;
+                for (int i = 1; i <= messages.size(); i++) {
+                    if (i == messages.size() || monthOf(messages.get(i)) != monthOf(messages.get(from))) {
+                        blocks.add(toBlock(roomId, messages.subList(from, i)));
+                        from = i;
+                    }
+                }
+                chatArchiveBlockRepository.saveAll(blocks);
+                chatArchiveRepository.deleteByIds(messages.stream().map(ChatArchiveCodec.ArchivedMessage::id).toList());
+                return messages.size();
+            });
+            if (moved == null || moved == 0) {
+                return archived;
+            }
+            archived += moved;
+            if (moved < blockSize) {
+                return archived;
+            }
+        }
+    }
+
+    /**
+     * 보관 메시지 조회 (최신순)
+     *
+     * @param skip  최신 보관 메시지부터 건너뛸 개수
+     * @param limit 최대 개수
+     */
+    public List<ChatArchiveCodec.ArchivedMessage> getArchivedMessages(Long roomId, long skip, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        // 메타데이터로 필요한 블록만 선택 (건너뛸 블록은 압축 해제하지 않음)
+        List<Long> blockIds = new ArrayList<>();
+        long firstBlockSkip = 0;
+        long remainingSkip = skip;
+        long needed = limit;
+        for (Object[] row : chatArchiveBlockRepository.findBlockSizesByRoomId(roomId)) {
+            long count = ((Number) row[1]).longValue();
+            if (blockIds.isEmpty() && remainingSkip >= count) {
+                remainingSkip -= count;
+                continue;
+            }
+            if (blockIds.isEmpty()) {
+                firstBlockSkip = remainingSkip;
+                needed -= count - remainingSkip;
+            } else {
+                needed -= count;
+            }
+            blockIds.add(((Number) row[0]).longValue());
+            if (needed <= 0) {
+                break;
+            }
+        }
+        if (blockIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, ChatArchiveBlock> blocks = chatArchiveBlockRepository.findAllById(blockIds).stream()
+                .collect(Collectors.toMap(ChatArchiveBlock::getId, Function.identity()));
+        List<ChatArchiveCodec.ArchivedMessage> result = new ArrayList<>(limit);
+        long toSkip = firstBlockSkip;
+        for (Long blockId : blockIds) {
+            List<ChatArchiveCodec.ArchivedMessage> messages = new ArrayList<>(ChatArchiveCodec.decode(blocks.get(blockId).getPayload()));
+            Collections.reverse(messages);
+            for (ChatArchiveCodec.ArchivedMessage message : messages) {
+                if (toSkip > 0) {
+                    toSkip--;
+                    continue;
+                }
+                result.add(message);
+                if (result.size() == limit) {
+                    return result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private ChatArchiveBlock toBlock(Long roomId, List<ChatArchiveCodec.ArchivedMessage> messages) {
+        ChatArchiveCodec.ArchivedMessage first = messages.get(0);
+        ChatArchiveCodec.ArchivedMessage last = messages.get(messages.size() - 1);
+        return ChatArchiveBlock.builder()
+                .chatRoomId(roomId)
+                .periodMonth(monthOf(first))
+                .firstSeq(first.seq())
+                .lastSeq(last.seq())
+                .firstCreatedAt(first.createdAt())
+                .lastCreatedAt(last.createdAt())
+                .messageCount(messages.size())
+                .payload(ChatArchiveCodec.encode(messages))
+                .build();
+    }
+
+    private int monthOf(ChatArchiveCodec.ArchivedMessage message) {
+        return message.createdAt().getYear() * 100 + message.createdAt().getMonthValue();
+    }
+}
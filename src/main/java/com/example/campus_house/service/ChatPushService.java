@@ -0,0 +1,70 @@
+package com.example.campus_house.service;
+
+import com.example.campus_house.config.StompAuthChannelInterceptor;
+import com.example.campus_house.dto.ChatMessageResponse;
+import com.example.campus_house.dto.ChatUnreadEvent;
+import com.example.campus_house.dto.GroupChatMessageResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 채팅 WebSocket 푸시 서비스
+ * 트랜잭션 안에서 호출되면 커밋 후에 전송하므로 롤백된 메시지는 전송되지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ChatPushService {
+
+    public static final String UNREAD_QUEUE = "/queue/chat/unread";
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    // 채팅방 구독자에게 새 메시지 전송
+    public void publishMessage(Long roomId, ChatMessageResponse message) {
+        afterCommit(() -> messagingTemplate.convertAndSend(StompAuthChannelInterceptor.ROOM_TOPIC_PREFIX + roomId, message));
+    }
+
+    // 그룹 채팅방 구독자(접속 중인 멤버)에게 새 메시지 전송: 멤버 수와 관계없이 발행은 한 번
+    public void publishGroupMessage(Long roomId, GroupChatMessageResponse message) {
+        afterCommit(() -> messagingTemplate.convertAndSend(StompAuthChannelInterceptor.GROUP_TOPIC_PREFIX + roomId, message));
+    }
+
+    // 사용자에게 읽지 않은 메시지 수 변화량 전송
+    public void publishUnreadDelta(Long userId, Long roomId, long delta) {
+        ChatUnreadEvent event = ChatUnreadEvent.builder().roomId(roomId).delta(delta).reset(false).build();
+        afterCommit(() -> messagingTemplate.convertAndSendToUser(String.valueOf(userId), UNREAD_QUEUE, event));
+    }
+
+    // 사용자에게 채팅방 읽음 처리(0으로 초기화) 전송
+    public void publishUnreadReset(Long userId, Long roomId) {
+        ChatUnreadEvent event = ChatUnreadEvent.builder().roomId(roomId).delta(0L).reset(true).build();
+        afterCommit(() -> messagingTemplate.convertAndSendToUser(String.valueOf(userId), UNREAD_QUEUE, event));
+    }
+
+    private void afterCommit(Runnable task) {
+        Runnable safeTask = () -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                // 푸시 실패는 메시지 처리 실패로 간주하지 않음 (클라이언트는 폴링으로 보완)
+                log.warn("채팅 WebSocket 전송 실패: {}", e.getMessage());
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safeTask.run();
+                }
+            });
+        } else {
+            safeTask.run();
+        }
+    }
+}
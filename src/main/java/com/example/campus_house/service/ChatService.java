@@ -1,40 +1,77 @@
 package com.example.campus_house.service;
 
+import com.example.campus_house.dto.ChatMessageHistoryResponse;
 import com.example.campus_house.dto.ChatMessageResponse;
 import com.example.campus_house.dto.ChatRoomResponse;
+import com.example.campus_house.dto.ChatSyncRequest;
+import com.example.campus_house.dto.ChatSyncResponse;
 import com.example.campus_house.dto.SendMessageRequest;
 import com.example.campus_house.entity.ChatMessage;
 import com.example.campus_house.entity.ChatRoom;
 import com.example.campus_house.entity.User;
 import com.example.campus_house.repository.ChatMessageRepository;
+import com.example.campus_house.repository.ChatMessageSyncRepository;
 import com.example.campus_house.repository.ChatRoomRepository;
 import com.example.campus_house.repository.UserRepository;
+import com.example.campus_house.util.ChatArchiveCodec;
+import com.example.campus_house.util.CursorUtil;
 import com.example.campus_house.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Slf4j
 public class ChatService {
     
+    // 커서 조회 최대 메시지 수
+    private static final int MAX_HISTORY_SIZE = 100;
+    
+    // 동기화 요청 제한
+    private static final int MAX_SYNC_ROOMS = 100;
+    private static final int DEFAULT_SYNC_LIMIT_PER_ROOM = 100;
+    private static final int MAX_SYNC_LIMIT_PER_ROOM = 500;
+    
     private final ChatRoomRepository chatRoomRepository;
     private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageSyncRepository chatMessageSyncRepository;
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
     private final NotificationService notificationService;
+    private final ChatPushService chatPushService;
+    private final ChatWriteBehindService chatWriteBehindService;
+    private final UnreadCounterService unreadCounterService;
+    private final GroupChatService groupChatService;
+    private final ReadReceiptService readReceiptService;
+    private final ChatArchiveService chatArchiveService;
     
     // JWT 토큰에서 사용자 정보 추출
     private User getUserFromToken(String token) {
+        Long userId = getUserIdFromToken(token);
+        return userRepository.findByUserId(userId)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+    }
+    
+    // JWT 토큰에서 사용자 ID만 추출 (DB 조회 없음)
+    private Long getUserIdFromToken(String token) {
         if (token.startsWith("Bearer ")) {
             token = token.substring(7);
         }
@@ -43,9 +80,7 @@ public class ChatService {
             throw new RuntimeException("유효하지 않은 토큰입니다.");
         }
         
-        Long userId = jwtUtil.getUserIdFromToken(token);
-        return userRepository.findByUserId(userId)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+        return jwtUtil.getUserIdFromToken(token);
     }
     
     // 채팅방 생성 또는 조회
@@ -70,25 +105,13 @@ public class ChatService {
             chatRoom = ChatRoom.builder()
                     .user1(currentUser)
                     .user2(otherUser)
+                    .lastActivityAt(LocalDateTime.now())
                     .build();
             chatRoom = chatRoomRepository.save(chatRoom);
         }
         
-        // 마지막 메시지 정보 조회
-        String lastMessageContent = null;
-        LocalDateTime lastMessageTime = null;
-        Pageable pageable = PageRequest.of(0, 1);
-        List<ChatMessage> lastMessages = chatMessageRepository.findLastMessageByChatRoom(chatRoom, pageable);
-        if (!lastMessages.isEmpty()) {
-            ChatMessage lastMessage = lastMessages.get(0);
-            lastMessageContent = lastMessage.getContent();
-            lastMessageTime = lastMessage.getCreatedAt();
-        }
-        
-        // 읽지 않은 메시지 수 조회
-        Long unreadCount = chatMessageRepository.countUnreadMessagesByChatRoomAndUser(chatRoom, currentUser);
-        
-        return ChatRoomResponse.from(chatRoom, currentUser, lastMessageContent, lastMessageTime, unreadCount);
+        // 마지막 메시지/읽지 않은 수는 채팅방 요약 컬럼 사용
+        return ChatRoomResponse.from(chatRoom, currentUser);
     }
     
     // 사용자의 채팅방 목록 조회
@@ -102,30 +125,19 @@ public class ChatService {
             throw new RuntimeException("다른 사용자의 채팅방 목록을 조회할 수 없습니다.");
         }
         
-        List<ChatRoom> chatRooms = chatRoomRepository.findByUserOrderByCreatedAtDesc(targetUser);
-        
-        return chatRooms.stream().map(chatRoom -> {
-            // 마지막 메시지 정보 조회
-            String lastMessageContent = null;
-            LocalDateTime lastMessageTime = null;
-            Pageable pageable = PageRequest.of(0, 1);
-            List<ChatMessage> lastMessages = chatMessageRepository.findLastMessageByChatRoom(chatRoom, pageable);
-            if (!lastMessages.isEmpty()) {
-                ChatMessage lastMessage = lastMessages.get(0);
-                lastMessageContent = lastMessage.getContent();
-                lastMessageTime = lastMessage.getCreatedAt();
-            }
-            
-            // 읽지 않은 메시지 수 조회
-            Long unreadCount = chatMessageRepository.countUnreadMessagesByChatRoomAndUser(chatRoom, targetUser);
-            
-            return ChatRoomResponse.from(chatRoom, targetUser, lastMessageContent, lastMessageTime, unreadCount);
-        }).collect(Collectors.toList());
+        // 반영 대기 중인 읽음 처리를 먼저 반영한 뒤, 상대방 정보와 요약 컬럼을 포함한 단일 쿼리 (마지막 활동순)
+        readReceiptService.flushUser(targetUser.getUserId());
+        List<ChatRoom> chatRooms = chatRoomRepository.findByUserOrderByLastActivityAtDesc(targetUser);
+        
+        return chatRooms.stream()
+                .map(chatRoom -> ChatRoomResponse.from(chatRoom, targetUser))
+                .collect(Collectors.toList());
     }
     
     // 특정 채팅방 조회
     public ChatRoomResponse getChatRoom(String token, Long roomId) {
         User currentUser = getUserFromToken(token);
+        readReceiptService.flushUser(currentUser.getUserId());
         ChatRoom chatRoom = chatRoomRepository.findById(roomId)
                 .orElseThrow(() -> new RuntimeException("채팅방을 찾을 수 없습니다."));
         
@@ -134,21 +146,8 @@ public class ChatService {
             throw new RuntimeException("채팅방에 접근할 권한이 없습니다.");
         }
         
-        // 마지막 메시지 정보 조회
-        String lastMessageContent = null;
-        LocalDateTime lastMessageTime = null;
-        Pageable pageable = PageRequest.of(0, 1);
-        List<ChatMessage> lastMessages = chatMessageRepository.findLastMessageByChatRoom(chatRoom, pageable);
-        if (!lastMessages.isEmpty()) {
-            ChatMessage lastMessage = lastMessages.get(0);
-            lastMessageContent = lastMessage.getContent();
-            lastMessageTime = lastMessage.getCreatedAt();
-        }
-        
-        // 읽지 않은 메시지 수 조회
-        Long unreadCount = chatMessageRepository.countUnreadMessagesByChatRoomAndUser(chatRoom, currentUser);
-        
-        return ChatRoomResponse.from(chatRoom, currentUser, lastMessageContent, lastMessageTime, unreadCount);
+        // 마지막 메시지/읽지 않은 수는 채팅방 요약 컬럼 사용
+        return ChatRoomResponse.from(chatRoom, currentUser);
     }
     
     // 두 사용자 간 채팅방 조회
@@ -160,24 +159,12 @@ public class ChatService {
             throw new RuntimeException("채팅방에 접근할 권한이 없습니다.");
         }
         
+        readReceiptService.flushUser(currentUser.getUserId());
         ChatRoom chatRoom = chatRoomRepository.findByUserNames(user1Name, user2Name)
                 .orElseThrow(() -> new RuntimeException("채팅방을 찾을 수 없습니다."));
         
-        // 마지막 메시지 정보 조회
-        String lastMessageContent = null;
-        LocalDateTime lastMessageTime = null;
-        Pageable pageable = PageRequest.of(0, 1);
-        List<ChatMessage> lastMessages = chatMessageRepository.findLastMessageByChatRoom(chatRoom, pageable);
-        if (!lastMessages.isEmpty()) {
-            ChatMessage lastMessage = lastMessages.get(0);
-            lastMessageContent = lastMessage.getContent();
-            lastMessageTime = lastMessage.getCreatedAt();
-        }
-        
-        // 읽지 않은 메시지 수 조회
-        Long unreadCount = chatMessageRepository.countUnreadMessagesByChatRoomAndUser(chatRoom, currentUser);
-        
-        return ChatRoomResponse.from(chatRoom, currentUser, lastMessageContent, lastMessageTime, unreadCount);
+        // 마지막 메시지/읽지 않은 수는 채팅방 요약 컬럼 사용
+        return ChatRoomResponse.from(chatRoom, currentUser);
     }
     
     // 메시지 전송
@@ -200,9 +187,22 @@ public class ChatService {
             messageType = ChatMessage.MessageType.TEXT;
         }
         
+        // write-behind 모드: ID/순번만 부여하고 버퍼에 넣은 뒤 바로 응답 (저장/알림/푸시는 일괄 처리)
+        boolean sentByUser1 = chatRoom.getUser1().equals(currentUser);
+        User receiver = sentByUser1 ? chatRoom.getUser2() : chatRoom.getUser1();
+        if (chatWriteBehindService.isEnabled()) {
+            return chatWriteBehindService.enqueue(chatRoom, currentUser, receiver, sentByUser1,
+                    request.getContent(), request.getImageUrl(), messageType);
+        }
+        
+        // 채팅방 순번 부여 (채팅방 행의 원자적 카운터)
+        chatRoomRepository.incrementMessageSeq(chatRoom.getId());
+        Long seq = chatRoomRepository.findMessageSeq(chatRoom.getId());
+        
         // 메시지 생성 및 저장
         ChatMessage message = ChatMessage.builder()
                 .chatRoom(chatRoom)
+                .seq(seq)
                 .sender(currentUser)
                 .content(request.getContent())
                 .imageUrl(request.getImageUrl())
@@ -211,8 +211,16 @@ public class ChatService {
         
         message = chatMessageRepository.save(message);
         
+        // 채팅방 요약 갱신: 마지막 메시지 + 수신자 읽지 않은 수 증가 (단일 UPDATE)
+        String preview = ChatRoom.toPreview(message.getContent());
+        if (sentByUser1) {
+            chatRoomRepository.recordMessageToUser2(chatRoom.getId(), message.getId(), message.getSeq(), preview, message.getCreatedAt());
+        } else {
+            chatRoomRepository.recordMessageToUser1(chatRoom.getId(), message.getId(), message.getSeq(), preview, message.getCreatedAt());
+        }
+        unreadCounterService.addChatUnread(receiver.getUserId(), 1);
+        
         // 채팅 알림: 상대 사용자에게 새 메시지 알림 생성
-        User receiver = chatRoom.getUser1().equals(currentUser) ? chatRoom.getUser2() : chatRoom.getUser1();
         try {
             notificationService.createNotificationFromUser(
                     receiver.getUserId(),
@@ -226,6 +234,11 @@ public class ChatService {
         } catch (Exception ignore) {
             // 알림 실패는 메시지 전송 실패로 간주하지 않음
         }
+        
+        // 실시간 전송: 채팅방 구독자에게 메시지, 상대방에게 읽지 않은 수 +1 (커밋 후)
+        // 구독자 모두가 받는 메시지이므로 isFromCurrentUser 없이 전송 (클라이언트가 senderId로 판단)
+        chatPushService.publishMessage(chatRoom.getId(), ChatMessageResponse.from(message, null));
+        chatPushService.publishUnreadDelta(receiver.getUserId(), chatRoom.getId(), 1);
 
         return ChatMessageResponse.from(message, currentUser);
     }
@@ -241,17 +254,62 @@ public class ChatService {
             throw new RuntimeException("채팅방에 접근할 권한이 없습니다.");
         }
         
+        // COUNT 쿼리가 필요 없으므로 Slice로 조회
         Pageable pageable = PageRequest.of(page, size);
-        Page<ChatMessage> messagePage = chatMessageRepository.findByChatRoomOrderByCreatedAtDesc(chatRoom, pageable);
+        Slice<ChatMessage> messageSlice = chatMessageRepository.findLatestByChatRoom(chatRoom, pageable);
         
-        return messagePage.getContent().stream()
+        List<ChatMessageResponse> responses = messageSlice.getContent().stream()
                 .map(message -> ChatMessageResponse.from(message, currentUser))
-                .collect(Collectors.toList());
+                .collect(Collectors.toCollection(ArrayList::new));
+        if (messageSlice.hasNext()) {
+            return responses;
+        }
+        
+        // hot 테이블이 끝나면 보관 블록에서 이어서 조회 (hot 테이블 전체 개수 이후 위치부터)
+        long hotCount = responses.isEmpty() && page > 0
+                ? chatMessageRepository.countByChatRoom(chatRoom)
+                : (long) page * size + responses.size();
+        long archiveSkip = Math.max(0, (long) page * size - hotCount);
+        List<ChatArchiveCodec.ArchivedMessage> archived =
+                chatArchiveService.getArchivedMessages(chatRoom.getId(), archiveSkip, size - responses.size());
+        if (!archived.isEmpty()) {
+            Map<Long, User> senders = userRepository.findAllById(
+                    archived.stream().map(ChatArchiveCodec.ArchivedMessage::senderId).distinct().toList())
+                    .stream().collect(Collectors.toMap(User::getUserId, user -> user));
+            for (ChatArchiveCodec.ArchivedMessage message : archived) {
+                responses.add(ChatMessageResponse.from(toChatMessage(chatRoom, message, senders), currentUser));
+            }
+        }
+        return responses;
     }
     
-    // 메시지 읽음 처리
-    @Transactional
-    public void markAsRead(String token, Long roomId) {
+    // 보관 메시지를 응답 변환용 ChatMessage로 복원 (탈퇴한 발신자는 이름 없이 표시)
+    private ChatMessage toChatMessage(ChatRoom chatRoom, ChatArchiveCodec.ArchivedMessage message, Map<Long, User> senders) {
+        User sender = senders.get(message.senderId());
+        if (sender == null) {
+            sender = User.builder().userId(message.senderId()).nickname("알 수 없음").build();
+        }
+        return ChatMessage.builder()
+                .id(message.id())
+                .chatRoom(chatRoom)
+                .sender(sender)
+                .seq(message.seq())
+                .content(message.content())
+                .imageUrl(message.imageUrl())
+                .type(ChatMessage.MessageType.valueOf(message.type()))
+                .createdAt(message.createdAt())
+                .build();
+    }
+    
+    /**
+     * 커서 기반 메시지 조회 ((createdAt, id) 키셋, OFFSET/COUNT 없음)
+     * - before: 커서보다 오래된 메시지
+     * - after: 커서보다 최근 메시지
+     * - around: 커서 메시지를 중심으로 앞뒤 메시지
+     * - 모두 없으면 최신 메시지
+     */
+    public ChatMessageHistoryResponse getMessageHistory(String token, Long roomId, String before, String after,
+                                                        String around, int size) {
         User currentUser = getUserFromToken(token);
         ChatRoom chatRoom = chatRoomRepository.findById(roomId)
                 .orElseThrow(() -> new RuntimeException("채팅방을 찾을 수 없습니다."));
@@ -261,9 +319,123 @@ public class ChatService {
             throw new RuntimeException("채팅방에 접근할 권한이 없습니다.");
         }
         
-        // 마지막 읽음 시간 업데이트
-        chatRoom.setLastReadTime(currentUser, LocalDateTime.now());
-        chatRoomRepository.save(chatRoom);
+        int limit = Math.max(1, Math.min(size, MAX_HISTORY_SIZE));
+        List<ChatMessage> messages = new ArrayList<>();
+        Boolean hasOlder = null;
+        Boolean hasNewer = null;
+        
+        if (around != null) {
+            CursorUtil.Key key = CursorUtil.decode(around);
+            int olderLimit = (limit + 1) / 2;
+            Slice<ChatMessage> older = chatMessageRepository.findAtOrBeforeCursor(
+                    chatRoom, key.createdAt(), key.id(), PageRequest.of(0, olderLimit));
+            Slice<ChatMessage> newer = chatMessageRepository.findAfterCursor(
+                    chatRoom, key.createdAt(), key.id(), PageRequest.of(0, Math.max(1, limit - olderLimit)));
+            messages.addAll(older.getContent());
+            Collections.reverse(messages);
+            messages.addAll(newer.getContent());
+            hasOlder = older.hasNext();
+            hasNewer = newer.hasNext();
+        } else if (after != null) {
+            CursorUtil.Key key = CursorUtil.decode(after);
+            Slice<ChatMessage> newer = chatMessageRepository.findAfterCursor(
+                    chatRoom, key.createdAt(), key.id(), PageRequest.of(0, limit));
+            messages.addAll(newer.getContent());
+            hasNewer = newer.hasNext();
+        } else {
+            Slice<ChatMessage> older = before != null
+                    ? findBefore(chatRoom, CursorUtil.decode(before), limit)
+                    : chatMessageRepository.findLatestByChatRoom(chatRoom, PageRequest.of(0, limit));
+            messages.addAll(older.getContent());
+            Collections.reverse(messages);
+            hasOlder = older.hasNext();
+            if (before == null) {
+                hasNewer = false;
+            }
+        }
+        
+        ChatMessage oldest = messages.isEmpty() ? null : messages.get(0);
+        ChatMessage newest = messages.isEmpty() ? null : messages.get(messages.size() - 1);
+        
+        return ChatMessageHistoryResponse.builder()
+                .messages(messages.stream()
+                        .map(message -> ChatMessageResponse.from(message, currentUser))
+                        .collect(Collectors.toList()))
+                .hasOlder(hasOlder)
+                .hasNewer(hasNewer)
+                .olderCursor(oldest != null ? CursorUtil.encode(oldest.getCreatedAt(), oldest.getId()) : before)
+                .newerCursor(newest != null ? CursorUtil.encode(newest.getCreatedAt(), newest.getId()) : after)
+                .build();
+    }
+    
+    private Slice<ChatMessage> findBefore(ChatRoom chatRoom, CursorUtil.Key key, int limit) {
+        return chatMessageRepository.findBeforeCursor(chatRoom, key.createdAt(), key.id(), PageRequest.of(0, limit));
+    }
+    
+    /**
+     * 재연결 동기화: 여러 채팅방의 afterSeq 이후 메시지를 한 번에 조회
+     */
+    public ChatSyncResponse syncMessages(String token, ChatSyncRequest request) {
+        User currentUser = getUserFromToken(token);
+        if (request.getRooms() == null || request.getRooms().isEmpty()) {
+            return ChatSyncResponse.builder().rooms(List.of()).build();
+        }
+        if (request.getRooms().size() > MAX_SYNC_ROOMS) {
+            throw new RuntimeException("한 번에 동기화할 수 있는 채팅방은 최대 " + MAX_SYNC_ROOMS + "개입니다.");
+        }
+        
+        Map<Long, Long> afterSeqByRoom = new LinkedHashMap<>();
+        for (ChatSyncRequest.RoomCursor room : request.getRooms()) {
+            if (room.getRoomId() != null) {
+                afterSeqByRoom.put(room.getRoomId(), room.getAfterSeq() != null ? room.getAfterSeq() : 0L);
+            }
+        }
+        
+        // 채팅방 참여자 확인
+        List<Long> accessibleRoomIds = chatRoomRepository.findParticipatingRoomIds(afterSeqByRoom.keySet(), currentUser);
+        if (accessibleRoomIds.size() != afterSeqByRoom.size()) {
+            throw new RuntimeException("채팅방에 접근할 권한이 없습니다.");
+        }
+        
+        int limitPerRoom = request.getLimitPerRoom() != null
+                ? Math.max(1, Math.min(request.getLimitPerRoom(), MAX_SYNC_LIMIT_PER_ROOM))
+                : DEFAULT_SYNC_LIMIT_PER_ROOM;
+        
+        // 채팅방별로 한 개 더 조회해 남은 메시지 여부 판단
+        List<Long> messageIds = chatMessageSyncRepository.findMessageIdsAfterSeq(afterSeqByRoom, limitPerRoom + 1);
+        Map<Long, List<ChatMessage>> messagesByRoom = new HashMap<>();
+        if (!messageIds.isEmpty()) {
+            for (ChatMessage message : chatMessageRepository.findAllWithSenderByIdIn(messageIds)) {
+                messagesByRoom.computeIfAbsent(message.getChatRoom().getId(), k -> new ArrayList<>()).add(message);
+            }
+        }
+        
+        List<ChatSyncResponse.RoomSync> rooms = new ArrayList<>(afterSeqByRoom.size());
+        for (Map.Entry<Long, Long> entry : afterSeqByRoom.entrySet()) {
+            List<ChatMessage> messages = messagesByRoom.getOrDefault(entry.getKey(), List.of());
+            boolean hasMore = messages.size() > limitPerRoom;
+            if (hasMore) {
+                messages = messages.subList(0, limitPerRoom);
+            }
+            Long lastSeq = messages.isEmpty() ? entry.getValue() : messages.get(messages.size() - 1).getSeq();
+            
+            rooms.add(ChatSyncResponse.RoomSync.builder()
+                    .roomId(entry.getKey())
+                    .messages(messages.stream()
+                            .map(message -> ChatMessageResponse.from(message, currentUser))
+                            .collect(Collectors.toList()))
+                    .lastSeq(lastSeq)
+                    .hasMore(hasMore)
+                    .build());
+        }
+        
+        return ChatSyncResponse.builder().rooms(rooms).build();
+    }
+    
+    // 메시지 읽음 처리 (메모리에 모아 두었다가 1초마다 일괄 반영, 최신 읽음 시간 우선)
+    public void markAsRead(String token, Long roomId) {
+        Long userId = getUserIdFromToken(token);
+        readReceiptService.markRead(roomId, userId);
     }
     
     // 읽지 않은 메시지 수 조회
@@ -275,7 +447,10 @@ public class ChatService {
             throw new RuntimeException("다른 사용자의 읽지 않은 메시지 수를 조회할 수 없습니다.");
         }
         
-        return chatMessageRepository.countUnreadMessagesByUser(currentUser);
+        // 1:1 채팅 카운터 + 그룹 채팅 읽음 커서 기준 읽지 않은 수
+        readReceiptService.flushUser(currentUser.getUserId());
+        return unreadCounterService.getChatUnread(currentUser.getUserId())
+                + groupChatService.getUnreadCount(currentUser.getUserId());
     }
     
     // 특정 채팅방의 읽지 않은 메시지 수 조회
@@ -287,6 +462,7 @@ public class ChatService {
             throw new RuntimeException("다른 사용자의 읽지 않은 메시지 수를 조회할 수 없습니다.");
         }
         
+        readReceiptService.flushUser(currentUser.getUserId());
         ChatRoom chatRoom = chatRoomRepository.findById(roomId)
                 .orElseThrow(() -> new RuntimeException("채팅방을 찾을 수 없습니다."));
         
@@ -295,6 +471,23 @@ public class ChatService {
             throw new RuntimeException("채팅방에 접근할 권한이 없습니다.");
         }
         
-        return chatMessageRepository.countUnreadMessagesByChatRoomAndUser(chatRoom, currentUser);
+        return chatRoom.getUnreadCount(currentUser);
+    }
+    
+    // 요약 컬럼 도입 이전 채팅방의 마지막 메시지/읽지 않은 수 채우기 (한 번만 실행됨)
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillRoomSummaries() {
+        int updated = chatRoomRepository.backfillRoomSummaries();
+        if (updated > 0) {
+            log.info("채팅방 요약 정보 채우기 완료: {}개", updated);
+        }
+        
+        // 순번 도입 이전 메시지에 순번 부여
+        if (chatMessageRepository.existsBySeqIsNull()) {
+            int numbered = chatRoomRepository.backfillMessageSeq();
+            chatRoomRepository.syncMessageSeqCounters();
+            log.info("채팅 메시지 순번 부여 완료: {}개", numbered);
+        }
     }
 }
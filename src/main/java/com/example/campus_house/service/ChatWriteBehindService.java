@@ -0,0 +1,387 @@
+package com.example.campus_house.service;
+
+import com.example.campus_house.dto.ChatMessageResponse;
+import com.example.campus_house.entity.ChatMessage;
+import com.example.campus_house.entity.ChatRoom;
+import com.example.campus_house.entity.Notification;
+import com.example.campus_house.entity.User;
+import com.example.campus_house.repository.ChatMessageBatchRepository;
+import com.example.campus_house.repository.NotificationBatchRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메시지 write-behind 저장 (chat.write-behind.enabled=true일 때만 사용)
+ * 메시지는 ID만 즉시 부여받아 유한 버퍼에 들어가고, 전용 스레드가 N개 또는 일정 시간마다
+ * 다중 행 INSERT 한 번과 채팅방 요약 UPDATE 한 번(각각 unnest 배열 파라미터를 쓰는 SQL 한 문장)으로 저장합니다.
+ * 채팅방 순번은 저장하는 트랜잭션에서 동기 전송과 같은 채팅방 행 카운터로 부여하므로, 서버가 여러 대이거나
+ * 동기 경로와 섞여도 순번이 겹치지 않고 커밋 순서와 순번 순서가 같습니다 (응답에는 순번이 없고 푸시 메시지에 포함).
+ * 이미 응답한 메시지는 버리지 않고 저장될 때까지 재시도하며, 저장이 실패하는 동안과 버퍼가 가득 찬 동안에는
+ * 새 메시지를 거절합니다(backpressure). 종료 시에는 shutdown-timeout-ms 동안 버퍼를 저장하고,
+ * 그 안에 저장하지 못한 메시지는 ID와 내용을 ERROR 로그로 남긴 뒤 종료를 계속합니다.
+ */
+@Service
+@Slf4j
+public class ChatWriteBehindService implements SmartLifecycle {
+
+    private static final long INITIAL_RETRY_BACKOFF_MS = 50;
+    private static final long MAX_RETRY_BACKOFF_MS = 5000;
+
+    private final ChatMessageBatchRepository chatMessageBatchRepository;
+    private final NotificationService notificationService;
+    private final ChatPushService chatPushService;
+    private final UnreadCounterService unreadCounterService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long offerTimeoutMs;
+    private final int idBlockSize;
+    private final long shutdownTimeoutMs;
+
+    private final BlockingQueue<PendingMessage> buffer;
+    private final Deque<Long> idPool = new ArrayDeque<>();
+
+    private volatile boolean running = false;
+    private volatile boolean accepting = false;
+    // 저장이 실패해 재시도 중 (그동안 새 메시지 거절)
+    private volatile boolean stalled = false;
+    // 종료 시 남은 메시지 저장을 포기하는 시각 (종료 전에는 Long.MAX_VALUE)
+    private volatile long drainDeadlineMs = Long.MAX_VALUE;
+    // 작업자 스레드가 저장 중인 배치 (종료 시간 초과 시 로그로 남기기 위함)
+    private volatile List<PendingMessage> inFlight = List.of();
+    private Thread worker;
+
+    public ChatWriteBehindService(ChatMessageBatchRepository chatMessageBatchRepository,
+                                  NotificationService notificationService,
+                                  ChatPushService chatPushService,
+                                  UnreadCounterService unreadCounterService,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${chat.write-behind.enabled:false}") boolean enabled,
+                                  @Value("${chat.write-behind.buffer-capacity:10000}") int bufferCapacity,
+                                  @Value("${chat.write-behind.batch-size:200}") int batchSize,
+                                  @Value("${chat.write-behind.flush-interval-ms:20}") long flushIntervalMs,
+                                  @Value("${chat.write-behind.offer-timeout-ms:100}") long offerTimeoutMs,
+                                  @Value("${chat.write-behind.id-block-size:100}") int idBlockSize,
+                                  @Value("${chat.write-behind.shutdown-timeout-ms:10000}") long shutdownTimeoutMs) {
+        this.chatMessageBatchRepository = chatMessageBatchRepository;
+        this.notificationService = notificationService;
+        this.chatPushService = chatPushService;
+        this.unreadCounterService = unreadCounterService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.idBlockSize = idBlockSize;
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+    }
+
+    /**
+     * 버퍼에 들어간 메시지 (수신자 정보 포함)
+     */
+    private record PendingMessage(ChatMessage message, User receiver, boolean sentByUser1) {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 현재 버퍼에 쌓인 메시지 수
+    public int getPendingCount() {
+        return buffer.size();
+    }
+
+    /**
+     * 메시지에 ID를 부여하고 버퍼에 추가 (저장과 순번 부여는 비동기)
+     *
+     * @return 발신자에게 돌려줄 응답 (서버가 부여한 ID 포함, 순번은 저장 후 푸시되는 메시지에 포함)
+     */
+    public ChatMessageResponse enqueue(ChatRoom chatRoom, User sender, User receiver, boolean sentByUser1,
+                                       String content, String imageUrl, ChatMessage.MessageType type) {
+        if (!accepting) {
+            throw new RuntimeException("채팅 서버가 종료 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+        if (stalled) {
+            throw new RuntimeException("메시지를 저장할 수 없어 잠시 전송할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        ChatMessage message = ChatMessage.builder()
+                .id(nextId())
+                .chatRoom(chatRoom)
+                .sender(sender)
+                .content(content)
+                .imageUrl(imageUrl)
+                .type(type)
+                .createdAt(LocalDateTime.now())
+                .build();
+        // 버퍼에 넣은 뒤에는 작업자 스레드가 순번을 채우므로 응답은 미리 만들어 둠
+        ChatMessageResponse response = ChatMessageResponse.from(message, sender);
+
+        try {
+            if (!buffer.offer(new PendingMessage(message, receiver, sentByUser1), offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new RuntimeException("메시지가 많아 잠시 전송할 수 없습니다. 잠시 후 다시 시도해주세요.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("메시지 전송이 중단되었습니다.");
+        }
+
+        return response;
+    }
+
+    // ========== 생명주기 ==========
+
+    @Override
+    public void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        accepting = true;
+        worker = new Thread(this::runWorker, "chat-write-behind");
+        // 저장 호출이 멈춰 있어도 JVM 종료를 막지 않음 (종료 대기는 stop()의 시간 제한으로 처리)
+        worker.setDaemon(true);
+        worker.start();
+        log.info("채팅 write-behind 시작: batchSize={}, flushIntervalMs={}", batchSize, flushIntervalMs);
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        // 새 메시지 수신 중단 후 shutdown-timeout-ms까지만 버퍼 저장을 기다림
+        accepting = false;
+        drainDeadlineMs = System.currentTimeMillis() + shutdownTimeoutMs;
+        running = false;
+        try {
+            worker.join(shutdownTimeoutMs);
+            if (worker.isAlive()) {
+                // 저장 호출이나 재시도 대기 중: 깨워서 남은 메시지를 로그로 넘기게 함
+                worker.interrupt();
+                worker.join(MAX_RETRY_BACKOFF_MS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (worker.isAlive()) {
+            // 저장 호출에서 돌아오지 않음: 커밋 여부를 알 수 없으므로 구분해서 남김
+            spill("종료 시간 초과, 저장 여부 불명", inFlight);
+        }
+        List<PendingMessage> remaining = new ArrayList<>();
+        buffer.drainTo(remaining);
+        spill("종료 시간 초과", remaining);
+        log.info("채팅 write-behind 종료");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // DataSource 등 다른 빈보다 먼저 멈추도록 높은 phase 사용
+    @Override
+    public int getPhase() {
+        return Integer.MAX_VALUE - 1000;
+    }
+
+    // ========== 내부 구현 ==========
+
+    private void runWorker() {
+        List<PendingMessage> batch = new ArrayList<>(batchSize);
+        while ((running || !buffer.isEmpty()) && System.currentTimeMillis() < drainDeadlineMs) {
+            try {
+                PendingMessage first = buffer.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, batchSize - 1);
+                inFlight = List.copyOf(batch);
+                flushUntilStored(batch);
+            } catch (InterruptedException e) {
+                // stop()이 마감 시각 뒤에 깨움: 루프 조건에서 빠져나옴
+                running = false;
+            } finally {
+                inFlight = List.of();
+                batch.clear();
+            }
+        }
+        // 마감 시각이 지나 남은 메시지는 stop()이 로그로 남김
+    }
+
+    /**
+     * 저장될 때까지 재시도 (이미 발신자에게 응답한 메시지이므로 버리지 않음)
+     * 재시도 중에는 버퍼를 비우지 않고 새 메시지도 거절하므로, 응답했지만 저장되지 않은 메시지가 더 늘지 않습니다.
+     * 종료 중 마감 시각이 지나면 재시도를 멈추고 배치를 로그로 남깁니다.
+     */
+    private void flushUntilStored(List<PendingMessage> batch) {
+        long backoffMs = INITIAL_RETRY_BACKOFF_MS;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                List<PendingMessage> stored = transactionTemplate.execute(status -> flush(batch));
+                if (stalled) {
+                    log.info("채팅 메시지 저장 재개 ({}회 시도)", attempt);
+                    stalled = false;
+                }
+                afterStored(stored != null ? stored : List.of());
+                return;
+            } catch (Exception e) {
+                stalled = true;
+                long remainingMs = drainDeadlineMs - System.currentTimeMillis();
+                if (remainingMs <= 0) {
+                    log.error("채팅 메시지 일괄 저장 실패 ({}회째), 종료 시간이 지나 재시도하지 않습니다: {}", attempt, e.getMessage());
+                    spill("종료 중 저장 실패", batch);
+                    return;
+                }
+                log.error("채팅 메시지 일괄 저장 실패 ({}회째, {}개, 첫 메시지 ID: {}), {}ms 후 재시도: {}",
+                        attempt, batch.size(), batch.get(0).message().getId(), backoffMs, e.getMessage());
+                pause(Math.min(backoffMs, remainingMs));
+                backoffMs = Math.min(backoffMs * 2, MAX_RETRY_BACKOFF_MS);
+            }
+        }
+    }
+
+    /**
+     * 하나의 트랜잭션: 채팅방 순번 할당 → 메시지 다중 행 INSERT(한 문장) → 채팅방 요약 UPDATE(한 문장) → 수신자별 읽지 않은 수 → 커밋 후 푸시
+     * 순번은 시도할 때마다 새로 할당하므로 롤백된 시도의 순번은 다시 쓰이지 않고 비지도 않습니다.
+     *
+     * @return 저장한 메시지 (삭제된 채팅방의 메시지는 제외)
+     */
+    private List<PendingMessage> flush(List<PendingMessage> batch) {
+        // 채팅방 ID 순서로 행을 잠가 다른 서버의 flush와 교착되지 않게 함
+        Map<Long, Integer> countByRoom = new TreeMap<>();
+        for (PendingMessage pending : batch) {
+            countByRoom.merge(pending.message().getChatRoom().getId(), 1, Integer::sum);
+        }
+        Map<Long, Long> nextSeqByRoom = new HashMap<>();
+        countByRoom.forEach((roomId, count) -> {
+            Long lastSeq = chatMessageBatchRepository.allocateSeqs(roomId, count);
+            if (lastSeq != null) {
+                nextSeqByRoom.put(roomId, lastSeq - count + 1);
+            } else {
+                log.warn("삭제된 채팅방의 메시지 {}개는 저장하지 않습니다: roomId={}", count, roomId);
+            }
+        });
+
+        List<PendingMessage> stored = new ArrayList<>(batch.size());
+        List<ChatMessage> messages = new ArrayList<>(batch.size());
+        Map<Long, ChatMessageBatchRepository.RoomDelta> deltas = new LinkedHashMap<>();
+        Map<Long, Long> unreadByReceiver = new LinkedHashMap<>();
+        for (PendingMessage pending : batch) {
+            ChatMessage message = pending.message();
+            Long roomId = message.getChatRoom().getId();
+            Long seq = nextSeqByRoom.get(roomId);
+            if (seq == null) {
+                continue;
+            }
+            // 버퍼 순서(= 채팅방 안의 전송 순서)대로 순번 부여
+            message.setSeq(seq);
+            nextSeqByRoom.put(roomId, seq + 1);
+            stored.add(pending);
+            messages.add(message);
+            unreadByReceiver.merge(pending.receiver().getUserId(), 1L, Long::sum);
+
+            // 같은 채팅방 안에서는 뒤의 메시지가 항상 순번이 더 크므로 마지막 메시지가 요약이 됨
+            ChatMessageBatchRepository.RoomDelta previous = deltas.get(roomId);
+            int user1Unread = (previous != null ? previous.user1Unread() : 0) + (pending.sentByUser1() ? 0 : 1);
+            int user2Unread = (previous != null ? previous.user2Unread() : 0) + (pending.sentByUser1() ? 1 : 0);
+            deltas.put(roomId, new ChatMessageBatchRepository.RoomDelta(
+                    roomId, message.getId(), seq, message.getContent(), message.getCreatedAt(),
+                    user1Unread, user2Unread));
+        }
+        if (messages.isEmpty()) {
+            return stored;
+        }
+
+        chatMessageBatchRepository.insertAll(messages);
+        chatMessageBatchRepository.applyRoomDeltas(new ArrayList<>(deltas.values()));
+        unreadByReceiver.forEach(unreadCounterService::addChatUnread);
+
+        for (PendingMessage pending : stored) {
+            ChatMessage message = pending.message();
+            Long roomId = message.getChatRoom().getId();
+            chatPushService.publishMessage(roomId, ChatMessageResponse.from(message, null));
+            chatPushService.publishUnreadDelta(pending.receiver().getUserId(), roomId, 1);
+        }
+        return stored;
+    }
+
+    // 커밋 후: 채팅 알림을 별도 트랜잭션에서 INSERT 한 번으로 저장 (실패해도 이미 저장된 메시지에는 영향 없음)
+    private void afterStored(List<PendingMessage> stored) {
+        if (stored.isEmpty()) {
+            return;
+        }
+        List<NotificationBatchRepository.NewNotification> notifications = new ArrayList<>(stored.size());
+        for (PendingMessage pending : stored) {
+            ChatMessage message = pending.message();
+            notifications.add(new NotificationBatchRepository.NewNotification(
+                    pending.receiver().getUserId(),
+                    message.getSender().getUserId(),
+                    Notification.NotificationType.CHAT_MESSAGE,
+                    "새 메시지",
+                    message.getContent(),
+                    String.valueOf(message.getChatRoom().getId()),
+                    "CHAT_ROOM"));
+        }
+        try {
+            notificationService.createNotifications(notifications);
+        } catch (Exception e) {
+            log.warn("채팅 알림 일괄 저장 실패 ({}건): {}", notifications.size(), e.getMessage());
+        }
+    }
+
+    // 재시도 대기 (stop()이 마감 시각 뒤에 깨우면 다음 실패에서 재시도를 멈춤)
+    private void pause(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            running = false;
+            drainDeadlineMs = Math.min(drainDeadlineMs, System.currentTimeMillis());
+        }
+    }
+
+    // 저장하지 못한 메시지를 복구할 수 있도록 ID/채팅방/발신자/수신자/내용을 한 줄씩 ERROR 로그로 남김
+    private void spill(String reason, List<PendingMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        log.error("채팅 메시지 {}개를 저장하지 못했습니다 ({}). 아래 로그로 복구해야 합니다.", messages.size(), reason);
+        for (PendingMessage pending : messages) {
+            ChatMessage message = pending.message();
+            log.error("미저장 채팅 메시지: id={}, roomId={}, senderId={}, receiverId={}, type={}, createdAt={}, content={}, imageUrl={}",
+                    message.getId(), message.getChatRoom().getId(), message.getSender().getUserId(),
+                    pending.receiver().getUserId(), message.getType(), message.getCreatedAt(),
+                    message.getContent(), message.getImageUrl());
+        }
+    }
+
+    // 시퀀스에서 블록 단위로 받아 둔 ID 사용
+    private synchronized Long nextId() {
+        if (idPool.isEmpty()) {
+            idPool.addAll(chatMessageBatchRepository.allocateIds(idBlockSize));
+        }
+        return idPool.poll();
+    }
+}
@@ -65,13 +65,14 @@ public class CommentService {
         // 배지: 첫 댓글
         badgeService.awardIfFirstComment(userId);
         
-        // 알림 생성 (게시글 작성자에게)
+        // 알림 생성 (게시글 작성자에게, 같은 게시글의 댓글은 한 알림으로 묶음)
         if (!post.getAuthor().getUserId().equals(userId)) {
-            notificationService.createNotification(
+            notificationService.createAggregatedNotification(
                     post.getAuthor().getUserId(),
+                    user,
                     Notification.NotificationType.POST_COMMENT,
                     "새로운 댓글이 달렸습니다.",
-                    "게시글에 새로운 댓글이 달렸습니다.",
+                    post.getTitle(),
                     postId.toString(),
                     "POST"
             );
@@ -79,11 +80,12 @@ public class CommentService {
         
         // 대댓글인 경우 부모 댓글 작성자에게도 알림
         if (parent != null && !parent.getAuthor().getUserId().equals(userId)) {
-            notificationService.createNotification(
+            notificationService.createAggregatedNotification(
                     parent.getAuthor().getUserId(),
+                    user,
                     Notification.NotificationType.COMMENT_REPLY,
                     "댓글에 답글이 달렸습니다.",
-                    "댓글에 답글이 달렸습니다.",
+                    post.getTitle(),
                     postId.toString(),
                     "POST"
             );
@@ -0,0 +1,188 @@
+package com.example.campus_house.service;
+
+import com.example.campus_house.repository.CounterRepository;
+import com.example.campus_house.repository.CounterRepository.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 좋아요/댓글/북마크/스크랩 수 증감
+ * 엔티티를 읽어 고쳐 쓰지 않고 UPDATE ... SET x = GREATEST(0, x + ?) 한 문장으로 반영합니다.
+ * coalesce.enabled=true면 커밋된 증감분을 대상별로 메모리에 합쳐 두었다가 flush-interval마다 배치로 반영합니다.
+ * 어느 쪽이든 삭제 연쇄 등으로 어긋난 값은 reconcile(매일 새벽)이 원본 테이블 개수로 바로잡습니다.
+ */
+@Service
+@Slf4j
+public class CounterService implements SmartLifecycle {
+
+    private final CounterRepository counterRepository;
+    private final HotPostService hotPostService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean coalesce;
+    private final int reconcileChunkSize;
+
+    private record CounterKey(Counter counter, Long id) {
+    }
+
+    // 반영 대기 중인 증감분 (coalesce 모드)
+    private final Map<CounterKey, Long> pending = new ConcurrentHashMap<>();
+    private volatile boolean running = false;
+
+    public CounterService(CounterRepository counterRepository,
+                          HotPostService hotPostService,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry,
+                          @Value("${counter.coalesce.enabled:false}") boolean coalesce,
+                          @Value("${counter.reconcile.chunk-size:10000}") int reconcileChunkSize) {
+        this.counterRepository = counterRepository;
+        this.hotPostService = hotPostService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.coalesce = coalesce;
+        this.reconcileChunkSize = reconcileChunkSize;
+        Gauge.builder("counter.pending", pending, Map::size)
+                .description("반영 대기 중인 집계 증감 대상 수 (coalesce 모드)").register(meterRegistry);
+    }
+
+    /**
+     * 집계 컬럼 증감
+     * 즉시 모드에서는 호출자의 트랜잭션 안에서 반영되고(롤백되면 함께 취소), coalesce 모드에서는 커밋 후에 쌓입니다.
+     */
+    public void add(Counter counter, Long id, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        HotPostService.Engagement engagement = engagementOf(counter);
+        if (engagement != null) {
+            hotPostService.onEngagement(id, engagement, delta);
+        }
+        if (!coalesce) {
+            counterRepository.add(counter, id, delta);
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    pending.merge(new CounterKey(counter, id), delta, Long::sum);
+                }
+            });
+        } else {
+            pending.merge(new CounterKey(counter, id), delta, Long::sum);
+        }
+    }
+
+    public void increment(Counter counter, Long id) {
+        add(counter, id, 1);
+    }
+
+    public void decrement(Counter counter, Long id) {
+        add(counter, id, -1);
+    }
+
+    @Scheduled(fixedDelayString = "${counter.coalesce.flush-interval-ms:2000}")
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        // 키별로 떼어 내 집계 컬럼별로 묶음 (그 사이 증감분은 새 값으로 쌓임)
+        Map<Counter, Map<Long, Long>> groups = new EnumMap<>(Counter.class);
+        for (CounterKey key : new ArrayList<>(pending.keySet())) {
+            Long delta = pending.remove(key);
+            if (delta != null && delta != 0) {
+                groups.computeIfAbsent(key.counter(), c -> new LinkedHashMap<>()).put(key.id(), delta);
+            }
+        }
+
+        groups.forEach((counter, deltas) -> {
+            try {
+                transactionTemplate.executeWithoutResult(status -> counterRepository.addAll(counter, deltas));
+            } catch (Exception e) {
+                log.warn("{} 증감 반영 실패 ({}건), 다음 주기에 재시도: {}", counter, deltas.size(), e.getMessage());
+                deltas.forEach((id, delta) -> pending.merge(new CounterKey(counter, id), delta, Long::sum));
+            }
+        });
+    }
+
+    /**
+     * 모든 집계 컬럼을 원본 테이블 개수로 재계산 (ID 구간마다 짧은 트랜잭션)
+     *
+     * @return 값이 달라 고친 행 수
+     */
+    public long reconcile() {
+        // 쌓인 증감분을 먼저 반영해 재계산 결과에 두 번 더해지지 않게 함
+        flush();
+        long fixed = 0;
+        for (Counter counter : Counter.values()) {
+            fixed += reconcile(counter);
+        }
+        return fixed;
+    }
+
+    // 집계 하나만 재계산
+    public long reconcile(Counter counter) {
+        Long maxId = counterRepository.findMaxId(counter.getTable());
+        if (maxId == null) {
+            return 0;
+        }
+        long fixed = 0;
+        for (long from = 1; from <= maxId; from += reconcileChunkSize) {
+            long chunkFrom = from;
+            long chunkTo = from + reconcileChunkSize;
+            Integer updated = transactionTemplate.execute(status -> counterRepository.reconcile(counter, chunkFrom, chunkTo));
+            fixed += updated != null ? updated : 0;
+        }
+        if (fixed > 0) {
+            log.info("{} 재계산: {}건 수정", counter, fixed);
+        }
+        return fixed;
+    }
+
+    // 인기 게시글 점수에 반영되는 집계 (북마크 수는 scrap_count로 관리)
+    private HotPostService.Engagement engagementOf(Counter counter) {
+        return switch (counter) {
+            case POST_LIKE -> HotPostService.Engagement.LIKE;
+            case POST_COMMENT -> HotPostService.Engagement.COMMENT;
+            case POST_SCRAP -> HotPostService.Engagement.BOOKMARK;
+            default -> null;
+        };
+    }
+
+    // ========== 생명주기: 종료 시 남은 증감분 반영 ==========
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        flush();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return Integer.MAX_VALUE - 1000;
+    }
+}
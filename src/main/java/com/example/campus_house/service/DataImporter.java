@@ -0,0 +1,44 @@
+package com.example.campus_house.service;
+
+import com.example.campus_house.entity.DataLoadJob;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 데이터 로드 작업(DataLoadJob)에서 사용하는 임포터
+ * 레코드 순서는 항상 동일해야 합니다. (체크포인트 offset 기준으로 재개하기 때문)
+ */
+public interface DataImporter {
+
+    /**
+     * 이 임포터가 처리하는 작업 타입
+     */
+    DataLoadJob.JobType getJobType();
+
+    /**
+     * 원본 레코드 전체를 읽어옵니다.
+     */
+    List<Map<String, Object>> readRecords() throws IOException;
+
+    /**
+     * offset 0에서 새로 시작할 때 한 번 호출됩니다. (기존 데이터 정리 등)
+     */
+    void prepare();
+
+    /**
+     * 하나의 청크를 저장합니다. 호출자의 트랜잭션 안에서 실행됩니다.
+     *
+     * @param offset  청크 첫 레코드의 원본 위치
+     * @return 성공적으로 저장된 레코드 수
+     */
+    int importChunk(int offset, List<Map<String, Object>> records);
+
+    /**
+     * 모든 청크가 커밋된 뒤 한 번 호출됩니다.
+     * 예외를 던지면 작업은 FAILED로 끝나고 재개 시 다시 호출됩니다.
+     */
+    default void complete() {
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.campus_house.service;
+
+import com.example.campus_house.dto.DataLoadJobResponse;
+import com.example.campus_house.entity.DataLoadJob;
+import com.example.campus_house.repository.DataLoadJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 데이터 로드 작업 서비스
+ * 로드 요청은 작업 ID를 즉시 반환하고, 전용 실행기에서 청크 단위로 커밋하며 진행합니다.
+ * 각 청크 커밋과 함께 체크포인트(lastProcessedOffset)를 기록하므로 실패한 작업은 그 위치부터 재개됩니다.
+ */
+@Service
+@Slf4j
+public class DataLoadJobService {
+
+    private static final List<DataLoadJob.JobStatus> ACTIVE_STATUSES =
+            List.of(DataLoadJob.JobStatus.PENDING, DataLoadJob.JobStatus.RUNNING);
+
+    private final DataLoadJobRepository dataLoadJobRepository;
+    private final Map<DataLoadJob.JobType, DataImporter> importers = new EnumMap<>(DataLoadJob.JobType.class);
+    private final TaskExecutor dataLoadExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public DataLoadJobService(DataLoadJobRepository dataLoadJobRepository,
+                              List<DataImporter> importers,
+                              @Qualifier("dataLoadExecutor") TaskExecutor dataLoadExecutor,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${data.loading.job.chunk-size:200}") int chunkSize) {
+        this.dataLoadJobRepository = dataLoadJobRepository;
+        importers.forEach(importer -> this.importers.put(importer.getJobType(), importer));
+        this.dataLoadExecutor = dataLoadExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    // 로드 작업 생성 후 즉시 반환
+    public synchronized DataLoadJobResponse submit(DataLoadJob.JobType jobType) {
+        if (!importers.containsKey(jobType)) {
+            throw new RuntimeException("지원하지 않는 데이터 로드 타입입니다: " + jobType);
+        }
+        if (dataLoadJobRepository.existsByJobTypeAndStatusIn(jobType, ACTIVE_STATUSES)) {
+            throw new RuntimeException("이미 진행 중인 " + jobType + " 로드 작업이 있습니다.");
+        }
+
+        DataLoadJob job = dataLoadJobRepository.save(DataLoadJob.builder()
+                .jobType(jobType)
+                .status(DataLoadJob.JobStatus.PENDING)
+                .chunkSize(chunkSize)
+                .build());
+
+        dispatch(job);
+        return DataLoadJobResponse.from(job);
+    }
+
+    // 실패한 작업을 마지막 체크포인트부터 재개
+    public synchronized DataLoadJobResponse resume(Long jobId) {
+        DataLoadJob job = dataLoadJobRepository.findById(jobId)
+                .orElseThrow(() -> new RuntimeException("데이터 로드 작업을 찾을 수 없습니다."));
+
+        if (job.getStatus() != DataLoadJob.JobStatus.FAILED) {
+            throw new RuntimeException("실패한 작업만 재개할 수 있습니다. (현재 상태: " + job.getStatus() + ")");
+        }
+        if (dataLoadJobRepository.existsByJobTypeAndStatusIn(job.getJobType(), ACTIVE_STATUSES)) {
+            throw new RuntimeException("이미 진행 중인 " + job.getJobType() + " 로드 작업이 있습니다.");
+        }
+
+        job.setStatus(DataLoadJob.JobStatus.PENDING);
+        job = dataLoadJobRepository.save(job);
+
+        dispatch(job);
+        return DataLoadJobResponse.from(job);
+    }
+
+    // 작업 상태 조회
+    public DataLoadJobResponse getJob(Long jobId) {
+        return dataLoadJobRepository.findById(jobId)
+                .map(DataLoadJobResponse::from)
+                .orElseThrow(() -> new RuntimeException("데이터 로드 작업을 찾을 수 없습니다."));
+    }
+
+    // 최근 작업 목록 조회
+    public List<DataLoadJobResponse> getRecentJobs() {
+        return dataLoadJobRepository.findTop20ByOrderByCreatedAtDesc().stream()
+                .map(DataLoadJobResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    // 서버 재시작 시 중단된 작업을 FAILED로 표시 (재개 가능 상태로 전환)
+    @EventListener(ApplicationReadyEvent.class)
+    public void markInterruptedJobs() {
+        for (DataLoadJob.JobStatus status : ACTIVE_STATUSES) {
+            for (DataLoadJob job : dataLoadJobRepository.findByStatus(status)) {
+                job.setStatus(DataLoadJob.JobStatus.FAILED);
+                job.setLastError("서버 재시작으로 작업이 중단되었습니다.");
+                job.setFinishedAt(LocalDateTime.now());
+                dataLoadJobRepository.save(job);
+                log.warn("중단된 데이터 로드 작업 표시: jobId={}, offset={}", job.getId(), job.getLastProcessedOffset());
+            }
+        }
+    }
+
+    private void dispatch(DataLoadJob job) {
+        Long jobId = job.getId();
+        try {
+            dataLoadExecutor.execute(() -> run(jobId));
+        } catch (TaskRejectedException e) {
+            markFailed(jobId, "작업 큐가 가득 찼습니다. 잠시 후 재개해주세요.");
+            throw new RuntimeException("데이터 로드 작업 큐가 가득 찼습니다.", e);
+        }
+    }
+
+    private void run(Long jobId) {
+        DataLoadJob job = dataLoadJobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return;
+        }
+        DataImporter importer = importers.get(job.getJobType());
+
+        int offset = job.getLastProcessedOffset();
+        job.setStatus(DataLoadJob.JobStatus.RUNNING);
+        job.setAttemptCount(job.getAttemptCount() + 1);
+        job.setAttemptStartOffset(offset);
+        job.setStartedAt(LocalDateTime.now());
+        job.setFinishedAt(null);
+        job.setLastError(null);
+        dataLoadJobRepository.save(job);
+
+        log.info("🏢 데이터 로드 작업 시작: jobId={}, type={}, offset={}", jobId, job.getJobType(), offset);
+
+        try {
+            List<Map<String, Object>> records = importer.readRecords();
+            int total = records.size();
+            updateTotalCount(jobId, total);
+
+            if (offset == 0) {
+                transactionTemplate.executeWithoutResult(status -> importer.prepare());
+            }
+
+            int chunk = job.getChunkSize() != null && job.getChunkSize() > 0 ? job.getChunkSize() : chunkSize;
+            while (offset < total) {
+                int end = Math.min(offset + chunk, total);
+                List<Map<String, Object>> slice = records.subList(offset, end);
+                int start = offset;
+                int checkpoint = end;
+
+                // 청크 저장과 체크포인트 기록을 같은 트랜잭션으로 커밋
+                transactionTemplate.executeWithoutResult(status -> {
+                    int success = importer.importChunk(start, slice);
+                    DataLoadJob current = dataLoadJobRepository.findById(jobId)
+                            .orElseThrow(() -> new RuntimeException("데이터 로드 작업을 찾을 수 없습니다."));
+                    current.setLastProcessedOffset(checkpoint);
+                    current.setSuccessCount(current.getSuccessCount() + success);
+                    current.setErrorCount(current.getErrorCount() + (slice.size() - success));
+                    current.setLastCheckpointAt(LocalDateTime.now());
+                    dataLoadJobRepository.save(current);
+                });
+
+                offset = end;
+                log.info("📊 진행상황: jobId={}, {}/{} ({}%)", jobId, offset, total, total == 0 ? 100 : offset * 100 / total);
+            }
+
+            transactionTemplate.executeWithoutResult(status -> importer.complete());
+
+            DataLoadJob completed = dataLoadJobRepository.findById(jobId).orElseThrow();
+            completed.setStatus(DataLoadJob.JobStatus.COMPLETED);
+            completed.setFinishedAt(LocalDateTime.now());
+            dataLoadJobRepository.save(completed);
+
+            log.info("✅ 데이터 로드 작업 완료: jobId={}, 성공: {}개, 실패: {}개",
+                    jobId, completed.getSuccessCount(), completed.getErrorCount());
+        } catch (Exception e) {
+            log.error("데이터 로드 작업 실패: jobId={}", jobId, e);
+            markFailed(jobId, e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+        }
+    }
+
+    private void updateTotalCount(Long jobId, int total) {
+        DataLoadJob job = dataLoadJobRepository.findById(jobId).orElseThrow();
+        job.setTotalCount(total);
+        dataLoadJobRepository.save(job);
+    }
+
+    private void markFailed(Long jobId, String message) {
+        dataLoadJobRepository.findById(jobId).ifPresent(job -> {
+            job.setStatus(DataLoadJob.JobStatus.FAILED);
+            job.setLastError(message);
+            job.setFinishedAt(LocalDateTime.now());
+            dataLoadJobRepository.save(job);
+        });
+    }
+}
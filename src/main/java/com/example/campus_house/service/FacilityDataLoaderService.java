@@ -0,0 +1,179 @@
+package com.example.campus_house.service;
+
+import com.example.campus_house.entity.DataLoadJob;
+import com.example.campus_house.entity.Facility;
+import com.example.campus_house.repository.FacilityRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 생활시설 데이터 로드 서비스
+ * data/facilities/processed 폴더의 정제된 JSON 파일을 읽어 facilities 테이블에 저장합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FacilityDataLoaderService implements DataImporter {
+
+    private static final String CATEGORY_KEY = "_category";
+
+    // 카테고리별 원본 파일 (순서 고정: 체크포인트 offset 기준으로 재개)
+    private static final Map<String, String> SOURCE_FILES = new LinkedHashMap<>();
+    static {
+        SOURCE_FILES.put(Facility.Category.HOSPITAL.name(), "data/facilities/processed/hospitals_processed.json");
+        SOURCE_FILES.put(Facility.Category.CONVENIENCE_STORE.name(), "data/facilities/processed/convenience_stores_processed.json");
+        SOURCE_FILES.put(Facility.Category.MART.name(), "data/facilities/processed/marts_processed.json");
+    }
+
+    private final FacilityRepository facilityRepository;
+    private final ObjectMapper objectMapper;
+    private final CatalogIndexService catalogIndexService;
+
+    @Override
+    public DataLoadJob.JobType getJobType() {
+        return DataLoadJob.JobType.FACILITY;
+    }
+
+    /**
+     * 카테고리별 JSON 파일에서 생활시설 레코드 읽기
+     */
+    @Override
+    public List<Map<String, Object>> readRecords() throws IOException {
+        List<Map<String, Object>> records = new ArrayList<>();
+
+        for (Map.Entry<String, String> source : SOURCE_FILES.entrySet()) {
+            FileSystemResource resource = new FileSystemResource(source.getValue());
+            if (!resource.exists()) {
+                log.warn("생활시설 JSON 파일을 찾을 수 없습니다: {}", source.getValue());
+                continue;
+            }
+
+            List<Map<String, Object>> rows = objectMapper.readValue(
+                resource.getInputStream(),
+                new TypeReference<List<Map<String, Object>>>() {}
+            );
+            for (Map<String, Object> row : rows) {
+                Map<String, Object> record = new HashMap<>(row);
+                record.put(CATEGORY_KEY, source.getKey());
+                records.add(record);
+            }
+            log.info("📄 {}: {}개 생활시설 데이터 읽기 완료", source.getKey(), rows.size());
+        }
+
+        return records;
+    }
+
+    /**
+     * 새 로드 시작 전 기존 생활시설 데이터 삭제
+     */
+    @Override
+    public void prepare() {
+        long count = facilityRepository.count();
+        facilityRepository.deleteAllInBatch();
+        log.info("🗑️ 기존 생활시설 데이터 삭제 완료: {}개", count);
+    }
+
+    /**
+     * 생활시설 청크 변환 및 저장 (호출자의 트랜잭션에서 실행)
+     */
+    @Override
+    public int importChunk(int offset, List<Map<String, Object>> records) {
+        List<Facility> facilities = new ArrayList<>(records.size());
+        for (Map<String, Object> record : records) {
+            try {
+                Facility facility = convertToFacility(record);
+                if (facility != null) {
+                    facilities.add(facility);
+                }
+            } catch (Exception e) {
+                log.error("생활시설 데이터 변환 실패: {}", record.get("사업장명"), e);
+            }
+        }
+        facilityRepository.saveAll(facilities);
+        return facilities.size();
+    }
+    
+    /**
+     * 로드 완료 후 인메모리 인덱스 재구성 (커밋 후)
+     */
+    @Override
+    public void complete() {
+        catalogIndexService.markDirty();
+    }
+
+    /**
+     * JSON 데이터를 Facility 엔티티로 변환 (좌표가 없으면 null)
+     */
+    private Facility convertToFacility(Map<String, Object> data) {
+        double latitude = getDoubleValue(data.get("WGS84위도"));
+        double longitude = getDoubleValue(data.get("WGS84경도"));
+        if (latitude == 0.0 || longitude == 0.0) {
+            return null;
+        }
+
+        String businessStatus = getStringValue(data.get("영업상태명"));
+        // 영업상태명 정규화
+        if ("정상영업".equals(businessStatus) || "영업".equals(businessStatus)) {
+            businessStatus = "영업/정상";
+        }
+
+        String category = (String) data.get(CATEGORY_KEY);
+        String subCategory = getStringValue(data.get("의료기관종별명"));
+        if (subCategory.isEmpty()) {
+            subCategory = getStringValue(data.get("위생업태명"));
+        }
+        if (subCategory.isEmpty()) {
+            subCategory = getStringValue(data.get("업태구분명"));
+        }
+        if (subCategory.isEmpty()) {
+            subCategory = Facility.Category.valueOf(category).getDescription();
+        }
+
+        return Facility.builder()
+                .businessName(getStringValue(data.get("사업장명")))
+                .address(getStringValue(data.get("소재지지번주소")))
+                .roadAddress(getStringValue(data.get("소재지도로명주소")))
+                .businessStatus(businessStatus)
+                .category(category)
+                .subCategory(subCategory)
+                .latitude(latitude)
+                .longitude(longitude)
+                .phoneNumber("")
+                .businessHours("")
+                .description(getStringValue(data.get("진료과목내용")))
+                .build();
+    }
+
+    /**
+     * 문자열 값 안전하게 가져오기
+     */
+    private String getStringValue(Object value) {
+        return value == null ? "" : value.toString().trim();
+    }
+
+    /**
+     * Double 값 안전하게 가져오기
+     */
+    private double getDoubleValue(Object value) {
+        if (value == null) return 0.0;
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+        try {
+            return Double.parseDouble(value.toString().trim());
+        } catch (NumberFormatException e) {
+            return 0.0;
+        }
+    }
+}
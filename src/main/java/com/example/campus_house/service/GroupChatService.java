@@ -0,0 +1,206 @@
+package com.example.campus_house.service;
+
+import com.example.campus_house.dto.GroupChatMessageResponse;
+import com.example.campus_house.dto.GroupChatRoomResponse;
+import com.example.campus_house.dto.SendMessageRequest;
+import com.example.campus_house.entity.ChatMessage;
+import com.example.campus_house.entity.ChatRoom;
+import com.example.campus_house.entity.GroupChatMember;
+import com.example.campus_house.entity.GroupChatMessage;
+import com.example.campus_house.entity.GroupChatRoom;
+import com.example.campus_house.entity.User;
+import com.example.campus_house.repository.GroupChatMemberRepository;
+import com.example.campus_house.repository.GroupChatMessageRepository;
+import com.example.campus_house.repository.GroupChatRoomRepository;
+import com.example.campus_house.repository.UserRepository;
+import com.example.campus_house.util.JwtUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 건물 거주자 그룹 채팅 (verifiedBuildingId당 채팅방 하나)
+ * 메시지 하나당 쓰기는 채팅방 UPDATE, 메시지 INSERT, 발신자 읽음 커서 UPDATE로 멤버 수와 무관하며,
+ * 접속 중인 멤버에게는 채팅방 토픽 한 번 발행으로 전달합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class GroupChatService {
+    
+    private static final int MAX_MESSAGE_PAGE_SIZE = 100;
+    
+    private final GroupChatRoomRepository groupChatRoomRepository;
+    private final GroupChatMemberRepository groupChatMemberRepository;
+    private final GroupChatMessageRepository groupChatMessageRepository;
+    private final UserRepository userRepository;
+    private final JwtUtil jwtUtil;
+    private final ChatPushService chatPushService;
+    
+    // JWT 토큰에서 사용자 정보 추출
+    private User getUserFromToken(String token) {
+        if (token.startsWith("Bearer ")) {
+            token = token.substring(7);
+        }
+        
+        if (!jwtUtil.validateToken(token)) {
+            throw new RuntimeException("유효하지 않은 토큰입니다.");
+        }
+        
+        Long userId = jwtUtil.getUserIdFromToken(token);
+        return userRepository.findByUserId(userId)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+    }
+    
+    // 내 건물 그룹 채팅방 참여 (채팅방이 없으면 생성, 이사한 경우 이전 건물 채팅방에서 탈퇴)
+    @Transactional
+    public GroupChatRoomResponse joinBuildingRoom(String token) {
+        User currentUser = getUserFromToken(token);
+        Long buildingId = currentUser.getVerifiedBuildingId();
+        if (!Boolean.TRUE.equals(currentUser.getIsVerified()) || buildingId == null) {
+            throw new RuntimeException("거주지 인증된 사용자만 건물 채팅방에 참여할 수 있습니다.");
+        }
+        
+        for (GroupChatMember member : groupChatMemberRepository.findByUserIdWithRoom(currentUser.getUserId())) {
+            if (!buildingId.equals(member.getRoom().getBuildingId())) {
+                leave(member.getRoom().getId(), currentUser.getUserId());
+            }
+        }
+        
+        String name = currentUser.getVerifiedBuildingName() != null
+                ? currentUser.getVerifiedBuildingName() : "건물 " + buildingId;
+        groupChatRoomRepository.insertIfAbsent(buildingId, name);
+        GroupChatRoom room = groupChatRoomRepository.findByBuildingId(buildingId)
+                .orElseThrow(() -> new RuntimeException("건물 채팅방을 찾을 수 없습니다."));
+        
+        if (groupChatMemberRepository.insertIfAbsent(room.getId(), currentUser.getUserId()) > 0) {
+            groupChatRoomRepository.addMemberCount(room.getId(), 1);
+        }
+        
+        return groupChatMemberRepository.findByRoomIdAndUserId(room.getId(), currentUser.getUserId())
+                .map(GroupChatRoomResponse::from)
+                .orElseThrow(() -> new RuntimeException("건물 채팅방 참여에 실패했습니다."));
+    }
+    
+    // 내 그룹 채팅방 목록 (읽지 않은 수 포함)
+    public List<GroupChatRoomResponse> getMyRooms(String token) {
+        User currentUser = getUserFromToken(token);
+        return groupChatMemberRepository.findByUserIdWithRoom(currentUser.getUserId()).stream()
+                .map(GroupChatRoomResponse::from)
+                .toList();
+    }
+    
+    // 메시지 전송
+    @Transactional
+    public GroupChatMessageResponse sendMessage(String token, Long roomId, SendMessageRequest request) {
+        User currentUser = getUserFromToken(token);
+        GroupChatMember member = getMember(roomId, currentUser);
+        
+        ChatMessage.MessageType messageType;
+        try {
+            messageType = ChatMessage.MessageType.valueOf(request.getMessageType().toUpperCase());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            messageType = ChatMessage.MessageType.TEXT;
+        }
+        
+        // 순번 부여 + 채팅방 요약 갱신 (단일 UPDATE)
+        LocalDateTime now = LocalDateTime.now();
+        groupChatRoomRepository.recordMessage(roomId, ChatRoom.toPreview(request.getContent()), now);
+        Long seq = groupChatRoomRepository.findMessageSeq(roomId);
+        
+        GroupChatMessage message = GroupChatMessage.builder()
+                .room(member.getRoom())
+                .sender(currentUser)
+                .seq(seq)
+                .content(request.getContent())
+                .imageUrl(request.getImageUrl())
+                .type(messageType)
+                .build();
+        message = groupChatMessageRepository.save(message);
+        
+        // 본인 메시지는 읽은 것으로 처리
+        groupChatMemberRepository.advanceReadSeq(roomId, currentUser.getUserId(), seq);
+        
+        // 접속 중인 멤버에게 채팅방 토픽으로 전송 (커밋 후)
+        chatPushService.publishGroupMessage(roomId, GroupChatMessageResponse.from(message, null));
+        
+        return GroupChatMessageResponse.from(message, currentUser);
+    }
+    
+    /**
+     * 메시지 조회 (순번 오름차순)
+     * afterSeq가 있으면 그 이후(재연결 동기화), beforeSeq가 있으면 그 이전(과거 메시지), 없으면 최신 메시지
+     */
+    public List<GroupChatMessageResponse> getMessages(String token, Long roomId, Long beforeSeq, Long afterSeq, int size) {
+        User currentUser = getUserFromToken(token);
+        getMember(roomId, currentUser);
+        
+        Pageable pageable = PageRequest.of(0, Math.max(1, Math.min(size, MAX_MESSAGE_PAGE_SIZE)));
+        List<GroupChatMessage> messages;
+        if (afterSeq != null) {
+            messages = groupChatMessageRepository.findAfterSeq(roomId, afterSeq, pageable).getContent();
+        } else {
+            Slice<GroupChatMessage> slice = beforeSeq != null
+                    ? groupChatMessageRepository.findBeforeSeq(roomId, beforeSeq, pageable)
+                    : groupChatMessageRepository.findLatest(roomId, pageable);
+            messages = new ArrayList<>(slice.getContent());
+            Collections.reverse(messages);
+        }
+        
+        return messages.stream()
+                .map(message -> GroupChatMessageResponse.from(message, currentUser))
+                .toList();
+    }
+    
+    // 읽음 처리: 읽음 커서를 채팅방 최신 순번(또는 지정한 순번)까지 전진
+    @Transactional
+    public void markAsRead(String token, Long roomId, Long seq) {
+        User currentUser = getUserFromToken(token);
+        GroupChatMember member = getMember(roomId, currentUser);
+        
+        long latest = member.getRoom().getMessageSeq();
+        long target = seq != null ? Math.min(seq, latest) : latest;
+        groupChatMemberRepository.advanceReadSeq(roomId, currentUser.getUserId(), target);
+    }
+    
+    // 그룹 채팅방 나가기
+    @Transactional
+    public void leaveRoom(String token, Long roomId) {
+        User currentUser = getUserFromToken(token);
+        if (leave(roomId, currentUser.getUserId()) == 0) {
+            throw new RuntimeException("참여하지 않은 채팅방입니다.");
+        }
+    }
+    
+    // 사용자의 그룹 채팅 읽지 않은 수 합계 (배지용)
+    public long getUnreadCount(Long userId) {
+        Long count = groupChatMemberRepository.sumUnreadByUserId(userId);
+        return count != null ? count : 0;
+    }
+    
+    private int leave(Long roomId, Long userId) {
+        int deleted = groupChatMemberRepository.deleteByRoomIdAndUserId(roomId, userId);
+        if (deleted > 0) {
+            groupChatRoomRepository.addMemberCount(roomId, -deleted);
+        }
+        return deleted;
+    }
+    
+    // 멤버십 확인 (현재 인증된 건물의 채팅방이어야 함)
+    private GroupChatMember getMember(Long roomId, User user) {
+        GroupChatMember member = groupChatMemberRepository.findByRoomIdAndUserId(roomId, user.getUserId())
+                .orElseThrow(() -> new RuntimeException("채팅방에 접근할 권한이 없습니다."));
+        if (!member.getRoom().getBuildingId().equals(user.getVerifiedBuildingId())) {
+            throw new RuntimeException("현재 인증된 건물의 채팅방만 이용할 수 있습니다.");
+        }
+        return member;
+    }
+}
@@ -0,0 +1,338 @@
+package com.example.campus_house.service;
+
+import com.example.campus_house.entity.BoardType;
+import com.example.campus_house.entity.Post;
+import com.example.campus_house.repository.HotPostRepository;
+import com.example.campus_house.repository.HotPostRepository.PostStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 인기 게시글 (시간 감쇠 점수)
+ * 점수 = log10(가중 참여도) + 작성 시각 / decay-hours 이므로, 나중에 쓴 글일수록 기본 점수가 높고
+ * decay-hours만큼 오래된 글은 참여도가 10배여야 같은 점수가 됩니다.
+ * 점수가 시간에 따라 바뀌지 않아 참여(좋아요/댓글/북마크/조회)가 있을 때만 해당 게시글을 다시 계산하면 됩니다.
+ * 게시판별로 최근 window-days 안의 게시글을 점수순 skip list에 유지하고(최대 max-tracked개), 상위 top-k개를 O(K)로 제공합니다.
+ * 주기적으로 DB에서 다시 채워 놓친 변경과 보관 기간이 지난 게시글을 정리합니다.
+ * 재구성 중에 들어온 변경은 모아 두었다가 교체 직전에 새 순위에도 적용합니다.
+ */
+@Service
+@Slf4j
+public class HotPostService {
+
+    // 점수의 시간 항 기준점 (값을 작게 유지하기 위한 임의의 고정 시각)
+    private static final long EPOCH_BASE_SECONDS = 1_735_657_200L; // 2025-01-01 00:00 KST
+
+    /**
+     * 점수에 반영되는 참여 종류
+     */
+    public enum Engagement {
+        LIKE,
+        COMMENT,
+        BOOKMARK,
+        VIEW
+    }
+
+    private final HotPostRepository hotPostRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final int windowDays;
+    private final int topK;
+    private final int maxTracked;
+    private final double decaySeconds;
+    private final double likeWeight;
+    private final double commentWeight;
+    private final double bookmarkWeight;
+    private final double viewWeight;
+
+    private volatile Map<BoardType, Board> boards = emptyBoards();
+    private volatile boolean ready = false;
+
+    // 변경 적용(읽기 잠금, 동시 진행)과 순위 교체(쓰기 잠금) 사이의 순서 보장
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+    // 재구성 중에 들어온 변경 (재구성 중이 아니면 null)
+    private volatile Queue<Consumer<Map<BoardType, Board>>> pending = null;
+
+    public HotPostService(HotPostRepository hotPostRepository,
+                          PlatformTransactionManager transactionManager,
+                          @Value("${hot.window-days:7}") int windowDays,
+                          @Value("${hot.top-k:100}") int topK,
+                          @Value("${hot.max-tracked-per-board:5000}") int maxTracked,
+                          @Value("${hot.decay-hours:12}") double decayHours,
+                          @Value("${hot.weight.like:1.0}") double likeWeight,
+                          @Value("${hot.weight.comment:2.0}") double commentWeight,
+                          @Value("${hot.weight.bookmark:3.0}") double bookmarkWeight,
+                          @Value("${hot.weight.view:0.05}") double viewWeight) {
+        this.hotPostRepository = hotPostRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.windowDays = windowDays;
+        this.topK = topK;
+        this.maxTracked = Math.max(topK, maxTracked);
+        this.decaySeconds = decayHours * 3600;
+        this.likeWeight = likeWeight;
+        this.commentWeight = commentWeight;
+        this.bookmarkWeight = bookmarkWeight;
+        this.viewWeight = viewWeight;
+    }
+
+    /**
+     * 인기 게시글 ID 한 페이지 (상위 top-k 안에서만, 준비 전이면 null)
+     */
+    public HotPage getHotPostIds(BoardType boardType, long offset, int limit) {
+        if (!ready) {
+            return null;
+        }
+        List<Long> ids = new ArrayList<>(limit);
+        // 재배치 중인 게시글이 잠깐 두 번 보일 수 있어 한 번만 셈
+        Set<Long> seen = new HashSet<>();
+        Iterator<Ranked> it = boards.get(boardType).ranking.iterator();
+        while (it.hasNext() && seen.size() < topK) {
+            long postId = it.next().postId();
+            if (seen.add(postId) && seen.size() > offset && ids.size() < limit) {
+                ids.add(postId);
+            }
+        }
+        return new HotPage(ids, seen.size());
+    }
+
+    /**
+     * 인기 게시글 페이지 (ID는 점수순, total은 top-k 이하)
+     */
+    public record HotPage(List<Long> postIds, long total) {
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // ========== 변경 반영 (호출자의 트랜잭션이 있으면 커밋 후) ==========
+
+    // 새 게시글 또는 게시판이 바뀐 게시글
+    public void onPostSaved(Post post) {
+        if (post.getId() == null || post.getBoardType() == null || post.getCreatedAt() == null) {
+            return;
+        }
+        PostStats stats = new PostStats(post.getId(), post.getBoardType(), post.getCreatedAt(),
+                post.getLikeCount(), post.getCommentCount(), post.getScrapCount(), post.getViewCount());
+        afterCommit(() -> {
+            if (stats.createdAt().isBefore(LocalDateTime.now().minusDays(windowDays))) {
+                return;
+            }
+            apply(current -> {
+                current.values().forEach(board -> board.remove(stats.postId()));
+                current.get(stats.boardType()).put(new Tracked(stats));
+            });
+        });
+    }
+
+    public void onPostDeleted(Long postId) {
+        afterCommit(() -> apply(current -> current.values().forEach(board -> board.remove(postId))));
+    }
+
+    // 참여 증감 (추적 중이 아닌 게시글은 무시, 다음 재구성에서 반영)
+    public void onEngagement(Long postId, Engagement engagement, long delta) {
+        afterCommit(() -> applyEngagement(postId, engagement, delta));
+    }
+
+    // 조회수 일괄 반영 후 (PostViewCountService flush)
+    public void onViews(Map<Long, Long> deltas) {
+        deltas.forEach((postId, delta) -> applyEngagement(postId, Engagement.VIEW, delta));
+    }
+
+    // ========== 재구성 ==========
+
+    // 읽기 시작 전부터 교체까지 들어온 변경을 모아 새 순위에 다시 적용
+    // (읽기 직전에 커밋된 변경은 두 번 반영될 수 있으나 다음 재구성에서 바로잡힘)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${hot.rebuild-cron:0 0 * * * *}")
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        Queue<Consumer<Map<BoardType, Board>>> changes = new ConcurrentLinkedQueue<>();
+        pending = changes;
+        try {
+            Map<BoardType, Board> rebuilt = emptyBoards();
+            LocalDateTime since = LocalDateTime.now().minusDays(windowDays);
+            readOnlyTransaction.executeWithoutResult(status ->
+                    hotPostRepository.forEachPostSince(since, stats -> rebuilt.get(stats.boardType()).put(new Tracked(stats))));
+            swapLock.writeLock().lock();
+            try {
+                changes.forEach(change -> change.accept(rebuilt));
+                boards = rebuilt;
+                pending = null;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+            ready = true;
+            log.info("인기 게시글 재구성 완료: {}, 재구성 중 변경 {}건 ({}ms)", sizes(rebuilt), changes.size(),
+                    System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            // 준비 전이면 DB 정렬로 동작, 이미 준비됐으면 이전 순위 유지
+            log.error("인기 게시글 재구성 실패", e);
+        } finally {
+            pending = null;
+        }
+    }
+
+    // ========== 내부 구현 ==========
+
+    private void applyEngagement(Long postId, Engagement engagement, long delta) {
+        apply(current -> {
+            for (Board board : current.values()) {
+                if (board.adjust(postId, engagement, delta)) {
+                    return;
+                }
+            }
+        });
+    }
+
+    // 현재 순위에 적용하고, 재구성 중이면 교체 직전에 새 순위에도 적용하도록 보관
+    private void apply(Consumer<Map<BoardType, Board>> change) {
+        swapLock.readLock().lock();
+        try {
+            change.accept(boards);
+            Queue<Consumer<Map<BoardType, Board>>> changes = pending;
+            if (changes != null) {
+                changes.add(change);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private double score(Tracked tracked) {
+        double weighted = tracked.likes * likeWeight + tracked.comments * commentWeight
+                + tracked.bookmarks * bookmarkWeight + tracked.views * viewWeight;
+        return Math.log10(Math.max(1.0, weighted)) + (tracked.createdAtSeconds - EPOCH_BASE_SECONDS) / decaySeconds;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private Map<BoardType, Board> emptyBoards() {
+        Map<BoardType, Board> empty = new EnumMap<>(BoardType.class);
+        for (BoardType boardType : BoardType.values()) {
+            empty.put(boardType, new Board());
+        }
+        return empty;
+    }
+
+    private String sizes(Map<BoardType, Board> boards) {
+        StringBuilder sb = new StringBuilder();
+        boards.forEach((boardType, board) -> sb.append(boardType).append('=').append(board.ranking.size()).append(' '));
+        return sb.toString().trim();
+    }
+
+    private record Ranked(double score, long postId) {
+    }
+
+    // 점수 높은 순, 같으면 최신 ID 순
+    private static final Comparator<Ranked> RANK_ORDER = Comparator
+            .comparingDouble(Ranked::score).reversed()
+            .thenComparing(Comparator.comparingLong(Ranked::postId).reversed());
+
+    private static final class Tracked {
+        final long postId;
+        final long createdAtSeconds;
+        long likes;
+        long comments;
+        long bookmarks;
+        long views;
+        Ranked ranked;
+
+        Tracked(PostStats stats) {
+            this.postId = stats.postId();
+            this.createdAtSeconds = stats.createdAt().atZone(ZoneId.systemDefault()).toEpochSecond();
+            this.likes = stats.likes();
+            this.comments = stats.comments();
+            this.bookmarks = stats.bookmarks();
+            this.views = stats.views();
+        }
+    }
+
+    /**
+     * 게시판 하나의 순위 (변경은 잠금 안에서, 조회는 skip list를 잠금 없이 순회)
+     */
+    private final class Board {
+        final ConcurrentSkipListSet<Ranked> ranking = new ConcurrentSkipListSet<>(RANK_ORDER);
+        final Map<Long, Tracked> posts = new HashMap<>();
+
+        synchronized void put(Tracked tracked) {
+            remove(tracked.postId);
+            tracked.ranked = new Ranked(score(tracked), tracked.postId);
+            posts.put(tracked.postId, tracked);
+            ranking.add(tracked.ranked);
+            // 가장 낮은 점수부터 추적 중단
+            while (posts.size() > maxTracked) {
+                Ranked lowest = ranking.pollLast();
+                if (lowest == null) {
+                    break;
+                }
+                posts.remove(lowest.postId());
+            }
+        }
+
+        synchronized void remove(long postId) {
+            Tracked tracked = posts.remove(postId);
+            if (tracked != null) {
+                ranking.remove(tracked.ranked);
+            }
+        }
+
+        synchronized boolean adjust(long postId, Engagement engagement, long delta) {
+            Tracked tracked = posts.get(postId);
+            if (tracked == null) {
+                return false;
+            }
+            switch (engagement) {
+                case LIKE -> tracked.likes = Math.max(0, tracked.likes + delta);
+                case COMMENT -> tracked.comments = Math.max(0, tracked.comments + delta);
+                case BOOKMARK -> tracked.bookmarks = Math.max(0, tracked.bookmarks + delta);
+                case VIEW -> tracked.views = Math.max(0, tracked.views + delta);
+            }
+            // 순위 재배치 (새 항목을 넣은 뒤 이전 항목 제거, 조회 중에도 게시글이 빠지지 않음)
+            Ranked previous = tracked.ranked;
+            tracked.ranked = new Ranked(score(tracked), postId);
+            ranking.add(tracked.ranked);
+            if (!previous.equals(tracked.ranked)) {
+                ranking.remove(previous);
+            }
+            return true;
+        }
+    }
+}
@@ -1,12 +1,12 @@
 package com.example.campus_house.service;
 
-import com.example.campus_house.entity.Like;
 import com.example.campus_house.entity.Post;
 import com.example.campus_house.entity.User;
 import com.example.campus_house.repository.LikeRepository;
 import com.example.campus_house.repository.PostRepository;
 import com.example.campus_house.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,39 +22,38 @@ public class LikeService {
     private final NotificationService notificationService;
     private final BadgeService badgeService;
     
-    // 게시글 좋아요 토글
+    // 게시글 좋아요 토글 (유니크 제약 기반 한 문장으로 상태 결정)
     @Transactional
     public boolean toggleLike(Long postId, Long userId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
-        
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+        int change;
+        try {
+            change = likeRepository.toggle(userId, postId);
+        } catch (DataIntegrityViolationException e) {
+            throw new RuntimeException("게시글을 찾을 수 없습니다.");
+        }
         
-        // 이미 좋아요를 눌렀는지 확인
-        if (likeRepository.existsByUserIdAndPostId(userId, postId)) {
+        if (change < 0) {
             // 좋아요 취소
-            likeRepository.deleteByUserIdAndPostId(userId, postId);
             postService.updateLikeCount(postId, -1);
             return false; // 좋아요 취소됨
+        } else if (change == 0) {
+            // 동시에 들어온 다른 요청이 이미 추가함
+            return true;
         } else {
             // 좋아요 추가
-            Like like = Like.builder()
-                    .user(user)
-                    .post(post)
-                    .build();
-            
-            likeRepository.save(like);
             postService.updateLikeCount(postId, 1);
             badgeService.awardIfFirstLike(userId);
             
-            // 게시글 작성자에게 좋아요 알림 전송 (자신의 게시글이 아닌 경우)
+            // 게시글 작성자에게 좋아요 알림 전송 (자신의 게시글이 아닌 경우, 같은 게시글의 좋아요는 한 알림으로 묶음)
+            Post post = postRepository.getReferenceById(postId);
+            User user = userRepository.getReferenceById(userId);
             if (!post.getAuthor().getUserId().equals(userId)) {
-                notificationService.createNotification(
+                notificationService.createAggregatedNotification(
                         post.getAuthor().getUserId(),
+                        user,
                         com.example.campus_house.entity.Notification.NotificationType.POST_LIKE,
                         "게시글에 좋아요가 달렸습니다",
-                        user.getNickname() + "님이 '" + post.getTitle() + "' 게시글에 좋아요를 눌렀습니다.",
+                        post.getTitle(),
                         postId.toString(),
                         "POST"
                 );
@@ -21,6 +21,7 @@ public class NearbyFacilityService {
     
     private final FacilityRepository facilityRepository;
     private final DistanceCalculator distanceCalculator;
+    private final CatalogIndexService catalogIndexService;
     
     // 반경 상수 (km)
     private static final double DEFAULT_RADIUS_KM = 1.0; // 1km
@@ -49,17 +50,17 @@ public class NearbyFacilityService {
         
         try {
             // 편의점 개수
-            Long convenienceStoreCount = facilityRepository.countNearbyFacilitiesByCategory(
+            Long convenienceStoreCount = countNearbyFacilitiesByCategory(
                 latitude, longitude, radiusKm, Facility.Category.CONVENIENCE_STORE.name());
             counts.put("convenienceStores", convenienceStoreCount.intValue());
             
             // 마트 개수
-            Long martCount = facilityRepository.countNearbyFacilitiesByCategory(
+            Long martCount = countNearbyFacilitiesByCategory(
                 latitude, longitude, radiusKm, Facility.Category.MART.name());
             counts.put("marts", martCount.intValue());
             
             // 병원 개수
-            Long hospitalCount = facilityRepository.countNearbyFacilitiesByCategory(
+            Long hospitalCount = countNearbyFacilitiesByCategory(
                 latitude, longitude, radiusKm, Facility.Category.HOSPITAL.name());
             counts.put("hospitals", hospitalCount.intValue());
             
@@ -124,7 +125,7 @@ public class NearbyFacilityService {
      */
     public Integer getConvenienceStoreCount(Double latitude, Double longitude, Double radiusKm) {
         try {
-            Long count = facilityRepository.countNearbyFacilitiesByCategory(
+            Long count = countNearbyFacilitiesByCategory(
                 latitude, longitude, radiusKm, Facility.Category.CONVENIENCE_STORE.name());
             return count.intValue();
         } catch (Exception e) {
@@ -143,7 +144,7 @@ public class NearbyFacilityService {
      */
     public Integer getMartCount(Double latitude, Double longitude, Double radiusKm) {
         try {
-            Long count = facilityRepository.countNearbyFacilitiesByCategory(
+            Long count = countNearbyFacilitiesByCategory(
                 latitude, longitude, radiusKm, Facility.Category.MART.name());
             return count.intValue();
         } catch (Exception e) {
@@ -162,7 +163,7 @@ public class NearbyFacilityService {
      */
     public Integer getHospitalCount(Double latitude, Double longitude, Double radiusKm) {
         try {
-            Long count = facilityRepository.countNearbyFacilitiesByCategory(
+            Long count = countNearbyFacilitiesByCategory(
                 latitude, longitude, radiusKm, Facility.Category.HOSPITAL.name());
             return count.intValue();
         } catch (Exception e) {
@@ -182,4 +183,14 @@ public class NearbyFacilityService {
         log.info("건물 주변 생활시설 개수 업데이트 요청 - 건물 수: {}", 
             buildingIds != null ? buildingIds.size() : "전체");
     }
+    
+    /**
+     * 반경 내 특정 카테고리 생활시설 개수 (인메모리 인덱스가 준비되지 않았으면 DB 조회)
+     */
+    private Long countNearbyFacilitiesByCategory(Double latitude, Double longitude, Double radiusKm, String category) {
+        if (catalogIndexService.isReady()) {
+            return catalogIndexService.getIndex().countOperatingFacilitiesWithinRadius(latitude, longitude, radiusKm, category);
+        }
+        return facilityRepository.countNearbyFacilitiesByCategory(latitude, longitude, radiusKm, category);
+    }
 }
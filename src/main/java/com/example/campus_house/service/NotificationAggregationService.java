@@ -0,0 +1,218 @@
+package com.example.campus_house.service;
+
+import com.example.campus_house.dto.NotificationEvent;
+import com.example.campus_house.entity.Notification;
+import com.example.campus_house.entity.User;
+import com.example.campus_house.repository.NotificationRepository;
+import com.example.campus_house.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 알림 묶기 ("민수님 외 2명이 좋아요를 눌렀습니다")
+ * 같은 (수신자, 타입, 관련 ID)의 읽지 않은 알림이 묶음 기간(마지막 행위 기준 sliding window) 안에 있으면
+ * 새 행을 만들지 않고 그 행의 행위자 수·최근 행위자·내용을 갱신합니다.
+ * 실시간 전송은 알림마다 모아 두었다가 quiet-ms 동안 새 행위가 없거나 max-delay-ms가 지나면 최신 상태를 한 번 보냅니다.
+ */
+@Service
+@Slf4j
+public class NotificationAggregationService {
+
+    private static final String SEPARATOR = ",";
+
+    private final NotificationRepository notificationRepository;
+    private final UserRepository userRepository;
+    private final UnreadCounterService unreadCounterService;
+    private final NotificationStreamService notificationStreamService;
+
+    private final long windowMinutes;
+    private final int maxActors;
+    private final long quietMs;
+    private final long maxDelayMs;
+
+    // 전송 대기 중인 알림 (알림 ID → 대기 상태)
+    private final Map<Long, PendingDelivery> pending = new ConcurrentHashMap<>();
+
+    public NotificationAggregationService(NotificationRepository notificationRepository,
+                                          UserRepository userRepository,
+                                          UnreadCounterService unreadCounterService,
+                                          NotificationStreamService notificationStreamService,
+                                          @Value("${notification.aggregation.window-minutes:60}") long windowMinutes,
+                                          @Value("${notification.aggregation.max-actors:3}") int maxActors,
+                                          @Value("${notification.aggregation.quiet-ms:3000}") long quietMs,
+                                          @Value("${notification.aggregation.max-delay-ms:15000}") long maxDelayMs) {
+        this.notificationRepository = notificationRepository;
+        this.userRepository = userRepository;
+        this.unreadCounterService = unreadCounterService;
+        this.notificationStreamService = notificationStreamService;
+        this.windowMinutes = windowMinutes;
+        this.maxActors = maxActors;
+        this.quietMs = quietMs;
+        this.maxDelayMs = maxDelayMs;
+    }
+
+    private record PendingDelivery(Long userId, long firstAt, long lastAt) {
+    }
+
+    /**
+     * 묶음 알림 생성 또는 기존 알림에 행위자 추가 (호출자의 트랜잭션 안에서 실행)
+     *
+     * @param subject 내용에 들어갈 대상 (게시글 제목 등)
+     */
+    public Notification aggregate(Long userId, User actor, Notification.NotificationType type, String title,
+                                  String subject, String relatedId, String relatedType) {
+        if (userId.equals(actor.getUserId())) {
+            return null;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Notification> targets = notificationRepository.findAggregationTargets(
+                userId, type, relatedId, now.minusMinutes(windowMinutes), PageRequest.of(0, 1));
+
+        Notification notification;
+        if (targets.isEmpty()) {
+            User user = userRepository.getReferenceById(userId);
+            notification = Notification.builder()
+                    .user(user)
+                    .fromUser(actor)
+                    .type(type)
+                    .title(title)
+                    .relatedId(relatedId)
+                    .relatedType(relatedType)
+                    .isRead(false)
+                    .actorCount(1)
+                    .latestActorIds(String.valueOf(actor.getUserId()))
+                    .latestActorNames(nameOf(actor))
+                    .lastActorAt(now)
+                    .build();
+            notification.setContent(contentOf(notification, subject));
+            notification = notificationRepository.save(notification);
+            unreadCounterService.addNotificationUnread(userId, 1);
+        } else {
+            // 이미 읽지 않은 알림이므로 읽지 않은 수는 그대로
+            notification = targets.get(0);
+            addActor(notification, actor);
+            notification.setFromUser(actor);
+            notification.setLastActorAt(now);
+            notification.setContent(contentOf(notification, subject));
+        }
+
+        scheduleDelivery(notification.getId(), userId);
+        return notification;
+    }
+
+    public int getPendingDeliveryCount() {
+        return pending.size();
+    }
+
+    /**
+     * 조용해졌거나 오래 기다린 묶음 알림을 최신 상태로 전송
+     */
+    @Scheduled(fixedDelayString = "${notification.aggregation.flush-interval-ms:1000}")
+    public void flushDeliveries() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        Map<Long, Long> due = new LinkedHashMap<>();
+        for (Map.Entry<Long, PendingDelivery> entry : pending.entrySet()) {
+            PendingDelivery delivery = entry.getValue();
+            if ((now - delivery.lastAt() >= quietMs || now - delivery.firstAt() >= maxDelayMs)
+                    && pending.remove(entry.getKey(), delivery)) {
+                due.put(entry.getKey(), delivery.userId());
+            }
+        }
+        if (due.isEmpty()) {
+            return;
+        }
+
+        try {
+            for (Notification notification : notificationRepository.findAllById(due.keySet())) {
+                notificationStreamService.publish(due.get(notification.getId()), NotificationEvent.from(notification));
+            }
+        } catch (Exception e) {
+            log.warn("묶음 알림 전송 실패 ({}건): {}", due.size(), e.getMessage());
+        }
+    }
+
+    // ========== 내부 구현 ==========
+
+    // 최근 행위자 목록 맨 앞에 추가 (이미 있으면 앞으로 옮기기만 하고 수는 그대로)
+    private void addActor(Notification notification, User actor) {
+        List<String> ids = split(notification.getLatestActorIds());
+        List<String> names = split(notification.getLatestActorNames());
+        String actorId = String.valueOf(actor.getUserId());
+
+        int index = ids.indexOf(actorId);
+        if (index >= 0) {
+            ids.remove(index);
+            if (index < names.size()) {
+                names.remove(index);
+            }
+        } else {
+            int count = notification.getActorCount() != null ? notification.getActorCount() : 1;
+            notification.setActorCount(count + 1);
+        }
+        ids.add(0, actorId);
+        names.add(0, nameOf(actor));
+
+        notification.setLatestActorIds(String.join(SEPARATOR, ids.subList(0, Math.min(maxActors, ids.size()))));
+        notification.setLatestActorNames(String.join(SEPARATOR, names.subList(0, Math.min(maxActors, names.size()))));
+    }
+
+    private String contentOf(Notification notification, String subject) {
+        List<String> names = split(notification.getLatestActorNames());
+        int count = notification.getActorCount() != null ? notification.getActorCount() : 1;
+        String latest = names.isEmpty() ? "익명" : names.get(0);
+        String actors = count > 1 ? latest + "님 외 " + (count - 1) + "명" : latest + "님";
+
+        return switch (notification.getType()) {
+            case POST_LIKE -> actors + "이 '" + subject + "' 게시글에 좋아요를 눌렀습니다.";
+            case POST_COMMENT -> actors + "이 '" + subject + "' 게시글에 댓글을 남겼습니다.";
+            case COMMENT_REPLY -> actors + "이 '" + subject + "' 게시글의 댓글에 답글을 남겼습니다.";
+            default -> actors + "의 새 알림이 있습니다.";
+        };
+    }
+
+    private List<String> split(String joined) {
+        if (joined == null || joined.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(Arrays.asList(joined.split(SEPARATOR)));
+    }
+
+    // 구분자가 닉네임에 섞이지 않도록 치환
+    private String nameOf(User actor) {
+        return actor.getNickname() != null ? actor.getNickname().replace(SEPARATOR, " ") : "익명";
+    }
+
+    private void scheduleDelivery(Long notificationId, Long userId) {
+        Runnable schedule = () -> {
+            long now = System.currentTimeMillis();
+            pending.merge(notificationId, new PendingDelivery(userId, now, now),
+                    (previous, current) -> new PendingDelivery(userId, previous.firstAt(), now));
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    schedule.run();
+                }
+            });
+        } else {
+            schedule.run();
+        }
+    }
+}
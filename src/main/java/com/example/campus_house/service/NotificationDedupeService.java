@@ -0,0 +1,174 @@
+package com.example.campus_house.service;
+
+import com.example.campus_house.entity.Notification;
+import com.example.campus_house.repository.NotificationBatchRepository;
+import com.example.campus_house.repository.NotificationRepository;
+import com.example.campus_house.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 중복 알림 확인 (createNotificationIfNotExists)
+ * 중복 여부는 notifications.dedupe_key 유니크 인덱스가 최종 판단하고(INSERT ... ON CONFLICT DO NOTHING),
+ * 이 서비스의 블룸 필터는 이미 있을 법한 키만 먼저 EXISTS로 걸러 내는 힌트입니다.
+ * 필터는 서버마다 따로 가지므로 "없음"이어도 다른 서버가 저장했을 수 있고, 그 경우는 INSERT가 막습니다.
+ * 필터는 보관 기간을 generations개 구간으로 나눈 구간별로 만들고, 보관 기간이 지난 구간의 필터는 통째로 버립니다.
+ */
+@Service
+@Slf4j
+public class NotificationDedupeService {
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationBatchRepository notificationBatchRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final int retentionDays;
+    private final int generations;
+    private final long generationSpanMs;
+    private final long expectedPerGeneration;
+    private final double generationFalsePositiveRate;
+
+    // 구간 번호(생성 시각 / 구간 길이) → 필터
+    private final ConcurrentSkipListMap<Long, BloomFilter> filters = new ConcurrentSkipListMap<>();
+    private volatile boolean ready = false;
+
+    private final Counter skipped;
+    private final Counter duplicates;
+    private final Counter falsePositives;
+    private final Counter conflicts;
+    private final AtomicLong rebuiltKeys = new AtomicLong();
+
+    public NotificationDedupeService(NotificationRepository notificationRepository,
+                                     NotificationBatchRepository notificationBatchRepository,
+                                     PlatformTransactionManager transactionManager,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${notification.retention.days:30}") int retentionDays,
+                                     @Value("${notification.dedupe.generations:4}") int generations,
+                                     @Value("${notification.dedupe.expected-per-generation:1000000}") long expectedPerGeneration,
+                                     @Value("${notification.dedupe.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.notificationRepository = notificationRepository;
+        this.notificationBatchRepository = notificationBatchRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.retentionDays = retentionDays;
+        this.generations = generations;
+        this.generationSpanMs = retentionDays * 86_400_000L / generations;
+        this.expectedPerGeneration = expectedPerGeneration;
+        // 조회 시 generations + 1개 필터를 OR하므로 오탐률이 더해짐 → 구간별 오탐률을 나눠서 전체가 설정값을 넘지 않게 함
+        this.generationFalsePositiveRate = falsePositiveRate / (generations + 1);
+
+        this.skipped = Counter.builder("notification.dedupe.checks").tag("result", "bloom_negative")
+                .description("블룸 필터로 EXISTS 조회를 생략한 중복 확인 수").register(meterRegistry);
+        this.duplicates = Counter.builder("notification.dedupe.checks").tag("result", "duplicate")
+                .description("EXISTS 조회로 확인된 중복 수").register(meterRegistry);
+        this.falsePositives = Counter.builder("notification.dedupe.checks").tag("result", "false_positive")
+                .description("블룸 필터 오탐으로 조회했지만 중복이 아니었던 수").register(meterRegistry);
+        this.conflicts = Counter.builder("notification.dedupe.checks").tag("result", "conflict")
+                .description("미리 확인을 통과했지만 INSERT ON CONFLICT로 막힌 중복 수").register(meterRegistry);
+    }
+
+    /**
+     * 중복 방지 키 (수신자, 타입, 관련 타입, 관련 ID)
+     */
+    public String key(Long userId, Notification.NotificationType type, String relatedId, String relatedType) {
+        return userId + "|" + type.name() + "|" + relatedType + "|" + relatedId;
+    }
+
+    /**
+     * 같은 키의 알림이 이미 있는지 미리 확인 (false여도 저장은 ON CONFLICT로 다시 판단해야 함)
+     */
+    public boolean isDuplicate(String key) {
+        if (ready && !mightContain(key)) {
+            skipped.increment();
+            return false;
+        }
+        boolean exists = notificationRepository.existsByDedupeKey(key);
+        if (exists) {
+            duplicates.increment();
+        } else if (ready) {
+            falsePositives.increment();
+        }
+        return exists;
+    }
+
+    /**
+     * 저장한 키 기록 (롤백되면 오탐이 하나 늘 뿐 결과는 틀리지 않음)
+     */
+    public void record(String key) {
+        filterFor(System.currentTimeMillis()).put(key);
+    }
+
+    /**
+     * INSERT가 같은 키 때문에 건너뛰어진 경우 (다른 서버·동시 요청이 먼저 저장)
+     */
+    public void recordConflict(String key) {
+        conflicts.increment();
+        record(key);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // ========== 재구성 / 만료 ==========
+
+    // 보관 기간 안의 중복 방지 키로 필터 채우기 (그 사이 저장된 키는 record로 함께 기록됨)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        try {
+            rebuiltKeys.set(0);
+            LocalDateTime since = LocalDateTime.now().minusDays(retentionDays);
+            readOnlyTransaction.executeWithoutResult(status ->
+                    notificationBatchRepository.forEachDedupeKeySince(since, key -> {
+                        long createdAtMs = key.createdAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                        filterFor(createdAtMs).put(key.key());
+                        rebuiltKeys.incrementAndGet();
+                    }));
+            expireGenerations();
+            ready = true;
+            log.info("알림 중복 확인 필터 재구성 완료: {}건, 필터 {}개 ({}ms)",
+                    rebuiltKeys.get(), filters.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            // 필터 없이도 EXISTS 조회와 ON CONFLICT로 동작
+            log.error("알림 중복 확인 필터 재구성 실패, DB 조회로 동작합니다.", e);
+        }
+    }
+
+    // 보관 기간이 지난 구간의 필터 제거
+    @Scheduled(cron = "${notification.dedupe.expire-cron:0 0 * * * *}")
+    public void expireGenerations() {
+        // 가장 오래된 구간은 일부만 보관 기간 안이므로 generations + 1개를 유지
+        long oldestKept = System.currentTimeMillis() / generationSpanMs - generations;
+        filters.headMap(oldestKept).clear();
+    }
+
+    // ========== 내부 구현 ==========
+
+    private boolean mightContain(String key) {
+        for (BloomFilter filter : filters.values()) {
+            if (filter.mightContain(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private BloomFilter filterFor(long timestampMs) {
+        return filters.computeIfAbsent(timestampMs / generationSpanMs,
+                index -> new BloomFilter(expectedPerGeneration, generationFalsePositiveRate));
+    }
+}
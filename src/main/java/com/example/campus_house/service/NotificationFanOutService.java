@@ -0,0 +1,208 @@
+package com.example.campus_house.service;
+
+import com.example.campus_house.dto.NotificationEvent;
+import com.example.campus_house.entity.Notification;
+import com.example.campus_house.repository.NotificationBatchRepository;
+import com.example.campus_house.repository.UserRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 건물 거주자 알림 fan-out
+ * 게시글 작성 요청은 작업 하나만 등록하고(커밋 후), 작업자 스레드가 수신자 ID를 한 번 조회한 뒤
+ * batch-size 단위로 알림 INSERT와 읽지 않은 수 증가를 각각 한 트랜잭션에서 처리합니다.
+ * 대기 작업 수와 가장 오래 기다린 작업의 대기 시간은 notification.fan-out.* 지표로 노출합니다.
+ */
+@Service
+@Slf4j
+public class NotificationFanOutService {
+
+    private final UserRepository userRepository;
+    private final NotificationBatchRepository notificationBatchRepository;
+    private final UnreadCounterService unreadCounterService;
+    private final NotificationStreamService notificationStreamService;
+    private final TaskExecutor notificationFanOutExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    // 등록됐지만 아직 시작하지 않은 작업 (작업 번호 → 등록 시각)
+    private final ConcurrentSkipListMap<Long, Long> waiting = new ConcurrentSkipListMap<>();
+    private final AtomicLong jobSequence = new AtomicLong();
+    private final AtomicLong deliveredCount = new AtomicLong();
+
+    public NotificationFanOutService(UserRepository userRepository,
+                                     NotificationBatchRepository notificationBatchRepository,
+                                     UnreadCounterService unreadCounterService,
+                                     NotificationStreamService notificationStreamService,
+                                     @Qualifier("notificationFanOutExecutor") TaskExecutor notificationFanOutExecutor,
+                                     PlatformTransactionManager transactionManager,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${notification.fan-out.batch-size:500}") int batchSize) {
+        this.userRepository = userRepository;
+        this.notificationBatchRepository = notificationBatchRepository;
+        this.unreadCounterService = unreadCounterService;
+        this.notificationStreamService = notificationStreamService;
+        this.notificationFanOutExecutor = notificationFanOutExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+
+        Gauge.builder("notification.fan-out.queue.depth", this, NotificationFanOutService::getQueueDepth)
+                .description("시작하지 않은 알림 fan-out 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("notification.fan-out.lag", this, NotificationFanOutService::getLagMs)
+                .description("가장 오래 기다린 알림 fan-out 작업의 대기 시간(ms)")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("notification.fan-out.delivered", deliveredCount, AtomicLong::get)
+                .description("fan-out으로 저장한 알림 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 건물 거주자 알림 작업 (수신자는 작업 실행 시 조회)
+     */
+    private record FanOutJob(long jobId, Long buildingId, Long fromUserId, Notification.NotificationType type,
+                             String title, String content, String relatedId, String relatedType) {
+    }
+
+    /**
+     * 건물 거주자 알림 작업 등록
+     * 호출자의 트랜잭션이 있으면 커밋 후에 등록하므로 롤백된 게시글의 알림은 나가지 않습니다.
+     */
+    public void enqueueBuildingResidents(Long buildingId, Long fromUserId, Notification.NotificationType type,
+                                         String title, String content, String relatedId, String relatedType) {
+        Runnable submit = () -> submit(new FanOutJob(jobSequence.incrementAndGet(), buildingId, fromUserId, type,
+                title, content, relatedId, relatedType));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit.run();
+                }
+            });
+        } else {
+            submit.run();
+        }
+    }
+
+    /**
+     * 수신자마다 내용이 다른 알림 일괄 저장 (호출 스레드에서 별도 트랜잭션 하나로 처리)
+     * 채팅 write-behind처럼 여러 알림을 모아 두었다가 한 번에 저장하는 경로에서 사용합니다.
+     *
+     * @return 저장한 알림 수
+     */
+    public int deliverAll(List<NotificationBatchRepository.NewNotification> notifications) {
+        if (notifications.isEmpty()) {
+            return 0;
+        }
+        Integer inserted = transactionTemplate.execute(status -> {
+            List<NotificationBatchRepository.InsertedDirectNotification> rows =
+                    notificationBatchRepository.insertAll(notifications);
+            for (NotificationBatchRepository.InsertedDirectNotification row : rows) {
+                NotificationBatchRepository.NewNotification notification = row.notification();
+                unreadCounterService.addNotificationUnread(notification.userId(), 1);
+                notificationStreamService.publishAfterCommit(notification.userId(), NotificationEvent.builder()
+                        .id(row.id())
+                        .type(notification.type())
+                        .title(notification.title())
+                        .content(notification.content())
+                        .fromUserId(notification.fromUserId())
+                        .relatedId(notification.relatedId())
+                        .relatedType(notification.relatedType())
+                        .createdAt(row.createdAt())
+                        .build());
+            }
+            return rows.size();
+        });
+        int delivered = inserted != null ? inserted : 0;
+        deliveredCount.addAndGet(delivered);
+        return delivered;
+    }
+
+    // 대기 중인 작업 수
+    public int getQueueDepth() {
+        return waiting.size();
+    }
+
+    // 가장 오래 기다린 작업의 대기 시간 (대기 작업이 없으면 0)
+    public long getLagMs() {
+        Map.Entry<Long, Long> oldest = waiting.firstEntry();
+        return oldest != null ? Math.max(0, System.currentTimeMillis() - oldest.getValue()) : 0;
+    }
+
+    public long getDeliveredCount() {
+        return deliveredCount.get();
+    }
+
+    // ========== 내부 구현 ==========
+
+    private void submit(FanOutJob job) {
+        waiting.put(job.jobId(), System.currentTimeMillis());
+        try {
+            notificationFanOutExecutor.execute(() -> run(job));
+        } catch (Exception e) {
+            waiting.remove(job.jobId());
+            log.error("알림 fan-out 작업 등록 실패: buildingId={}, relatedId={}", job.buildingId(), job.relatedId(), e);
+        }
+    }
+
+    private void run(FanOutJob job) {
+        Long enqueuedAt = waiting.remove(job.jobId());
+        long start = System.currentTimeMillis();
+        try {
+            // 수신자 ID는 작업당 한 번만 조회 (작성자 제외)
+            List<Long> recipientIds = userRepository.findVerifiedResidentIdsByBuildingId(job.buildingId()).stream()
+                    .filter(id -> !id.equals(job.fromUserId()))
+                    .toList();
+
+            int delivered = 0;
+            for (int from = 0; from < recipientIds.size(); from += batchSize) {
+                List<Long> batch = recipientIds.subList(from, Math.min(from + batchSize, recipientIds.size()));
+                try {
+                    Integer inserted = transactionTemplate.execute(status -> {
+                        List<NotificationBatchRepository.InsertedNotification> rows =
+                                notificationBatchRepository.insertForRecipients(batch, job.fromUserId(), job.type(),
+                                        job.title(), job.content(), job.relatedId(), job.relatedType());
+                        unreadCounterService.addNotificationUnread(batch, 1);
+                        for (NotificationBatchRepository.InsertedNotification row : rows) {
+                            notificationStreamService.publishAfterCommit(row.userId(), NotificationEvent.builder()
+                                    .id(row.id())
+                                    .type(job.type())
+                                    .title(job.title())
+                                    .content(job.content())
+                                    .fromUserId(job.fromUserId())
+                                    .relatedId(job.relatedId())
+                                    .relatedType(job.relatedType())
+                                    .createdAt(row.createdAt())
+                                    .build());
+                        }
+                        return rows.size();
+                    });
+                    delivered += inserted != null ? inserted : 0;
+                } catch (Exception e) {
+                    // 실패한 배치만 건너뛰고 나머지 수신자에게는 계속 전송
+                    log.error("알림 fan-out 배치 저장 실패: buildingId={}, 수신자 {}명", job.buildingId(), batch.size(), e);
+                }
+            }
+            deliveredCount.addAndGet(delivered);
+            log.debug("알림 fan-out 완료: buildingId={}, {}건, 대기 {}ms, 처리 {}ms", job.buildingId(), delivered,
+                    enqueuedAt != null ? start - enqueuedAt : 0, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("알림 fan-out 실패: buildingId={}, relatedId={}", job.buildingId(), job.relatedId(), e);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.campus_house.service;
+
+import com.example.campus_house.repository.NotificationRetentionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 알림 보관 기간 정리
+ * 보관 기간이 지난 알림을 ID 구간(chunk-size)마다 짧은 트랜잭션으로 지우고, 구간 사이에 쉬어 잠금과 WAL이 몰리지 않게 합니다.
+ * 지운 읽지 않은 알림만큼 사용자별 읽지 않은 수도 같은 트랜잭션에서 줄입니다.
+ * notifications가 월별 파티션 테이블이면(운영에서 전환한 경우) 다음 달 파티션을 미리 만들고,
+ * 통째로 보관 기간이 지난 달의 파티션은 DELETE 대신 DROP 합니다.
+ */
+@Service
+@Slf4j
+public class NotificationRetentionService {
+
+    private final NotificationRetentionRepository notificationRetentionRepository;
+    private final UnreadCounterService unreadCounterService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int retentionDays;
+    private final int chunkSize;
+    private final long pauseMs;
+    private final boolean partitionsEnabled;
+    private final int partitionsAhead;
+
+    private final Counter deletedRows;
+    private final Counter droppedPartitions;
+    private final Timer runTimer;
+    private final AtomicLong lastRunDeleted = new AtomicLong();
+    private final AtomicLong lastRunAt = new AtomicLong();
+
+    public NotificationRetentionService(NotificationRetentionRepository notificationRetentionRepository,
+                                        UnreadCounterService unreadCounterService,
+                                        PlatformTransactionManager transactionManager,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${notification.retention.days:30}") int retentionDays,
+                                        @Value("${notification.retention.chunk-size:5000}") int chunkSize,
+                                        @Value("${notification.retention.pause-ms:200}") long pauseMs,
+                                        @Value("${notification.retention.partitions.enabled:false}") boolean partitionsEnabled,
+                                        @Value("${notification.retention.partitions.months-ahead:2}") int partitionsAhead) {
+        this.notificationRetentionRepository = notificationRetentionRepository;
+        this.unreadCounterService = unreadCounterService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retentionDays = retentionDays;
+        this.chunkSize = chunkSize;
+        this.pauseMs = pauseMs;
+        this.partitionsEnabled = partitionsEnabled;
+        this.partitionsAhead = partitionsAhead;
+
+        this.deletedRows = Counter.builder("notification.retention.deleted")
+                .description("보관 기간이 지나 삭제한 알림 수").register(meterRegistry);
+        this.droppedPartitions = Counter.builder("notification.retention.partitions.dropped")
+                .description("삭제한 월별 알림 파티션 수").register(meterRegistry);
+        this.runTimer = Timer.builder("notification.retention.run")
+                .description("알림 보관 기간 정리 소요 시간").register(meterRegistry);
+        Gauge.builder("notification.retention.last-run.deleted", lastRunDeleted, AtomicLong::get)
+                .description("마지막 정리에서 삭제한 알림 수").register(meterRegistry);
+        Gauge.builder("notification.retention.last-run.timestamp", lastRunAt, AtomicLong::get)
+                .description("마지막 정리 완료 시각 (epoch millis)").register(meterRegistry);
+    }
+
+    /**
+     * 보관 기간이 지난 알림 정리
+     *
+     * @return 삭제한 알림 수 (파티션 DROP으로 지운 행 제외)
+     */
+    public long purgeExpired() {
+        return runTimer.record(() -> {
+            LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+            if (partitionsEnabled) {
+                managePartitions(cutoff);
+            }
+            long deleted = deleteInChunks(cutoff);
+            lastRunDeleted.set(deleted);
+            lastRunAt.set(System.currentTimeMillis());
+            return deleted;
+        });
+    }
+
+    // ========== ID 구간 삭제 ==========
+
+    private long deleteInChunks(LocalDateTime cutoff) {
+        Long minId = notificationRetentionRepository.findMinId();
+        Long lastExpiredId = notificationRetentionRepository.findLastExpiredId(cutoff);
+        if (minId == null || lastExpiredId == null) {
+            return 0;
+        }
+
+        long start = System.currentTimeMillis();
+        long deleted = 0;
+        int chunks = 0;
+        for (long from = minId; from <= lastExpiredId; from += chunkSize) {
+            long chunkFrom = from;
+            long chunkTo = Math.min(from + chunkSize, lastExpiredId + 1);
+            Long count = transactionTemplate.execute(status -> {
+                NotificationRetentionRepository.DeletedChunk chunk =
+                        notificationRetentionRepository.deleteExpiredInRange(chunkFrom, chunkTo, cutoff);
+                chunk.unreadByUser().forEach((userId, unread) -> unreadCounterService.addNotificationUnread(userId, -unread));
+                return chunk.deleted();
+            });
+            chunks++;
+            if (count == null || count == 0) {
+                continue; // 빈 구간은 쉬지 않고 넘어감
+            }
+            deleted += count;
+            deletedRows.increment(count);
+            if (!pause()) {
+                break;
+            }
+        }
+
+        if (deleted > 0) {
+            log.info("보관 기간이 지난 알림 삭제 완료: {}건, {}개 구간 ({}ms)", deleted, chunks, System.currentTimeMillis() - start);
+        }
+        return deleted;
+    }
+
+    // ========== 월별 파티션 ==========
+
+    private void managePartitions(LocalDateTime cutoff) {
+        try {
+            if (!notificationRetentionRepository.isPartitioned()) {
+                log.warn("notifications가 파티션 테이블이 아니므로 파티션 관리를 건너뜁니다 (구간 삭제로 정리).");
+                return;
+            }
+
+            // 이번 달부터 months-ahead 달 뒤까지 미리 생성
+            LocalDate thisMonth = LocalDate.now().withDayOfMonth(1);
+            for (int i = 0; i <= partitionsAhead; i++) {
+                notificationRetentionRepository.createMonthlyPartition(thisMonth.plusMonths(i));
+            }
+
+            // 다음 달 1일이 보관 기준 이전인 달(모든 행이 보관 기간을 지남)만 삭제
+            for (String partition : notificationRetentionRepository.findMonthlyPartitions()) {
+                LocalDate month = NotificationRetentionRepository.monthOf(partition);
+                if (month == null || !month.plusMonths(1).atStartOfDay().isBefore(cutoff)) {
+                    continue;
+                }
+                transactionTemplate.executeWithoutResult(status -> {
+                    Map<Long, Long> unreadByUser = notificationRetentionRepository.countUnreadByUser(partition);
+                    unreadByUser.forEach((userId, unread) -> unreadCounterService.addNotificationUnread(userId, -unread));
+                    notificationRetentionRepository.dropPartition(partition);
+                });
+                droppedPartitions.increment();
+                log.info("보관 기간이 지난 알림 파티션 삭제: {}", partition);
+            }
+        } catch (Exception e) {
+            log.error("알림 파티션 관리 실패, 구간 삭제로 계속 진행합니다.", e);
+        }
+    }
+
+    // 구간 사이 대기 (인터럽트되면 false)
+    private boolean pause() {
+        if (pauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
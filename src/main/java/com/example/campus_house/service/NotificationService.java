@@ -1,12 +1,16 @@
 package com.example.campus_house.service;
 
+import com.example.campus_house.dto.NotificationEvent;
 import com.example.campus_house.entity.Notification;
 import com.example.campus_house.entity.User;
+import com.example.campus_house.repository.NotificationBatchRepository;
 import com.example.campus_house.repository.NotificationRepository;
 import com.example.campus_house.repository.UserRepository;
+import com.example.campus_house.util.CursorUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,7 +22,14 @@ import java.util.List;
 public class NotificationService {
     
     private final NotificationRepository notificationRepository;
+    private final NotificationBatchRepository notificationBatchRepository;
     private final UserRepository userRepository;
+    private final UnreadCounterService unreadCounterService;
+    private final NotificationFanOutService notificationFanOutService;
+    private final NotificationStreamService notificationStreamService;
+    private final NotificationAggregationService notificationAggregationService;
+    private final NotificationDedupeService notificationDedupeService;
+    private final NotificationRetentionService notificationRetentionService;
     
     // 알림 생성
     @Transactional
@@ -37,7 +48,10 @@ public class NotificationService {
                 .isRead(false)
                 .build();
         
-        return notificationRepository.save(notification);
+        notification = notificationRepository.save(notification);
+        unreadCounterService.addNotificationUnread(userId, 1);
+        notificationStreamService.publishAfterCommit(userId, NotificationEvent.from(notification));
+        return notification;
     }
     
     // 다른 사용자로부터 알림 생성
@@ -66,22 +80,68 @@ public class NotificationService {
                 .isRead(false)
                 .build();
         
-        return notificationRepository.save(notification);
+        notification = notificationRepository.save(notification);
+        unreadCounterService.addNotificationUnread(userId, 1);
+        notificationStreamService.publishAfterCommit(userId, NotificationEvent.from(notification));
+        return notification;
     }
     
-    // 중복 알림 방지 (같은 관련 ID와 타입으로 이미 알림이 있는지 확인)
+    // 서로 다른 알림 일괄 생성 (채팅 write-behind처럼 모아 둔 알림을 INSERT 한 번으로 저장)
+    public int createNotifications(List<NotificationBatchRepository.NewNotification> notifications) {
+        return notificationFanOutService.deliverAll(notifications);
+    }
+    
+    // 같은 대상에 대한 알림 묶기 (좋아요·댓글처럼 한 게시글에 몰리는 알림)
+    @Transactional
+    public Notification createAggregatedNotification(Long userId, User actor, Notification.NotificationType type,
+                                                     String title, String subject, String relatedId, String relatedType) {
+        return notificationAggregationService.aggregate(userId, actor, type, title, subject, relatedId, relatedType);
+    }
+    
+    // 중복 알림 방지 (같은 관련 ID와 타입으로 이 메서드가 이미 만든 알림이 있으면 만들지 않음)
     @Transactional
     public Notification createNotificationIfNotExists(Long userId, Long fromUserId, Notification.NotificationType type,
                                                      String title, String content, String relatedId, String relatedType) {
-        // 이미 같은 알림이 있는지 확인
-        List<Notification> existingNotifications = notificationRepository.findByUserIdAndRelatedIdAndRelatedTypeAndType(
-                userId, relatedId, relatedType, type);
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("사용자를 찾을 수 없습니다.");
+        }
+        if (fromUserId != null && !userRepository.existsById(fromUserId)) {
+            throw new RuntimeException("알림을 보낸 사용자를 찾을 수 없습니다.");
+        }
         
-        if (!existingNotifications.isEmpty()) {
-            return null; // 이미 존재하는 알림
+        // 자기 자신에게는 알림을 보내지 않음
+        if (fromUserId != null && userId.equals(fromUserId)) {
+            return null;
         }
         
-        return createNotificationFromUser(userId, fromUserId, type, title, content, relatedId, relatedType);
+        // 블룸 필터가 "있을 수도 있음"이면 먼저 확인 (이미 존재하는 알림)
+        String dedupeKey = notificationDedupeService.key(userId, type, relatedId, relatedType);
+        if (notificationDedupeService.isDuplicate(dedupeKey)) {
+            return null;
+        }
+        
+        // 필터는 서버별 힌트일 뿐이므로 최종 판단은 유니크 인덱스 (다른 서버·동시 요청이 먼저 저장했으면 건너뜀)
+        NotificationBatchRepository.InsertedDirectNotification row = notificationBatchRepository.insertIfAbsent(
+                new NotificationBatchRepository.NewNotification(userId, fromUserId, type, title, content, relatedId, relatedType),
+                dedupeKey);
+        if (row == null) {
+            notificationDedupeService.recordConflict(dedupeKey);
+            return null;
+        }
+        
+        notificationDedupeService.record(dedupeKey);
+        unreadCounterService.addNotificationUnread(userId, 1);
+        notificationStreamService.publishAfterCommit(userId, NotificationEvent.builder()
+                .id(row.id())
+                .type(type)
+                .title(title)
+                .content(content)
+                .fromUserId(fromUserId)
+                .relatedId(relatedId)
+                .relatedType(relatedType)
+                .createdAt(row.createdAt())
+                .build());
+        return notificationRepository.findById(row.id()).orElse(null);
     }
     
     // 사용자별 알림 조회 (페이징)
@@ -89,26 +149,38 @@ public class NotificationService {
         return notificationRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
     }
     
+    // 사용자별 알림 커서 조회 (최신순, OFFSET/COUNT 없음)
+    public Slice<Notification> getUserNotificationSlice(Long userId, String cursor, int size) {
+        Pageable pageable = CursorUtil.pageRequest(size);
+        if (CursorUtil.isFirstPage(cursor)) {
+            return notificationRepository.findFeedByUserId(userId, pageable);
+        }
+        CursorUtil.Key key = CursorUtil.decode(cursor);
+        return notificationRepository.findFeedByUserIdBefore(userId, key.createdAt(), key.id(), pageable);
+    }
+    
     // 사용자별 읽지 않은 알림 조회
     public List<Notification> getUnreadNotifications(Long userId) {
         return notificationRepository.findByUserIdAndIsReadFalseOrderByCreatedAtDesc(userId);
     }
     
-    // 사용자별 읽지 않은 알림 개수
+    // 사용자별 읽지 않은 알림 개수 (카운터 캐시 조회)
     public Long getUnreadNotificationCount(Long userId) {
-        return notificationRepository.countByUserIdAndIsReadFalse(userId);
+        return unreadCounterService.getNotificationUnread(userId);
     }
     
     // 알림 읽음 처리
     @Transactional
     public void markAsRead(Long notificationId, Long userId) {
-        notificationRepository.markAsReadByIdAndUserId(notificationId, userId);
+        int updated = notificationRepository.markAsReadByIdAndUserId(notificationId, userId);
+        unreadCounterService.addNotificationUnread(userId, -updated);
     }
     
     // 모든 알림 읽음 처리
     @Transactional
     public void markAllAsRead(Long userId) {
         notificationRepository.markAllAsReadByUserId(userId);
+        unreadCounterService.resetNotificationUnread(userId);
     }
     
     // 알림 삭제
@@ -122,13 +194,14 @@ public class NotificationService {
         }
         
         notificationRepository.delete(notification);
+        if (!Boolean.TRUE.equals(notification.getIsRead())) {
+            unreadCounterService.addNotificationUnread(userId, -1);
+        }
     }
     
-    // 오래된 알림 정리 (30일 이상)
-    @Transactional
-    public void cleanupOldNotifications() {
-        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(30);
-        notificationRepository.deleteOldNotifications(cutoffDate);
+    // 오래된 알림 정리 (보관 기간이 지난 알림을 구간 단위로 삭제, 매일 새벽 NotificationRetentionScheduler에서 실행)
+    public long cleanupOldNotifications() {
+        return notificationRetentionService.purgeExpired();
     }
     
     // 특정 타입의 알림 조회
@@ -141,26 +214,9 @@ public class NotificationService {
         return notificationRepository.findByUserIdAndCreatedAtBetweenOrderByCreatedAtDesc(userId, startDate, endDate);
     }
     
-    // 건물 거주자들에게 알림 전송
-    @Transactional
+    // 건물 거주자들에게 알림 전송 (작업 등록만 하고 저장은 fan-out 작업자가 일괄 처리)
     public void notifyBuildingResidents(Long buildingId, Long fromUserId, Notification.NotificationType type,
                                        String title, String content, String relatedId, String relatedType) {
-        // 해당 건물에 거주지 인증된 사용자들 조회
-        List<User> residents = userRepository.findByVerifiedBuildingIdAndIsVerifiedTrue(buildingId);
-        
-        // 각 거주자에게 알림 전송 (질문 작성자는 제외)
-        for (User resident : residents) {
-            if (!resident.getUserId().equals(fromUserId)) {
-                createNotificationFromUser(
-                    resident.getUserId(),
-                    fromUserId,
-                    type,
-                    title,
-                    content,
-                    relatedId,
-                    relatedType
-                );
-            }
-        }
+        notificationFanOutService.enqueueBuildingResidents(buildingId, fromUserId, type, title, content, relatedId, relatedType);
     }
 }
@@ -0,0 +1,253 @@
+package com.example.campus_house.service;
+
+import com.example.campus_house.dto.NotificationCountEvent;
+import com.example.campus_house.dto.NotificationEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 실시간 알림 SSE 스트림 (/api/notifications/stream)
+ * 사용자별로 연결(sink) 목록과 최근 알림 replay 버퍼를 두고, 알림은 저장 트랜잭션이 커밋된 뒤 전송합니다.
+ * 재연결 시 Last-Event-ID 다음 알림부터 버퍼에서 다시 보내고, 버퍼로 이어 줄 수 없으면 resync 이벤트로
+ * 목록을 다시 조회하도록 알립니다. 읽지 않은 수는 연결 직후와 count-interval마다 보냅니다.
+ */
+@Service
+@Slf4j
+public class NotificationStreamService {
+
+    public static final String EVENT_NOTIFICATION = "notification";
+    public static final String EVENT_COUNT = "count";
+    public static final String EVENT_RESYNC = "resync";
+
+    private final UnreadCounterService unreadCounterService;
+
+    private final int replaySize;
+    private final long idleRetentionMs;
+    private final int maxConnectionsPerUser;
+    private final int maxUsers;
+    private final int connectionBufferSize;
+    private final Duration maxConnectionDuration;
+    private final Duration retry;
+
+    private final Map<Long, UserStream> streams = new ConcurrentHashMap<>();
+
+    public NotificationStreamService(UnreadCounterService unreadCounterService,
+                                     @Value("${notification.stream.replay-size:50}") int replaySize,
+                                     @Value("${notification.stream.idle-retention-ms:300000}") long idleRetentionMs,
+                                     @Value("${notification.stream.max-connections-per-user:5}") int maxConnectionsPerUser,
+                                     @Value("${notification.stream.max-users:50000}") int maxUsers,
+                                     @Value("${notification.stream.connection-buffer-size:256}") int connectionBufferSize,
+                                     @Value("${notification.stream.max-connection-ms:1800000}") long maxConnectionMs,
+                                     @Value("${notification.stream.retry-ms:3000}") long retryMs) {
+        this.unreadCounterService = unreadCounterService;
+        this.replaySize = replaySize;
+        this.idleRetentionMs = idleRetentionMs;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        this.maxUsers = maxUsers;
+        this.connectionBufferSize = connectionBufferSize;
+        this.maxConnectionDuration = Duration.ofMillis(maxConnectionMs);
+        this.retry = Duration.ofMillis(retryMs);
+    }
+
+    /**
+     * 사용자별 연결 목록과 최근 알림 버퍼 (변경과 전송은 이 객체로 동기화)
+     */
+    private static final class UserStream {
+        private final Deque<ServerSentEvent<Object>> replay = new ArrayDeque<>();
+        private final List<Sinks.Many<ServerSentEvent<Object>>> connections = new ArrayList<>();
+        private long idleSince = System.currentTimeMillis();
+        private boolean closed;
+    }
+
+    // ========== 연결 ==========
+
+    /**
+     * SSE 연결
+     * 연결 등록과 replay를 같은 잠금 안에서 처리하므로 그 사이에 커밋된 알림도 빠지거나 중복되지 않습니다.
+     *
+     * @param lastEventId 클라이언트가 마지막으로 받은 알림 ID (첫 연결이면 null)
+     */
+    public Flux<ServerSentEvent<Object>> connect(Long userId, String lastEventId) {
+        Sinks.Many<ServerSentEvent<Object>> sink =
+                Sinks.many().unicast().onBackpressureBuffer(Queues.<ServerSentEvent<Object>>get(connectionBufferSize).get());
+        NotificationCountEvent count = countEvent(userId);
+
+        UserStream stream;
+        while (true) {
+            stream = streams.get(userId);
+            boolean resumable = stream != null;
+            if (stream == null) {
+                if (streams.size() >= maxUsers) {
+                    throw new RuntimeException("알림 스트림 연결이 많아 잠시 후 다시 시도해주세요.");
+                }
+                stream = streams.computeIfAbsent(userId, id -> new UserStream());
+            }
+            synchronized (stream) {
+                if (stream.closed) {
+                    continue; // 정리 작업과 겹침: 새로 만든 스트림으로 다시 시도
+                }
+                if (stream.connections.size() >= maxConnectionsPerUser) {
+                    throw new RuntimeException("알림 스트림 동시 연결 수를 초과했습니다.");
+                }
+                stream.connections.add(sink);
+
+                List<ServerSentEvent<Object>> missed = lastEventId != null ? eventsAfter(stream, lastEventId) : List.of();
+                if (missed == null || (lastEventId != null && !resumable)) {
+                    // 버퍼에서 이어 줄 수 없음: 클라이언트가 목록을 다시 조회
+                    sink.tryEmitNext(ServerSentEvent.<Object>builder(count).event(EVENT_RESYNC).retry(retry).build());
+                } else {
+                    missed.forEach(sink::tryEmitNext);
+                    sink.tryEmitNext(ServerSentEvent.<Object>builder(count).event(EVENT_COUNT).retry(retry).build());
+                }
+            }
+            break;
+        }
+
+        UserStream registered = stream;
+        return sink.asFlux()
+                .take(maxConnectionDuration)
+                .doFinally(signal -> disconnect(userId, registered, sink));
+    }
+
+    public int getConnectedUserCount() {
+        return (int) streams.values().stream().filter(s -> {
+            synchronized (s) {
+                return !s.connections.isEmpty();
+            }
+        }).count();
+    }
+
+    // ========== 전송 ==========
+
+    /**
+     * 새 알림 전송 (호출자의 트랜잭션이 있으면 커밋 후)
+     */
+    public void publishAfterCommit(Long userId, NotificationEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(userId, event);
+                }
+            });
+        } else {
+            publish(userId, event);
+        }
+    }
+
+    // 연결 중이거나 최근에 연결했던 사용자에게만 버퍼링 + 전송
+    public void publish(Long userId, NotificationEvent event) {
+        UserStream stream = streams.get(userId);
+        if (stream == null) {
+            return;
+        }
+        ServerSentEvent<Object> sse = ServerSentEvent.<Object>builder(event)
+                .id(String.valueOf(event.getId()))
+                .event(EVENT_NOTIFICATION)
+                .build();
+        synchronized (stream) {
+            stream.replay.addLast(sse);
+            while (stream.replay.size() > replaySize) {
+                stream.replay.removeFirst();
+            }
+            emitAll(stream, sse);
+        }
+    }
+
+    /**
+     * 연결된 사용자에게 읽지 않은 수 전송 + 오래 연결이 없던 사용자의 버퍼 정리
+     * (주기적인 이벤트가 프록시 유휴 타임아웃을 막는 keep-alive 역할도 합니다)
+     */
+    @Scheduled(fixedDelayString = "${notification.stream.count-interval-ms:30000}")
+    public void sendCounts() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<Long, UserStream> entry : streams.entrySet()) {
+            UserStream stream = entry.getValue();
+            synchronized (stream) {
+                if (stream.connections.isEmpty()) {
+                    if (now - stream.idleSince > idleRetentionMs) {
+                        stream.closed = true;
+                        streams.remove(entry.getKey(), stream);
+                    }
+                    continue;
+                }
+            }
+            try {
+                NotificationCountEvent count = countEvent(entry.getKey());
+                synchronized (stream) {
+                    emitAll(stream, ServerSentEvent.<Object>builder(count).event(EVENT_COUNT).build());
+                }
+            } catch (Exception e) {
+                log.warn("읽지 않은 알림 수 전송 실패: userId={} - {}", entry.getKey(), e.getMessage());
+            }
+        }
+    }
+
+    // ========== 내부 구현 ==========
+
+    // lastEventId 다음 알림들 (버퍼에 없으면 null)
+    private List<ServerSentEvent<Object>> eventsAfter(UserStream stream, String lastEventId) {
+        List<ServerSentEvent<Object>> after = new ArrayList<>();
+        boolean found = false;
+        for (ServerSentEvent<Object> sse : stream.replay) {
+            if (found) {
+                after.add(sse);
+            } else if (lastEventId.equals(sse.id())) {
+                found = true;
+            }
+        }
+        if (found) {
+            return after;
+        }
+        // 연결 이후 알림이 없었으면 이어서 보낼 것도 없음
+        return stream.replay.isEmpty() ? List.of() : null;
+    }
+
+    private void emitAll(UserStream stream, ServerSentEvent<Object> sse) {
+        Iterator<Sinks.Many<ServerSentEvent<Object>>> iterator = stream.connections.iterator();
+        while (iterator.hasNext()) {
+            Sinks.Many<ServerSentEvent<Object>> sink = iterator.next();
+            Sinks.EmitResult result = sink.tryEmitNext(sse);
+            if (result.isFailure()) {
+                // 받지 못하는 연결은 끊고, 클라이언트 재연결 시 Last-Event-ID로 이어 받음
+                iterator.remove();
+                sink.tryEmitComplete();
+            }
+        }
+        if (stream.connections.isEmpty()) {
+            stream.idleSince = System.currentTimeMillis();
+        }
+    }
+
+    private void disconnect(Long userId, UserStream stream, Sinks.Many<ServerSentEvent<Object>> sink) {
+        synchronized (stream) {
+            if (stream.connections.remove(sink) && stream.connections.isEmpty()) {
+                stream.idleSince = System.currentTimeMillis();
+            }
+        }
+        log.debug("알림 스트림 연결 종료: userId={}", userId);
+    }
+
+    private NotificationCountEvent countEvent(Long userId) {
+        return NotificationCountEvent.builder()
+                .unreadCount(unreadCounterService.getNotificationUnread(userId))
+                .build();
+    }
+}
@@ -1,19 +1,31 @@
 package com.example.campus_house.service;
 
+import com.example.campus_house.dto.PostSummaryResponse;
 import com.example.campus_house.entity.BoardType;
 import com.example.campus_house.entity.Post;
 import com.example.campus_house.entity.Building;
 import com.example.campus_house.entity.User;
 import com.example.campus_house.entity.Notification;
+import com.example.campus_house.repository.CounterRepository.Counter;
 import com.example.campus_house.repository.PostRepository;
+import com.example.campus_house.repository.PostSummaryView;
 import com.example.campus_house.repository.BuildingRepository;
 import com.example.campus_house.repository.UserRepository;
+import com.example.campus_house.util.CursorUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -24,10 +36,36 @@ public class PostService {
     private final BuildingRepository buildingRepository;
     private final UserRepository userRepository;
     private final NotificationService notificationService;
+    private final PostViewCountService postViewCountService;
+    private final CounterService counterService;
+    private final HotPostService hotPostService;
+    
+    // 게시판 타입별 게시글 조회 (목록 컬럼만, 조회수는 반영 대기 중인 증가분 포함)
+    public Page<PostSummaryResponse> getPostsByBoardType(BoardType boardType, Pageable pageable) {
+        return postRepository.findSummariesByBoardType(boardType, listPage(pageable)).map(this::toSummary);
+    }
+    
+    // 게시판 타입별 게시글 커서 조회 (최신순, OFFSET/COUNT 없음)
+    public Slice<PostSummaryResponse> getPostSliceByBoardType(BoardType boardType, String cursor, int size) {
+        Pageable pageable = CursorUtil.pageRequest(size);
+        Slice<PostSummaryView> posts;
+        if (CursorUtil.isFirstPage(cursor)) {
+            posts = postRepository.findFeed(boardType, pageable);
+        } else {
+            CursorUtil.Key key = CursorUtil.decode(cursor);
+            posts = postRepository.findFeedBefore(boardType, key.createdAt(), key.id(), pageable);
+        }
+        return posts.map(this::toSummary);
+    }
+    
+    // 목록 쿼리는 (created_at, id) 최신순으로 고정되어 있으므로 요청의 정렬은 무시
+    private Pageable listPage(Pageable pageable) {
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+    }
     
-    // 게시판 타입별 게시글 조회
-    public Page<Post> getPostsByBoardType(BoardType boardType, Pageable pageable) {
-        return postRepository.findByBoardTypeOrderByCreatedAtDesc(boardType, pageable);
+    // 목록 응답 변환 (반영 대기 중인 조회수 포함)
+    private PostSummaryResponse toSummary(PostSummaryView view) {
+        return PostSummaryResponse.from(view, postViewCountService.getPendingViews(view.getId()));
     }
     
     // 게시글 상세 조회
@@ -36,10 +74,19 @@ public class PostService {
                 .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
     }
     
+    // 게시글 상세 화면 조회 (조회수 증가 + 반영 대기 중인 증가분 포함)
+    public Post getPostDetail(Long postId) {
+        Post post = getPostById(postId);
+        postViewCountService.increment(postId);
+        postViewCountService.applyPending(post);
+        return post;
+    }
+    
     // 게시글 생성
     @Transactional
     public Post createPost(Post post) {
         Post saved = postRepository.save(post);
+        hotPostService.onPostSaved(saved);
         if (post.getAuthor() != null && post.getAuthor().getUserId() != null) {
             badgeService.awardIfFirstPost(post.getAuthor().getUserId());
         }
@@ -50,17 +97,23 @@ public class PostService {
     @Transactional
     public Post updatePost(Long postId, Post updatedPost) {
         Post post = getPostById(postId);
+        boolean boardChanged = post.getBoardType() != updatedPost.getBoardType();
         post.setTitle(updatedPost.getTitle());
         post.setContent(updatedPost.getContent());
         post.setImageUrl(updatedPost.getImageUrl());
         post.setBoardType(updatedPost.getBoardType());
-        return postRepository.save(post);
+        Post saved = postRepository.save(post);
+        if (boardChanged) {
+            hotPostService.onPostSaved(saved);
+        }
+        return saved;
     }
     
     // 게시글 삭제
     @Transactional
     public void deletePost(Long postId) {
         postRepository.deleteById(postId);
+        hotPostService.onPostDeleted(postId);
     }
     
     // 제목으로 검색
@@ -83,53 +136,63 @@ public class PostService {
         return postRepository.findByAuthorIdOrderByCreatedAtDesc(authorId, pageable);
     }
     
-    // 인기 게시글 조회 (좋아요 수 기준)
-    public Page<Post> getPopularPosts(BoardType boardType, Pageable pageable) {
-        return postRepository.findPopularPosts(boardType, pageable);
+    // 인기 게시글 조회 (HotPostService 점수순, 목록 프로젝션)
+    public Page<PostSummaryResponse> getPopularPosts(BoardType boardType, Pageable pageable) {
+        HotPostService.HotPage hot = hotPostService.getHotPostIds(boardType, pageable.getOffset(), pageable.getPageSize());
+        if (hot == null) {
+            // 순위 준비 전에는 DB 정렬
+            return postRepository.findPopularSummaries(boardType, pageable).map(this::toSummary);
+        }
+        if (hot.postIds().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, hot.total());
+        }
+        // 점수순 ID로 한 번에 조회 후 순서 복원
+        Map<Long, PostSummaryView> byId = new HashMap<>();
+        postRepository.findSummariesByIdIn(hot.postIds()).forEach(view -> byId.put(view.getId(), view));
+        List<PostSummaryResponse> posts = new ArrayList<>(hot.postIds().size());
+        for (Long postId : hot.postIds()) {
+            PostSummaryView view = byId.get(postId);
+            if (view != null) {
+                posts.add(toSummary(view));
+            }
+        }
+        return new PageImpl<>(posts, pageable, hot.total());
     }
     
     // 조회수 기준 인기 게시글
-    public Page<Post> getPopularPostsByViewCount(BoardType boardType, Pageable pageable) {
-        return postRepository.findPopularPostsByViewCount(boardType, pageable);
+    public Page<PostSummaryResponse> getPopularPostsByViewCount(BoardType boardType, Pageable pageable) {
+        return postRepository.findPopularSummariesByViewCount(boardType, pageable).map(this::toSummary);
     }
     
-    // 조회수 증가
-    @Transactional
+    // 조회수 증가 (메모리에 누적 후 PostViewCountService가 일괄 반영)
     public void incrementViewCount(Long postId) {
-        Post post = getPostById(postId);
-        post.setViewCount(post.getViewCount() + 1);
-        postRepository.save(post);
+        postViewCountService.increment(postId);
     }
     
-    // 좋아요 수 업데이트
+    // 좋아요 수 업데이트 (UPDATE 한 번으로 증감)
     @Transactional
     public void updateLikeCount(Long postId, int delta) {
-        Post post = getPostById(postId);
-        post.setLikeCount(Math.max(0, post.getLikeCount() + delta));
-        postRepository.save(post);
+        counterService.add(Counter.POST_LIKE, postId, delta);
     }
     
     // 북마크 수 업데이트
     @Transactional
     public void updateBookmarkCount(Long postId, int delta) {
-        Post post = getPostById(postId);
-        post.setBookmarkCount(Math.max(0, post.getBookmarkCount() + delta));
-        postRepository.save(post);
+        counterService.add(Counter.POST_BOOKMARK, postId, delta);
     }
     
     // 댓글 수 업데이트
     @Transactional
     public void updateCommentCount(Long postId, int delta) {
-        Post post = getPostById(postId);
-        post.setCommentCount(Math.max(0, post.getCommentCount() + delta));
-        postRepository.save(post);
+        counterService.add(Counter.POST_COMMENT, postId, delta);
     }
     
     // ========== 건물별 질문 관련 메서드 ==========
     
     // 건물별 질문 게시글 조회
-    public Page<Post> getQuestionsByBuildingId(Long buildingId, Pageable pageable) {
-        return postRepository.findByBuildingIdAndBoardTypeOrderByCreatedAtDesc(buildingId, BoardType.QUESTION, pageable);
+    public Page<PostSummaryResponse> getQuestionsByBuildingId(Long buildingId, Pageable pageable) {
+        return postRepository.findSummariesByBuildingIdAndBoardType(buildingId, BoardType.QUESTION, listPage(pageable))
+                .map(this::toSummary);
     }
     
     // 건물별 질문 게시글 수
@@ -167,6 +230,7 @@ public class PostService {
                 .build();
         
         Post saved = postRepository.save(question);
+        hotPostService.onPostSaved(saved);
         
         // 첫 게시글 작성 시 배지 수여
         if (user.getUserId() != null) {
@@ -207,7 +271,7 @@ public class PostService {
     // ========== 거주지 기반 질문 필터링 ==========
     
     // 사용자가 거주 중인 건물의 질문만 조회 (QUESTION 게시판용)
-    public Page<Post> getQuestionsForResident(Long userId, Pageable pageable) {
+    public Page<PostSummaryResponse> getQuestionsForResident(Long userId, Pageable pageable) {
         // 거주지 인증 여부 확인
         checkResidenceVerification(userId);
         
@@ -216,8 +280,8 @@ public class PostService {
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
         
         // 인증된 건물의 질문만 조회
-        return postRepository.findByBuildingIdAndBoardTypeOrderByCreatedAtDesc(
-                user.getVerifiedBuildingId(), BoardType.QUESTION, pageable);
+        return postRepository.findSummariesByBuildingIdAndBoardType(
+                user.getVerifiedBuildingId(), BoardType.QUESTION, listPage(pageable)).map(this::toSummary);
     }
     
     // 사용자가 거주 중인 건물의 질문 수 조회
@@ -236,7 +300,7 @@ public class PostService {
     // ========== APARTMENT 게시판 거주지 기반 필터링 ==========
     
     // 사용자가 거주 중인 건물의 APARTMENT 게시글만 조회
-    public Page<Post> getApartmentPostsForResident(Long userId, Pageable pageable) {
+    public Page<PostSummaryResponse> getApartmentPostsForResident(Long userId, Pageable pageable) {
         // 거주지 인증 여부 확인
         checkResidenceVerification(userId);
         
@@ -245,8 +309,29 @@ public class PostService {
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
         
         // 인증된 건물의 APARTMENT 게시글만 조회
-        return postRepository.findByBuildingIdAndBoardTypeOrderByCreatedAtDesc(
-                user.getVerifiedBuildingId(), BoardType.APARTMENT, pageable);
+        return postRepository.findSummariesByBuildingIdAndBoardType(
+                user.getVerifiedBuildingId(), BoardType.APARTMENT, listPage(pageable)).map(this::toSummary);
+    }
+    
+    // 사용자가 거주 중인 건물의 QUESTION/APARTMENT 게시글 커서 조회 (최신순)
+    public Slice<PostSummaryResponse> getResidentPostSlice(Long userId, BoardType boardType, String cursor, int size) {
+        // 거주지 인증 여부 확인
+        checkResidenceVerification(userId);
+        
+        // 사용자 조회
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+        
+        Pageable pageable = CursorUtil.pageRequest(size);
+        Slice<PostSummaryView> posts;
+        if (CursorUtil.isFirstPage(cursor)) {
+            posts = postRepository.findBuildingFeed(user.getVerifiedBuildingId(), boardType, pageable);
+        } else {
+            CursorUtil.Key key = CursorUtil.decode(cursor);
+            posts = postRepository.findBuildingFeedBefore(
+                    user.getVerifiedBuildingId(), boardType, key.createdAt(), key.id(), pageable);
+        }
+        return posts.map(this::toSummary);
     }
     
     // 사용자가 거주 중인 건물의 APARTMENT 게시글 수 조회
@@ -265,8 +350,9 @@ public class PostService {
     // ========== TRANSFER 게시판 관련 메서드 ==========
     
     // 건물별 TRANSFER 게시글 조회
-    public Page<Post> getTransfersByBuildingId(Long buildingId, Pageable pageable) {
-        return postRepository.findByBuildingIdAndBoardTypeOrderByCreatedAtDesc(buildingId, BoardType.TRANSFER, pageable);
+    public Page<PostSummaryResponse> getTransfersByBuildingId(Long buildingId, Pageable pageable) {
+        return postRepository.findSummariesByBuildingIdAndBoardType(buildingId, BoardType.TRANSFER, listPage(pageable))
+                .map(this::toSummary);
     }
     
     // 건물별 TRANSFER 게시글 수 조회
@@ -299,6 +385,7 @@ public class PostService {
                 .build();
         
         Post saved = postRepository.save(transfer);
+        hotPostService.onPostSaved(saved);
         
         // 첫 게시글 작성 시 배지 수여
         if (user.getUserId() != null) {
@@ -0,0 +1,145 @@
+package com.example.campus_house.service;
+
+import com.example.campus_house.entity.Post;
+import com.example.campus_house.repository.PostViewCountRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 모아 쓰기
+ * 조회마다 DB를 갱신하지 않고 게시글별 LongAdder에 누적했다가 flush-interval마다
+ * 게시글별 UPDATE posts SET view_count = view_count + ? 를 JDBC 배치 한 번으로 반영합니다.
+ * 반영한 만큼만 누적값에서 빼므로 flush 도중 들어온 조회도 다음 flush에 남고, 종료 시 남은 조회수를 반영합니다.
+ * 조회 응답에는 DB 값에 아직 반영되지 않은 증가분을 더해 보여줍니다.
+ */
+@Service
+@Slf4j
+public class PostViewCountService implements SmartLifecycle {
+
+    private final PostViewCountRepository postViewCountRepository;
+    private final HotPostService hotPostService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    // 직전 flush에서 맵에서 뺀 누적기 (그 순간 증가 중이던 조회를 다음 flush에서 되살림)
+    private volatile Map<Long, LongAdder> retired = Map.of();
+    private volatile boolean running = false;
+
+    public PostViewCountService(PostViewCountRepository postViewCountRepository,
+                                HotPostService hotPostService,
+                                PlatformTransactionManager transactionManager) {
+        this.postViewCountRepository = postViewCountRepository;
+        this.hotPostService = hotPostService;
+        // 조회 트랜잭션(readOnly) 안에서 호출되어도 별도 트랜잭션으로 반영
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // 조회수 1 증가 (DB 쓰기는 다음 flush에서)
+    public void increment(Long postId) {
+        pending.computeIfAbsent(postId, id -> new LongAdder()).increment();
+    }
+
+    // 아직 DB에 반영되지 않은 조회수
+    public long getPendingViews(Long postId) {
+        LongAdder adder = pending.get(postId);
+        return adder != null ? Math.max(0, adder.sum()) : 0;
+    }
+
+    /**
+     * 조회 응답용: DB 값 + 반영 대기 중인 증가분
+     * (readOnly 트랜잭션에서 읽은 엔티티에만 사용, 변경 감지로 저장되지 않음)
+     */
+    public void applyPending(Post post) {
+        long views = getPendingViews(post.getId());
+        if (views > 0) {
+            post.setViewCount((int) Math.min(Integer.MAX_VALUE, post.getViewCount() + views));
+        }
+    }
+
+    public int getPendingPostCount() {
+        return pending.size();
+    }
+
+    @Scheduled(fixedDelayString = "${post.view-count.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        // 직전에 뺀 누적기에 늦게 들어온 조회가 있으면 다시 넣음
+        Map<Long, LongAdder> late = retired;
+        retired = Map.of();
+        late.forEach((postId, adder) -> {
+            long leftover = adder.sum();
+            if (leftover != 0) {
+                pending.computeIfAbsent(postId, id -> new LongAdder()).add(leftover);
+            }
+        });
+
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+        List<Long> idle = new ArrayList<>();
+        pending.forEach((postId, adder) -> {
+            long delta = adder.sum();
+            if (delta > 0) {
+                deltas.put(postId, delta);
+            } else {
+                idle.add(postId);
+            }
+        });
+
+        if (!deltas.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> postViewCountRepository.addViewCounts(deltas));
+                // 반영한 만큼만 차감 (그 사이 증가분은 남음)
+                deltas.forEach((postId, delta) -> pending.get(postId).add(-delta));
+                hotPostService.onViews(deltas);
+            } catch (Exception e) {
+                log.warn("조회수 반영 실패 ({}개 게시글), 다음 주기에 재시도: {}", deltas.size(), e.getMessage());
+            }
+        }
+
+        // 한 주기 동안 조회가 없던 게시글은 맵에서 제거
+        Map<Long, LongAdder> removed = new LinkedHashMap<>();
+        for (Long postId : idle) {
+            LongAdder adder = pending.get(postId);
+            if (adder != null && adder.sum() == 0 && pending.remove(postId, adder)) {
+                removed.put(postId, adder);
+            }
+        }
+        retired = removed;
+    }
+
+    // ========== 생명주기: 종료 시 남은 조회수 반영 ==========
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        flush();
+        // 제거 직전에 증가한 조회까지 반영
+        flush();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return Integer.MAX_VALUE - 1000;
+    }
+}
@@ -0,0 +1,280 @@
+package com.example.campus_house.service;
+
+import com.example.campus_house.config.StompAuthChannelInterceptor;
+import com.example.campus_house.dto.PresenceEvent;
+import com.example.campus_house.dto.TypingEvent;
+import com.example.campus_house.repository.ChatRoomRepository;
+import com.example.campus_house.repository.GroupChatMemberRepository;
+import com.example.campus_house.util.HashedTimingWheel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 접속 상태(온라인 표시)와 입력 중 표시 (메모리 전용, DB 저장 없음)
+ * 만료는 사용자/입력마다 작업을 예약하지 않고 해시 타이밍 휠 두 개로 처리하며,
+ * 변경 사항은 모아 두었다가 tick마다 키별 최신 상태만 한 번씩 전송합니다.
+ * 추적 사용자 수와 입력 중 항목 수에 상한을 두어 메모리 사용량을 제한합니다.
+ */
+@Service
+@Slf4j
+public class PresenceService {
+
+    public static final String PRESENCE_TOPIC_PREFIX = StompAuthChannelInterceptor.PRESENCE_TOPIC_PREFIX;
+    private static final String TYPING_SUFFIX = "/typing";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatRoomRepository chatRoomRepository;
+    private final GroupChatMemberRepository groupChatMemberRepository;
+
+    private final long presenceTimeoutMs;
+    private final long typingTimeoutMs;
+    private final int maxUsers;
+    private final int maxTyping;
+
+    private final Map<Long, UserPresence> users = new ConcurrentHashMap<>();
+    private final Map<RoomKey, Set<Long>> typingByRoom = new ConcurrentHashMap<>();
+    private final HashedTimingWheel<Long> presenceWheel;
+    private final HashedTimingWheel<TypingKey> typingWheel;
+
+    // 다음 tick에 전송할 변경 (같은 키의 변경은 마지막 상태만 남음)
+    private final Map<Long, Boolean> pendingPresence = new ConcurrentHashMap<>();
+    private final Set<RoomKey> pendingTyping = ConcurrentHashMap.newKeySet();
+
+    public PresenceService(SimpMessagingTemplate messagingTemplate,
+                           ChatRoomRepository chatRoomRepository,
+                           GroupChatMemberRepository groupChatMemberRepository,
+                           @Value("${presence.timeout-ms:30000}") long presenceTimeoutMs,
+                           @Value("${presence.typing-timeout-ms:5000}") long typingTimeoutMs,
+                           @Value("${presence.tick-ms:250}") long tickMs,
+                           @Value("${presence.wheel-size:256}") int wheelSize,
+                           @Value("${presence.max-users:100000}") int maxUsers,
+                           @Value("${presence.max-typing:20000}") int maxTyping) {
+        this.messagingTemplate = messagingTemplate;
+        this.chatRoomRepository = chatRoomRepository;
+        this.groupChatMemberRepository = groupChatMemberRepository;
+        this.presenceTimeoutMs = presenceTimeoutMs;
+        this.typingTimeoutMs = typingTimeoutMs;
+        this.maxUsers = maxUsers;
+        this.maxTyping = maxTyping;
+        long now = System.currentTimeMillis();
+        this.presenceWheel = new HashedTimingWheel<>(tickMs, wheelSize, now);
+        this.typingWheel = new HashedTimingWheel<>(tickMs, wheelSize, now);
+    }
+
+    /**
+     * 사용자 접속 상태 (WebSocket 세션 수 + 마지막 하트비트)
+     */
+    private static final class UserPresence {
+        private final AtomicInteger sessions = new AtomicInteger();
+        private volatile long lastSeenAt;
+        private volatile boolean online;
+    }
+
+    // 1:1 채팅방 또는 그룹 채팅방
+    private record RoomKey(boolean group, Long roomId) {
+        String typingTopic() {
+            return (group ? StompAuthChannelInterceptor.GROUP_TOPIC_PREFIX : StompAuthChannelInterceptor.ROOM_TOPIC_PREFIX)
+                    + roomId + TYPING_SUFFIX;
+        }
+    }
+
+    private record TypingKey(RoomKey room, Long userId) {
+    }
+
+    // ========== 접속 상태 ==========
+
+    // WebSocket 세션 연결
+    public void sessionConnected(Long userId) {
+        track(userId, true);
+    }
+
+    // WebSocket 세션 종료: 마지막 세션이면 바로 오프라인 (세션 수 확인과 제거를 한 번에)
+    public void sessionDisconnected(Long userId) {
+        users.computeIfPresent(userId, (id, presence) ->
+                presence.sessions.decrementAndGet() > 0 ? presence : offline(id, presence));
+    }
+
+    // 클라이언트 하트비트 (앱이 포그라운드일 때 주기적으로 전송)
+    public void heartbeat(Long userId) {
+        track(userId, false);
+    }
+
+    public boolean isOnline(Long userId) {
+        UserPresence presence = users.get(userId);
+        return presence != null && presence.online;
+    }
+
+    // 여러 사용자의 현재 접속 상태 (초기 화면 표시용)
+    public List<PresenceEvent> getPresence(Collection<Long> userIds) {
+        List<PresenceEvent> result = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            UserPresence presence = users.get(userId);
+            result.add(PresenceEvent.builder()
+                    .userId(userId)
+                    .online(presence != null && presence.online)
+                    .lastSeenAt(presence != null ? presence.lastSeenAt : null)
+                    .build());
+        }
+        return result;
+    }
+
+    public int getTrackedUserCount() {
+        return users.size();
+    }
+
+    // ========== 입력 중 표시 ==========
+
+    /**
+     * 입력 중 상태 변경 (입력 중이면 typing-timeout 동안 유지, 클라이언트가 주기적으로 갱신)
+     * 새로 입력을 시작할 때만 채팅방 참여 여부를 확인합니다.
+     */
+    public void setTyping(boolean group, Long roomId, Long userId, boolean typing) {
+        RoomKey room = new RoomKey(group, roomId);
+        TypingKey key = new TypingKey(room, userId);
+
+        if (!typing) {
+            typingWheel.cancel(key);
+            removeTyping(room, userId);
+            return;
+        }
+
+        if (!typingWheel.contains(key)) {
+            if (typingWheel.size() >= maxTyping) {
+                return;
+            }
+            boolean allowed = group
+                    ? groupChatMemberRepository.isMember(roomId, userId)
+                    : chatRoomRepository.isParticipant(roomId, userId);
+            if (!allowed) {
+                throw new RuntimeException("채팅방에 접근할 권한이 없습니다.");
+            }
+        }
+
+        typingWheel.schedule(key, System.currentTimeMillis() + typingTimeoutMs);
+        if (typingByRoom.computeIfAbsent(room, r -> ConcurrentHashMap.newKeySet()).add(userId)) {
+            pendingTyping.add(room);
+        }
+    }
+
+    // ========== 만료 처리 + 일괄 전송 ==========
+
+    @Scheduled(fixedRateString = "${presence.tick-ms:250}")
+    public void tick() {
+        long now = System.currentTimeMillis();
+
+        for (Long userId : presenceWheel.advance(now)) {
+            users.computeIfPresent(userId, (id, presence) -> {
+                if (presenceWheel.contains(id)) {
+                    // 만료 직후 하트비트가 들어와 다시 예약됨
+                    return presence;
+                }
+                if (presence.sessions.get() > 0) {
+                    // 연결은 살아 있지만 하트비트가 끊김 (백그라운드 등): 오프라인 표시만, 다음 하트비트에 복귀
+                    presence.online = false;
+                    pendingPresence.put(id, false);
+                    return presence;
+                }
+                return offline(id, presence);
+            });
+        }
+
+        for (TypingKey key : typingWheel.advance(now)) {
+            removeTyping(key.room(), key.userId());
+        }
+
+        flush();
+    }
+
+    private void flush() {
+        Iterator<Map.Entry<Long, Boolean>> presenceChanges = pendingPresence.entrySet().iterator();
+        while (presenceChanges.hasNext()) {
+            Map.Entry<Long, Boolean> change = presenceChanges.next();
+            presenceChanges.remove();
+            UserPresence presence = users.get(change.getKey());
+            send(PRESENCE_TOPIC_PREFIX + change.getKey(), PresenceEvent.builder()
+                    .userId(change.getKey())
+                    .online(change.getValue())
+                    .lastSeenAt(presence != null ? presence.lastSeenAt : System.currentTimeMillis())
+                    .build());
+        }
+
+        Iterator<RoomKey> typingChanges = pendingTyping.iterator();
+        while (typingChanges.hasNext()) {
+            RoomKey room = typingChanges.next();
+            typingChanges.remove();
+            Set<Long> typers = typingByRoom.get(room);
+            send(room.typingTopic(), TypingEvent.builder()
+                    .roomId(room.roomId())
+                    .typingUserIds(typers != null ? new ArrayList<>(typers) : List.of())
+                    .build());
+        }
+    }
+
+    // ========== 내부 구현 ==========
+
+    // 추적 대상 등록 + 갱신 (세션 종료/만료의 제거와 겹치지 않도록 compute 안에서 처리)
+    // 상한 초과 시 등록하지 않음: 해당 사용자는 오프라인으로 표시됨
+    private void track(Long userId, boolean newSession) {
+        users.compute(userId, (id, presence) -> {
+            if (presence == null) {
+                if (users.size() >= maxUsers) {
+                    log.warn("접속 상태 추적 상한 초과: userId={}, 추적 중 {}명", id, users.size());
+                    return null;
+                }
+                presence = new UserPresence();
+            }
+            if (newSession) {
+                presence.sessions.incrementAndGet();
+            }
+            touch(id, presence);
+            return presence;
+        });
+    }
+
+    private void touch(Long userId, UserPresence presence) {
+        long now = System.currentTimeMillis();
+        presence.lastSeenAt = now;
+        presenceWheel.schedule(userId, now + presenceTimeoutMs);
+        if (!presence.online) {
+            presence.online = true;
+            pendingPresence.put(userId, true);
+        }
+    }
+
+    // 추적 종료 (users.compute 안에서 호출, null을 돌려주어 항목 제거)
+    private UserPresence offline(Long userId, UserPresence presence) {
+        presenceWheel.cancel(userId);
+        if (presence.online) {
+            pendingPresence.put(userId, false);
+        }
+        return null;
+    }
+
+    private void removeTyping(RoomKey room, Long userId) {
+        Set<Long> typers = typingByRoom.get(room);
+        if (typers != null && typers.remove(userId)) {
+            pendingTyping.add(room);
+            typingByRoom.computeIfPresent(room, (r, set) -> set.isEmpty() ? null : set);
+        }
+    }
+
+    private void send(String destination, Object payload) {
+        try {
+            messagingTemplate.convertAndSend(destination, payload);
+        } catch (Exception e) {
+            log.warn("접속 상태 전송 실패: {} - {}", destination, e.getMessage());
+        }
+    }
+}
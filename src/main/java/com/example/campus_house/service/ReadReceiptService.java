@@ -0,0 +1,193 @@
+package com.example.campus_house.service;
+
+import com.example.campus_house.repository.ChatReadReceiptRepository;
+import com.example.campus_house.repository.ChatRoomRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * 1:1 채팅방 읽음 처리 모아 쓰기
+ * 스크롤/포커스마다 들어오는 읽음 요청은 메모리의 (채팅방, 사용자) → 마지막 읽음 시간 맵에 합쳐지고(최신 시각 우선),
+ * 1초마다 채팅방 행 잠금 + UPDATE 한 번으로 user1LastReadAt/user2LastReadAt과 읽지 않은 수에 반영됩니다.
+ * 반영 전 같은 사용자의 읽지 않은 수를 조회하면 그 사용자 몫을 먼저 반영하므로 조회 결과는 항상 읽음 처리 이후 값입니다.
+ */
+@Service
+@Slf4j
+public class ReadReceiptService implements SmartLifecycle {
+
+    private final ChatReadReceiptRepository chatReadReceiptRepository;
+    private final ChatRoomRepository chatRoomRepository;
+    private final UnreadCounterService unreadCounterService;
+    private final ChatPushService chatPushService;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxVerifiedEntries;
+
+    private final Map<ReadKey, LocalDateTime> pending = new ConcurrentHashMap<>();
+    private final Set<ReadKey> verified = ConcurrentHashMap.newKeySet();
+    private volatile boolean running = false;
+
+    public ReadReceiptService(ChatReadReceiptRepository chatReadReceiptRepository,
+                              ChatRoomRepository chatRoomRepository,
+                              UnreadCounterService unreadCounterService,
+                              ChatPushService chatPushService,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${chat.read-receipt.max-verified-entries:100000}") int maxVerifiedEntries) {
+        this.chatReadReceiptRepository = chatReadReceiptRepository;
+        this.chatRoomRepository = chatRoomRepository;
+        this.unreadCounterService = unreadCounterService;
+        this.chatPushService = chatPushService;
+        // 조회 트랜잭션(readOnly) 안에서 호출되어도 별도 트랜잭션으로 반영
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxVerifiedEntries = maxVerifiedEntries;
+    }
+
+    private record ReadKey(Long roomId, Long userId) {
+    }
+
+    /**
+     * 읽음 처리 요청 (DB 쓰기는 다음 flush에서)
+     * 참여자 확인은 (채팅방, 사용자)마다 한 번만 DB에서 하고 이후에는 메모리에서 확인합니다.
+     */
+    public void markRead(Long roomId, Long userId) {
+        ReadKey key = new ReadKey(roomId, userId);
+        if (!verified.contains(key)) {
+            if (!chatRoomRepository.isParticipant(roomId, userId)) {
+                throw new RuntimeException("채팅방에 접근할 권한이 없습니다.");
+            }
+            if (verified.size() >= maxVerifiedEntries) {
+                verified.clear();
+            }
+            verified.add(key);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        pending.merge(key, now, (previous, current) -> current.isAfter(previous) ? current : previous);
+
+        // 다른 기기에는 바로 읽음 처리 반영
+        chatPushService.publishUnreadReset(userId, roomId);
+    }
+
+    // 사용자의 반영 대기 중인 읽음 처리가 있으면 즉시 반영 (조회 직전에 호출)
+    public void flushUser(Long userId) {
+        if (pending.keySet().stream().anyMatch(key -> key.userId().equals(userId))) {
+            flushMatching(key -> key.userId().equals(userId));
+        }
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    @Scheduled(fixedDelayString = "${chat.read-receipt.flush-interval-ms:1000}")
+    public void flush() {
+        if (!pending.isEmpty()) {
+            flushMatching(key -> true);
+        }
+    }
+
+    // ========== 생명주기: 종료 시 남은 읽음 처리 반영 ==========
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        flush();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return Integer.MAX_VALUE - 1000;
+    }
+
+    // ========== 내부 구현 ==========
+
+    private void flushMatching(Predicate<ReadKey> filter) {
+        // 꺼낸 시점의 값과 같을 때만 제거: 그 사이 더 최신 읽음 시간이 들어오면 다음 flush로 남김
+        Map<ReadKey, LocalDateTime> drained = new LinkedHashMap<>();
+        for (Map.Entry<ReadKey, LocalDateTime> entry : pending.entrySet()) {
+            if (filter.test(entry.getKey()) && pending.remove(entry.getKey(), entry.getValue())) {
+                drained.put(entry.getKey(), entry.getValue());
+            }
+        }
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> apply(drained));
+        } catch (Exception e) {
+            log.warn("읽음 처리 반영 실패 ({}건), 다음 주기에 재시도: {}", drained.size(), e.getMessage());
+            drained.forEach((key, readAt) ->
+                    pending.merge(key, readAt, (previous, current) -> current.isAfter(previous) ? current : previous));
+        }
+    }
+
+    private void apply(Map<ReadKey, LocalDateTime> drained) {
+        Map<Long, ChatReadReceiptRepository.RoomState> before =
+                chatReadReceiptRepository.lockRooms(drained.keySet().stream().map(ReadKey::roomId).distinct().toList());
+
+        // 채팅방별 한 행으로 합침 (두 참여자가 같은 주기에 읽은 경우)
+        Map<Long, LocalDateTime[]> byRoom = new LinkedHashMap<>();
+        drained.forEach((key, readAt) -> {
+            ChatReadReceiptRepository.RoomState state = before.get(key.roomId());
+            if (state == null) {
+                return; // 삭제된 채팅방
+            }
+            LocalDateTime[] reads = byRoom.computeIfAbsent(key.roomId(), id -> new LocalDateTime[2]);
+            if (key.userId().equals(state.user1Id())) {
+                reads[0] = readAt;
+            } else if (key.userId().equals(state.user2Id())) {
+                reads[1] = readAt;
+            }
+        });
+        if (byRoom.isEmpty()) {
+            return;
+        }
+
+        List<ChatReadReceiptRepository.RoomRead> reads = new ArrayList<>(byRoom.size());
+        byRoom.forEach((roomId, at) -> reads.add(new ChatReadReceiptRepository.RoomRead(roomId, at[0], at[1])));
+        Map<Long, ChatReadReceiptRepository.RoomState> after = chatReadReceiptRepository.applyReads(reads);
+
+        // 사용자별 읽지 않은 수 카운터에 채팅방 읽지 않은 수 변화량 반영
+        Map<Long, Long> deltas = new LinkedHashMap<>();
+        for (ChatReadReceiptRepository.RoomRead read : reads) {
+            ChatReadReceiptRepository.RoomState old = before.get(read.roomId());
+            ChatReadReceiptRepository.RoomState now = after.get(read.roomId());
+            if (now == null) {
+                continue;
+            }
+            if (read.user1ReadAt() != null) {
+                deltas.merge(now.user1Id(), (long) now.user1Unread() - old.user1Unread(), Long::sum);
+            }
+            if (read.user2ReadAt() != null) {
+                deltas.merge(now.user2Id(), (long) now.user2Unread() - old.user2Unread(), Long::sum);
+            }
+        }
+        deltas.forEach(unreadCounterService::addChatUnread);
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.campus_house.service;
+
+import com.example.campus_house.dto.PopularBuildingResponse;
+import com.example.campus_house.entity.ViewerSketch;
+import com.example.campus_house.repository.ViewerSketchRepository;
+import com.example.campus_house.util.HyperLogLog;
+import com.example.campus_house.util.JwtUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 고유 조회자 수 (HyperLogLog)
+ * 게시글은 전체 기간, 건물은 주 단위로 조회자(로그인 사용자 ID 또는 IP)를 스케치에 기록합니다.
+ * 서버마다 조회를 메모리 스케치에 모았다가 flush-interval마다 DB 스케치와 레지스터 최댓값으로 병합하므로
+ * 여러 서버가 같은 조회자를 기록해도 한 번만 셉니다.
+ * 게시글 추정치는 posts.unique_viewer_count에 반영해 인기 게시글 정렬에 쓰고, 건물 주간 추정치는 이번 주 많이 본 건물 목록에 씁니다.
+ */
+@Service
+@Slf4j
+public class UniqueViewerService implements SmartLifecycle {
+
+    private final ViewerSketchRepository viewerSketchRepository;
+    private final JwtUtil jwtUtil;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int precision;
+    private final int weeksKept;
+
+    // 반영 대기 중인 스케치 (flush 때 키별로 떼어 내므로 그 사이 조회는 새 스케치에 쌓임)
+    private final Map<SketchKey, HyperLogLog> pending = new ConcurrentHashMap<>();
+    private volatile boolean running = false;
+
+    private record SketchKey(ViewerSketch.TargetType targetType, long targetId, LocalDate periodStart) {
+    }
+
+    public UniqueViewerService(ViewerSketchRepository viewerSketchRepository,
+                               JwtUtil jwtUtil,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${viewer.hll.precision:11}") int precision,
+                               @Value("${viewer.hll.weeks-kept:8}") int weeksKept) {
+        this.viewerSketchRepository = viewerSketchRepository;
+        this.jwtUtil = jwtUtil;
+        // 조회 트랜잭션(readOnly) 안에서 호출되어도 별도 트랜잭션으로 반영
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        new HyperLogLog(precision); // precision 범위 확인
+        this.precision = precision;
+        this.weeksKept = weeksKept;
+    }
+
+    /**
+     * 조회자 식별 키 (유효한 토큰이면 사용자 ID, 아니면 IP)
+     */
+    public String viewerKey(String token, String remoteAddr) {
+        if (token != null) {
+            String jwt = token.startsWith("Bearer ") ? token.substring(7) : token;
+            try {
+                if (jwtUtil.validateToken(jwt)) {
+                    return "u:" + jwtUtil.getUserIdFromToken(jwt);
+                }
+            } catch (RuntimeException e) {
+                // 잘못된 토큰은 비로그인 조회로 취급
+            }
+        }
+        return "a:" + remoteAddr;
+    }
+
+    // 게시글 조회 기록 (전체 기간)
+    public void recordPostView(Long postId, String viewerKey) {
+        record(new SketchKey(ViewerSketch.TargetType.POST, postId, ViewerSketch.ALL_TIME), viewerKey);
+    }
+
+    // 건물 조회 기록 (이번 주)
+    public void recordBuildingView(Long buildingId, String viewerKey) {
+        record(new SketchKey(ViewerSketch.TargetType.BUILDING, buildingId, currentWeek()), viewerKey);
+    }
+
+    /**
+     * 이번 주 많이 본 건물 (마지막 flush까지 반영된 추정치 기준)
+     */
+    public List<PopularBuildingResponse> getWeeklyPopularBuildings(int limit) {
+        return viewerSketchRepository.findTopBuildings(currentWeek(), limit);
+    }
+
+    public int getPendingSketchCount() {
+        return pending.size();
+    }
+
+    @Scheduled(fixedDelayString = "${viewer.hll.flush-interval-ms:10000}")
+    public synchronized void flush() {
+        // 키별로 떼어 내 (대상 타입, 기간)별로 묶음
+        Map<SketchKey, HyperLogLog> taken = new LinkedHashMap<>();
+        for (SketchKey key : new ArrayList<>(pending.keySet())) {
+            HyperLogLog sketch = pending.remove(key);
+            if (sketch != null) {
+                taken.put(key, sketch);
+            }
+        }
+        Map<SketchKey, Map<Long, HyperLogLog>> groups = new LinkedHashMap<>();
+        taken.forEach((key, sketch) -> groups
+                .computeIfAbsent(new SketchKey(key.targetType(), 0, key.periodStart()), group -> new LinkedHashMap<>())
+                .put(key.targetId(), sketch));
+
+        groups.forEach((group, sketches) -> {
+            try {
+                transactionTemplate.executeWithoutResult(status ->
+                        mergeGroup(group.targetType(), group.periodStart(), sketches));
+            } catch (Exception e) {
+                log.warn("고유 조회자 스케치 반영 실패 ({} {}개), 다음 주기에 재시도: {}",
+                        group.targetType(), sketches.size(), e.getMessage());
+                // 실패한 스케치는 그 사이 쌓인 스케치와 합쳐 되돌림
+                sketches.forEach((targetId, sketch) -> pending.merge(
+                        new SketchKey(group.targetType(), targetId, group.periodStart()), sketch,
+                        (current, failed) -> {
+                            current.merge(failed);
+                            return current;
+                        }));
+            }
+        });
+    }
+
+    // 지난 주간 스케치 정리
+    @Scheduled(cron = "${viewer.hll.cleanup-cron:0 15 4 * * *}")
+    public void deleteExpiredWeeks() {
+        int deleted = viewerSketchRepository.deleteOlderThan(ViewerSketch.TargetType.BUILDING,
+                currentWeek().minusWeeks(weeksKept));
+        if (deleted > 0) {
+            log.info("지난 주간 건물 조회자 스케치 삭제: {}건", deleted);
+        }
+    }
+
+    // ========== 내부 구현 ==========
+
+    private void record(SketchKey key, String viewerKey) {
+        long hash = HyperLogLog.hash(viewerKey);
+        // compute는 키별로 직렬화되므로 flush의 remove와 겹쳐도 기록이 유실되지 않음 (스케치 변경은 항상 맵 잠금 안에서)
+        pending.compute(key, (k, sketch) -> {
+            HyperLogLog target = sketch != null ? sketch : new HyperLogLog(precision);
+            target.addHash(hash);
+            return target;
+        });
+    }
+
+    private void mergeGroup(ViewerSketch.TargetType targetType, LocalDate periodStart, Map<Long, HyperLogLog> sketches) {
+        List<ViewerSketchRepository.SketchRow> deltas = new ArrayList<>(sketches.size());
+        sketches.forEach((targetId, sketch) ->
+                deltas.add(new ViewerSketchRepository.SketchRow(targetId, sketch.toBytes(), sketch.estimate())));
+        viewerSketchRepository.insertMissing(targetType, periodStart, deltas);
+
+        Map<Long, byte[]> stored = viewerSketchRepository.lockSketches(targetType, periodStart, sketches.keySet());
+        List<ViewerSketchRepository.SketchRow> merged = new ArrayList<>(deltas.size());
+        for (ViewerSketchRepository.SketchRow delta : deltas) {
+            HyperLogLog sketch = HyperLogLog.fromBytes(delta.registers());
+            byte[] current = stored.get(delta.targetId());
+            if (current != null) {
+                HyperLogLog existing = HyperLogLog.fromBytes(current);
+                if (existing.getPrecision() == sketch.getPrecision()) {
+                    sketch.merge(existing);
+                } else {
+                    // precision 설정이 바뀐 경우 기존 스케치는 버리고 새로 셈
+                    log.warn("precision이 다른 스케치를 교체합니다: {} {}", targetType, delta.targetId());
+                }
+            }
+            merged.add(new ViewerSketchRepository.SketchRow(delta.targetId(), sketch.toBytes(), sketch.estimate()));
+        }
+        viewerSketchRepository.updateSketches(targetType, periodStart, merged);
+        if (targetType == ViewerSketch.TargetType.POST) {
+            viewerSketchRepository.updatePostUniqueViewers(merged);
+        }
+    }
+
+    private LocalDate currentWeek() {
+        return LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    // ========== 생명주기: 종료 시 남은 스케치 반영 ==========
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        flush();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return Integer.MAX_VALUE - 1000;
+    }
+}
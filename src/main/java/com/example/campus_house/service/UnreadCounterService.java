@@ -0,0 +1,204 @@
+package com.example.campus_house.service;
+
+import com.example.campus_house.repository.UnreadCounterRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 사용자별 읽지 않은 채팅/알림 수 (앱 배지)
+ * unread_counters 테이블을 호출자의 트랜잭션 안에서 증감하고, 메모리 캐시에는 커밋 후 반영합니다.
+ * 조회는 캐시 → 카운터 테이블 한 행 순으로 처리하므로 채팅/알림 원본 테이블을 세지 않습니다.
+ * 캐시도 테이블과 똑같이 0 아래로 내려가지 않게 증감하고, 변경이 진행 중인 사용자는 테이블에서 읽은 값을 캐시하지 않아
+ * 커밋 전후 값이 섞이지 않습니다. 그래도 어긋난 값은 주기적으로 원본 테이블 기준으로 보정합니다.
+ */
+@Service
+@Slf4j
+public class UnreadCounterService {
+
+    private final UnreadCounterRepository unreadCounterRepository;
+    private final int maxCachedUsers;
+
+    private final Map<Long, Counters> cache = new ConcurrentHashMap<>();
+    // 트랜잭션이 끝나지 않은 변경 수 (사용자별, 0이면 제거)
+    private final Map<Long, Integer> inFlight = new ConcurrentHashMap<>();
+
+    public UnreadCounterService(UnreadCounterRepository unreadCounterRepository,
+                                @Value("${unread.counter.cache.max-users:100000}") int maxCachedUsers) {
+        this.unreadCounterRepository = unreadCounterRepository;
+        this.maxCachedUsers = maxCachedUsers;
+    }
+
+    /**
+     * 캐시된 사용자별 카운터 (테이블의 GREATEST(0, ...)와 같도록 CAS로 0 아래를 막음)
+     */
+    private static final class Counters {
+        private final AtomicLong chat;
+        private final AtomicLong notification;
+
+        private Counters(long chatUnread, long notificationUnread) {
+            chat = new AtomicLong(chatUnread);
+            notification = new AtomicLong(notificationUnread);
+        }
+
+        private Counters addChat(long delta) {
+            chat.updateAndGet(value -> Math.max(0, value + delta));
+            return this;
+        }
+
+        private Counters addNotification(long delta) {
+            notification.updateAndGet(value -> Math.max(0, value + delta));
+            return this;
+        }
+    }
+
+    // ========== 조회 ==========
+
+    public long getChatUnread(Long userId) {
+        return counters(userId).chat.get();
+    }
+
+    public long getNotificationUnread(Long userId) {
+        return counters(userId).notification.get();
+    }
+
+    // ========== 증감 (호출자의 트랜잭션 안에서 실행) ==========
+
+    public void addChatUnread(Long userId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        change(List.of(userId), () -> unreadCounterRepository.addChatUnread(userId, delta),
+                id -> cache.computeIfPresent(id, (key, counters) -> counters.addChat(delta)));
+    }
+
+    public void addNotificationUnread(Long userId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        change(List.of(userId), () -> unreadCounterRepository.addNotificationUnread(userId, delta),
+                id -> cache.computeIfPresent(id, (key, counters) -> counters.addNotification(delta)));
+    }
+
+    // 여러 사용자에게 같은 변화량 반영 (UPSERT 한 번)
+    public void addNotificationUnread(Collection<Long> userIds, long delta) {
+        if (delta == 0 || userIds.isEmpty()) {
+            return;
+        }
+        change(userIds, () -> unreadCounterRepository.addNotificationUnreadAll(userIds, delta),
+                id -> cache.computeIfPresent(id, (key, counters) -> counters.addNotification(delta)));
+    }
+
+    // 모든 알림 읽음: 테이블은 0으로, 캐시는 비워서 다음 조회 때 다시 적재
+    public void resetNotificationUnread(Long userId) {
+        change(List.of(userId), () -> unreadCounterRepository.resetNotificationUnread(userId), cache::remove);
+    }
+
+    // ========== 보정 ==========
+
+    // 카운터 도입 이전 사용자 채우기 (이미 있는 행은 건드리지 않음)
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedMissingCounters() {
+        int seeded = unreadCounterRepository.seedMissingCounters();
+        if (seeded > 0) {
+            log.info("읽지 않은 수 카운터 생성: {}명", seeded);
+        }
+    }
+
+    // 원본 테이블 기준으로 전체 카운터 보정 후 캐시 초기화
+    @Transactional
+    @Scheduled(cron = "${unread.counter.reconcile-cron:0 30 4 * * *}")
+    public void reconcileAll() {
+        int corrected = unreadCounterRepository.reconcileAllCounters();
+        afterCommit(cache::clear);
+        log.info("읽지 않은 수 카운터 보정 완료: {}명 수정", corrected);
+    }
+
+    // ========== 내부 구현 ==========
+
+    private Counters counters(Long userId) {
+        Counters cached = cache.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+        if (cache.size() >= maxCachedUsers) {
+            return load(userId);
+        }
+
+        // 적재 중에는 같은 사용자의 캐시 반영(computeIfPresent)이 기다렸다가 적재된 값에 이어서 반영됨
+        Counters[] loaded = new Counters[1];
+        Counters installed = cache.computeIfAbsent(userId, id -> {
+            loaded[0] = load(id);
+            // 읽는 동안 끝나지 않은 변경이 있으면 반영 여부가 불확실하므로 캐시하지 않음
+            return inFlight.containsKey(id) ? null : loaded[0];
+        });
+        return installed != null ? installed : loaded[0];
+    }
+
+    // 행이 없으면 아직 읽지 않은 항목이 생긴 적 없는 사용자
+    private Counters load(Long userId) {
+        return unreadCounterRepository.findById(userId)
+                .map(c -> new Counters(c.getChatUnread(), c.getNotificationUnread()))
+                .orElseGet(() -> new Counters(0, 0));
+    }
+
+    /**
+     * 테이블 변경 → 커밋되면 캐시 반영
+     * 테이블을 바꾸기 전에 진행 중으로 표시하고, 캐시 반영이 끝난 뒤 해제합니다.
+     */
+    private void change(Collection<Long> userIds, Runnable write, Consumer<Long> onCommit) {
+        userIds.forEach(userId -> inFlight.merge(userId, 1, Integer::sum));
+        try {
+            write.run();
+        } catch (RuntimeException e) {
+            finish(userIds, null);
+            throw e;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    finish(userIds, status == STATUS_COMMITTED ? onCommit : null);
+                }
+            });
+        } else {
+            finish(userIds, onCommit);
+        }
+    }
+
+    private void finish(Collection<Long> userIds, Consumer<Long> onCommit) {
+        for (Long userId : userIds) {
+            if (onCommit != null) {
+                onCommit.accept(userId);
+            }
+            inFlight.computeIfPresent(userId, (id, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
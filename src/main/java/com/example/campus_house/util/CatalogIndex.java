@@ -0,0 +1,237 @@
+package com.example.campus_house.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 건물/생활시설 카탈로그 인메모리 인덱스 (불변)
+ * 컬럼 배열 위에 공간 격자(spatial), 키워드 검색(search), 필터용 인덱스를 구성합니다.
+ * 새 인덱스는 별도로 만든 뒤 참조 하나를 교체하는 방식으로 반영됩니다.
+ */
+public final class CatalogIndex {
+
+    // 지구 반지름 (km)
+    private static final double EARTH_RADIUS = 6371.0;
+
+    // 격자 크기 (도 단위, 약 1.1km)
+    private static final double CELL_SIZE_DEG = 0.01;
+
+    // 영업 중 상태값 (facilities.business_status)
+    public static final String OPERATING_STATUS = "영업/정상";
+
+    // 건물 컬럼
+    private final long[] buildingIds;
+    private final String[] buildingNames;
+    private final String[] buildingAddresses;
+    private final double[] buildingLatitudes;
+    private final double[] buildingLongitudes;
+    private final String[] buildingUsages;
+
+    // 생활시설 컬럼
+    private final long[] facilityIds;
+    private final String[] facilityCategories;
+    private final double[] facilityLatitudes;
+    private final double[] facilityLongitudes;
+    private final boolean[] facilityOperating;
+
+    // 파생 인덱스
+    private final Map<Long, int[]> buildingGrid;
+    private final Map<Long, int[]> facilityGrid;
+    private final List<String> distinctBuildingUsages;
+    private final long builtAt;
+
+    public CatalogIndex(long[] buildingIds, String[] buildingNames, String[] buildingAddresses,
+                        double[] buildingLatitudes, double[] buildingLongitudes, String[] buildingUsages,
+                        long[] facilityIds, String[] facilityCategories,
+                        double[] facilityLatitudes, double[] facilityLongitudes, boolean[] facilityOperating) {
+        this.buildingIds = buildingIds;
+        this.buildingNames = buildingNames;
+        this.buildingAddresses = buildingAddresses;
+        this.buildingLatitudes = buildingLatitudes;
+        this.buildingLongitudes = buildingLongitudes;
+        this.buildingUsages = buildingUsages;
+        this.facilityIds = facilityIds;
+        this.facilityCategories = facilityCategories;
+        this.facilityLatitudes = facilityLatitudes;
+        this.facilityLongitudes = facilityLongitudes;
+        this.facilityOperating = facilityOperating;
+        this.buildingGrid = buildGrid(buildingLatitudes, buildingLongitudes);
+        this.facilityGrid = buildGrid(facilityLatitudes, facilityLongitudes);
+        this.distinctBuildingUsages = buildDistinctUsages(buildingUsages);
+        this.builtAt = System.currentTimeMillis();
+    }
+
+    /**
+     * 빈 인덱스
+     */
+    public static CatalogIndex empty() {
+        return new CatalogIndex(new long[0], new String[0], new String[0], new double[0], new double[0], new String[0],
+                new long[0], new String[0], new double[0], new double[0], new boolean[0]);
+    }
+
+    /**
+     * 반경 내 건물 ID 목록 (가까운 순)
+     */
+    public List<Long> findBuildingIdsWithinRadius(double latitude, double longitude, double radiusKm) {
+        // {거리, 배열 위치}
+        List<double[]> hits = new ArrayList<>();
+        for (int[] cell : cellsAround(buildingGrid, latitude, longitude, radiusKm)) {
+            for (int i : cell) {
+                double distance = distanceKm(latitude, longitude, buildingLatitudes[i], buildingLongitudes[i]);
+                if (distance <= radiusKm) {
+                    hits.add(new double[] {distance, i});
+                }
+            }
+        }
+        hits.sort(Comparator.comparingDouble(hit -> hit[0]));
+        List<Long> result = new ArrayList<>(hits.size());
+        for (double[] hit : hits) {
+            result.add(buildingIds[(int) hit[1]]);
+        }
+        return result;
+    }
+
+    /**
+     * 건물명 또는 주소에 키워드가 포함된 건물 ID 목록 (LIKE %keyword% 와 동일)
+     * 건물명에 포함된 건물을 먼저, 주소에만 포함된 건물을 뒤에 둡니다.
+     */
+    public List<Long> searchBuildingIds(String keyword) {
+        List<Long> result = new ArrayList<>();
+        if (keyword == null) {
+            return result;
+        }
+        List<Long> addressOnly = new ArrayList<>();
+        for (int i = 0; i < buildingIds.length; i++) {
+            if (buildingNames[i] != null && buildingNames[i].contains(keyword)) {
+                result.add(buildingIds[i]);
+            } else if (buildingAddresses[i] != null && buildingAddresses[i].contains(keyword)) {
+                addressOnly.add(buildingIds[i]);
+            }
+        }
+        result.addAll(addressOnly);
+        return result;
+    }
+
+    /**
+     * 건물 용도 목록 (정렬, 중복 제거)
+     */
+    public List<String> getDistinctBuildingUsages() {
+        return distinctBuildingUsages;
+    }
+
+    /**
+     * 반경 내 영업 중인 생활시설 수 (category가 null이면 전체)
+     */
+    public long countOperatingFacilitiesWithinRadius(double latitude, double longitude, double radiusKm, String category) {
+        long count = 0;
+        for (int[] cell : cellsAround(facilityGrid, latitude, longitude, radiusKm)) {
+            for (int i : cell) {
+                if (!facilityOperating[i]) {
+                    continue;
+                }
+                if (category != null && !category.equals(facilityCategories[i])) {
+                    continue;
+                }
+                if (distanceKm(latitude, longitude, facilityLatitudes[i], facilityLongitudes[i]) <= radiusKm) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    public int getBuildingCount() {
+        return buildingIds.length;
+    }
+
+    public int getFacilityCount() {
+        return facilityIds.length;
+    }
+
+    public long getBuiltAt() {
+        return builtAt;
+    }
+
+    // ========== 컬럼 접근 (스냅샷 저장용) ==========
+
+    public long[] getBuildingIds() { return buildingIds; }
+    public String[] getBuildingNames() { return buildingNames; }
+    public String[] getBuildingAddresses() { return buildingAddresses; }
+    public double[] getBuildingLatitudes() { return buildingLatitudes; }
+    public double[] getBuildingLongitudes() { return buildingLongitudes; }
+    public String[] getBuildingUsages() { return buildingUsages; }
+    public long[] getFacilityIds() { return facilityIds; }
+    public String[] getFacilityCategories() { return facilityCategories; }
+    public double[] getFacilityLatitudes() { return facilityLatitudes; }
+    public double[] getFacilityLongitudes() { return facilityLongitudes; }
+    public boolean[] getFacilityOperating() { return facilityOperating; }
+
+    // ========== 내부 구현 ==========
+
+    private static Map<Long, int[]> buildGrid(double[] latitudes, double[] longitudes) {
+        Map<Long, List<Integer>> cells = new HashMap<>();
+        for (int i = 0; i < latitudes.length; i++) {
+            if (Double.isNaN(latitudes[i]) || Double.isNaN(longitudes[i])) {
+                continue;
+            }
+            cells.computeIfAbsent(cellKey(cell(latitudes[i]), cell(longitudes[i])), k -> new ArrayList<>()).add(i);
+        }
+
+        Map<Long, int[]> grid = new HashMap<>(cells.size() * 2);
+        cells.forEach((key, positions) -> grid.put(key, positions.stream().mapToInt(Integer::intValue).toArray()));
+        return grid;
+    }
+
+    private static List<String> buildDistinctUsages(String[] usages) {
+        TreeSet<String> distinct = new TreeSet<>();
+        for (String usage : usages) {
+            if (usage != null) {
+                distinct.add(usage);
+            }
+        }
+        return List.copyOf(distinct);
+    }
+
+    private static List<int[]> cellsAround(Map<Long, int[]> grid, double latitude, double longitude, double radiusKm) {
+        double latDelta = radiusKm / 111.0;
+        double lngDelta = radiusKm / (111.0 * Math.max(0.01, Math.cos(Math.toRadians(latitude))));
+
+        int minLat = cell(latitude - latDelta);
+        int maxLat = cell(latitude + latDelta);
+        int minLng = cell(longitude - lngDelta);
+        int maxLng = cell(longitude + lngDelta);
+
+        List<int[]> result = new ArrayList<>();
+        for (int la = minLat; la <= maxLat; la++) {
+            for (int ln = minLng; ln <= maxLng; ln++) {
+                int[] positions = grid.get(cellKey(la, ln));
+                if (positions != null) {
+                    result.add(positions);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static int cell(double degree) {
+        return (int) Math.floor(degree / CELL_SIZE_DEG);
+    }
+
+    private static long cellKey(int latCell, int lngCell) {
+        return ((long) latCell << 32) | (lngCell & 0xffffffffL);
+    }
+
+    // 하버사인 공식 (DistanceCalculator와 동일)
+    private static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double deltaLat = Math.toRadians(lat2 - lat1);
+        double deltaLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(deltaLat / 2) * Math.sin(deltaLat / 2) +
+                   Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) *
+                   Math.sin(deltaLon / 2) * Math.sin(deltaLon / 2);
+        return EARTH_RADIUS * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+}
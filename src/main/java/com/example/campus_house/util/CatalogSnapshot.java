@@ -0,0 +1,262 @@
+package com.example.campus_house.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * 카탈로그 인덱스 바이너리 스냅샷
+ *
+ * 형식 (big-endian):
+ * <pre>
+ * magic(int) version(int) createdAt(long) fingerprint(string)
+ * buildingCount(int) [ids][names][addresses][latitudes][longitudes][usages]
+ * facilityCount(int) [ids][categories][latitudes][longitudes][operating]
+ * crc32(long)  - 앞의 모든 바이트에 대한 체크섬
+ * </pre>
+ * 각 컬럼은 바이트 길이(int) + 본문으로 저장하고, 문자열은 길이(int, null이면 -1) + UTF-8 바이트입니다.
+ */
+public final class CatalogSnapshot {
+
+    private static final int MAGIC = 0x43485358; // "CHSX"
+    public static final int VERSION = 1;
+
+    private CatalogSnapshot() {
+    }
+
+    /**
+     * 스냅샷 헤더 (체크섬 검증 후 반환)
+     */
+    public record Header(int version, long createdAt, String fingerprint) {
+    }
+
+    /**
+     * 로드 결과
+     */
+    public record Loaded(Header header, CatalogIndex index) {
+    }
+
+    // ========== 쓰기 ==========
+
+    /**
+     * 인덱스를 스냅샷 파일로 저장 (임시 파일에 쓴 뒤 원자적으로 교체)
+     */
+    public static void write(Path path, CatalogIndex index, String fingerprint) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(estimateSize(index));
+        DataOutputStream out = new DataOutputStream(bytes);
+
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(System.currentTimeMillis());
+        writeString(out, fingerprint);
+
+        out.writeInt(index.getBuildingCount());
+        writeLongColumn(out, index.getBuildingIds());
+        writeStringColumn(out, index.getBuildingNames());
+        writeStringColumn(out, index.getBuildingAddresses());
+        writeDoubleColumn(out, index.getBuildingLatitudes());
+        writeDoubleColumn(out, index.getBuildingLongitudes());
+        writeStringColumn(out, index.getBuildingUsages());
+
+        out.writeInt(index.getFacilityCount());
+        writeLongColumn(out, index.getFacilityIds());
+        writeStringColumn(out, index.getFacilityCategories());
+        writeDoubleColumn(out, index.getFacilityLatitudes());
+        writeDoubleColumn(out, index.getFacilityLongitudes());
+        writeBooleanColumn(out, index.getFacilityOperating());
+        out.flush();
+
+        CRC32 crc = new CRC32();
+        crc.update(bytes.toByteArray());
+        out.writeLong(crc.getValue());
+        out.flush();
+
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // ========== 읽기 ==========
+
+    /**
+     * 메모리 매핑으로 스냅샷 전체를 읽어 인덱스 구성
+     */
+    public static Loaded read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = mapAndVerify(channel);
+            Header header = readHeader(buffer);
+
+            int buildingCount = buffer.getInt();
+            long[] buildingIds = readLongColumn(buffer, buildingCount);
+            String[] buildingNames = readStringColumn(buffer, buildingCount);
+            String[] buildingAddresses = readStringColumn(buffer, buildingCount);
+            double[] buildingLatitudes = readDoubleColumn(buffer, buildingCount);
+            double[] buildingLongitudes = readDoubleColumn(buffer, buildingCount);
+            String[] buildingUsages = readStringColumn(buffer, buildingCount);
+
+            int facilityCount = buffer.getInt();
+            long[] facilityIds = readLongColumn(buffer, facilityCount);
+            String[] facilityCategories = readStringColumn(buffer, facilityCount);
+            double[] facilityLatitudes = readDoubleColumn(buffer, facilityCount);
+            double[] facilityLongitudes = readDoubleColumn(buffer, facilityCount);
+            boolean[] facilityOperating = readBooleanColumn(buffer, facilityCount);
+
+            CatalogIndex index = new CatalogIndex(buildingIds, buildingNames, buildingAddresses,
+                    buildingLatitudes, buildingLongitudes, buildingUsages,
+                    facilityIds, facilityCategories, facilityLatitudes, facilityLongitudes, facilityOperating);
+            return new Loaded(header, index);
+        }
+    }
+
+    // ========== 내부 구현 ==========
+
+    private static ByteBuffer mapAndVerify(FileChannel channel) throws IOException {
+        long size = channel.size();
+        if (size < 4 + 4 + 8 + 4 + 8 || size > Integer.MAX_VALUE) {
+            throw new IOException("스냅샷 크기가 올바르지 않습니다: " + size);
+        }
+        MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+        int bodyLength = (int) size - 8;
+        CRC32 crc = new CRC32();
+        crc.update(mapped.duplicate().limit(bodyLength));
+        if (crc.getValue() != mapped.getLong(bodyLength)) {
+            throw new IOException("스냅샷 체크섬이 일치하지 않습니다.");
+        }
+        return mapped.duplicate().limit(bodyLength);
+    }
+
+    private static Header readHeader(ByteBuffer buffer) throws IOException {
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("카탈로그 스냅샷 파일이 아닙니다.");
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IOException("지원하지 않는 스냅샷 버전입니다: " + version);
+        }
+        long createdAt = buffer.getLong();
+        String fingerprint = readString(buffer);
+        return new Header(version, createdAt, fingerprint);
+    }
+
+    private static int estimateSize(CatalogIndex index) {
+        return 64 + index.getBuildingCount() * 160 + index.getFacilityCount() * 48;
+    }
+
+    private static void writeLongColumn(DataOutputStream out, long[] values) throws IOException {
+        out.writeInt(values.length * Long.BYTES);
+        for (long value : values) {
+            out.writeLong(value);
+        }
+    }
+
+    private static void writeDoubleColumn(DataOutputStream out, double[] values) throws IOException {
+        out.writeInt(values.length * Double.BYTES);
+        for (double value : values) {
+            out.writeDouble(value);
+        }
+    }
+
+    private static void writeBooleanColumn(DataOutputStream out, boolean[] values) throws IOException {
+        out.writeInt(values.length);
+        for (boolean value : values) {
+            out.writeByte(value ? 1 : 0);
+        }
+    }
+
+    private static void writeStringColumn(DataOutputStream out, String[] values) throws IOException {
+        ByteArrayOutputStream column = new ByteArrayOutputStream();
+        DataOutputStream columnOut = new DataOutputStream(column);
+        for (String value : values) {
+            writeString(columnOut, value);
+        }
+        columnOut.flush();
+        out.writeInt(column.size());
+        column.writeTo(out);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static long[] readLongColumn(ByteBuffer buffer, int count) throws IOException {
+        expectColumnLength(buffer, count * Long.BYTES);
+        long[] values = new long[count];
+        buffer.asLongBuffer().get(values);
+        buffer.position(buffer.position() + count * Long.BYTES);
+        return values;
+    }
+
+    private static double[] readDoubleColumn(ByteBuffer buffer, int count) throws IOException {
+        expectColumnLength(buffer, count * Double.BYTES);
+        double[] values = new double[count];
+        buffer.asDoubleBuffer().get(values);
+        buffer.position(buffer.position() + count * Double.BYTES);
+        return values;
+    }
+
+    private static boolean[] readBooleanColumn(ByteBuffer buffer, int count) throws IOException {
+        expectColumnLength(buffer, count);
+        boolean[] values = new boolean[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = buffer.get() != 0;
+        }
+        return values;
+    }
+
+    private static String[] readStringColumn(ByteBuffer buffer, int count) throws IOException {
+        int length = buffer.getInt();
+        int end = buffer.position() + length;
+        String[] values = new String[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = readString(buffer);
+        }
+        if (buffer.position() != end) {
+            throw new IOException("스냅샷 컬럼 길이가 일치하지 않습니다.");
+        }
+        return values;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void expectColumnLength(ByteBuffer buffer, int expected) throws IOException {
+        int length = buffer.getInt();
+        if (length != expected) {
+            throw new IOException("스냅샷 컬럼 길이가 일치하지 않습니다: " + length + " != " + expected);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.campus_house.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 채팅 보관 블록 인코딩 (deflate 압축)
+ *
+ * 형식 (압축 해제 후, big-endian):
+ * <pre>
+ * version(byte) count(int)
+ * [id(long) seq(long) senderId(long) createdAt(epochSecond long, nano int) type(string) content(string) imageUrl(string)] x count
+ * </pre>
+ * 문자열은 null 여부(boolean) + UTF(modified UTF-8)로 저장합니다. 메시지는 순번 오름차순입니다.
+ */
+public final class ChatArchiveCodec {
+
+    private static final byte VERSION = 1;
+
+    private ChatArchiveCodec() {
+    }
+
+    /**
+     * 보관 메시지 한 건
+     */
+    public record ArchivedMessage(Long id, Long seq, Long senderId, LocalDateTime createdAt, String type,
+                                  String content, String imageUrl) {
+    }
+
+    public static byte[] encode(List<ArchivedMessage> messages) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(messages.size() * 64);
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes, deflater))) {
+            out.writeByte(VERSION);
+            out.writeInt(messages.size());
+            for (ArchivedMessage message : messages) {
+                out.writeLong(message.id());
+                out.writeLong(message.seq());
+                out.writeLong(message.senderId());
+                out.writeLong(message.createdAt().toEpochSecond(ZoneOffset.UTC));
+                out.writeInt(message.createdAt().getNano());
+                writeString(out, message.type());
+                writeString(out, message.content());
+                writeString(out, message.imageUrl());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deflater.end();
+        }
+        return bytes.toByteArray();
+    }
+
+    public static List<ArchivedMessage> decode(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(payload)))) {
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new IOException("지원하지 않는 보관 블록 버전입니다: " + version);
+            }
+            int count = in.readInt();
+            List<ArchivedMessage> messages = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                long id = in.readLong();
+                long seq = in.readLong();
+                long senderId = in.readLong();
+                LocalDateTime createdAt = LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+                String type = readString(in);
+                String content = readString(in);
+                String imageUrl = readString(in);
+                messages.add(new ArchivedMessage(id, seq, senderId, createdAt, type, content, imageUrl));
+            }
+            return messages;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.campus_house.util;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * (생성 시간, ID) 키셋 커서 인코딩/디코딩
+ * 클라이언트에는 내부 구조를 알 수 없는 문자열(Base64 URL-safe)로 전달합니다.
+ */
+public final class CursorUtil {
+
+    // 커서 조회 한 번에 가져올 수 있는 최대 개수
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private CursorUtil() {
+    }
+
+    /**
+     * 커서 키 (생성 시간, ID)
+     */
+    public record Key(LocalDateTime createdAt, Long id) {
+    }
+
+    // 커서 문자열 생성
+    public static String encode(LocalDateTime createdAt, Long id) {
+        if (createdAt == null || id == null) {
+            return null;
+        }
+        long epochSecond = createdAt.toEpochSecond(ZoneOffset.UTC);
+        String raw = epochSecond + "." + createdAt.getNano() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서가 없으면 첫 페이지
+    public static boolean isFirstPage(String cursor) {
+        return cursor == null || cursor.isBlank();
+    }
+
+    // 커서 조회용 페이지 요청 (OFFSET 없이 크기만 사용, 1 ~ MAX_PAGE_SIZE)
+    public static Pageable pageRequest(int size) {
+        return PageRequest.of(0, Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+    }
+
+    // 커서 문자열 해석 (형식이 잘못되면 예외)
+    public static Key decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int colon = raw.indexOf(':');
+            int dot = raw.indexOf('.');
+            long epochSecond = Long.parseLong(raw.substring(0, dot));
+            int nano = Integer.parseInt(raw.substring(dot + 1, colon));
+            long id = Long.parseLong(raw.substring(colon + 1));
+            return new Key(LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC), id);
+        } catch (Exception e) {
+            throw new RuntimeException("잘못된 커서입니다.");
+        }
+    }
+}
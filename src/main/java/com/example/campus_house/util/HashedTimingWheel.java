@@ -0,0 +1,110 @@
+package com.example.campus_house.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 해시 타이밍 휠 (키별 만료 시각 관리)
+ * 키마다 예약 작업을 만들지 않고, 만료 시각이 속한 칸(tick % wheelSize)에 키를 넣어 두었다가
+ * advance()가 지나간 칸만 확인합니다. 같은 키를 다시 예약하면 최신 만료 시각만 유효하며,
+ * 이전 칸에 남은 항목은 그 칸을 지날 때 정리됩니다.
+ *
+ * schedule/cancel은 여러 스레드에서 호출할 수 있고, advance는 한 스레드에서만 호출해야 합니다.
+ */
+public final class HashedTimingWheel<K> {
+
+    private final long tickMs;
+    private final int mask;
+    private final Set<K>[] buckets;
+    private final Map<K, Long> deadlines = new ConcurrentHashMap<>();
+
+    private volatile long currentTick;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(long tickMs, int wheelSize, long startMs) {
+        if (tickMs <= 0 || wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("tickMs는 양수, wheelSize는 2의 거듭제곱이어야 합니다.");
+        }
+        this.tickMs = tickMs;
+        this.mask = wheelSize - 1;
+        this.buckets = new Set[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = ConcurrentHashMap.newKeySet();
+        }
+        this.currentTick = startMs / tickMs;
+    }
+
+    /**
+     * 키의 만료 시각 예약 (이미 있으면 새 시각으로 교체)
+     */
+    public void schedule(K key, long deadlineMs) {
+        deadlines.put(key, deadlineMs);
+        buckets[indexOf(deadlineMs)].add(key);
+    }
+
+    // 예약 취소 (칸에 남은 항목은 나중에 정리)
+    public void cancel(K key) {
+        deadlines.remove(key);
+    }
+
+    public boolean contains(K key) {
+        return deadlines.containsKey(key);
+    }
+
+    // 예약된 키 수
+    public int size() {
+        return deadlines.size();
+    }
+
+    /**
+     * nowMs까지 지나간 칸을 확인해 만료된 키 반환
+     * 오래 멈춰 있었더라도 한 바퀴(wheelSize 칸)만 확인하면 모든 칸을 보게 됩니다.
+     */
+    public List<K> advance(long nowMs) {
+        List<K> expired = new ArrayList<>();
+        long targetTick = nowMs / tickMs;
+        long steps = Math.min(targetTick - currentTick, buckets.length);
+        for (long i = 1; i <= steps; i++) {
+            int index = (int) ((currentTick + i) & mask);
+            Set<K> bucket = buckets[index];
+            for (K key : bucket) {
+                Long deadline = deadlines.get(key);
+                if (deadline == null) {
+                    removeFromBucket(key, index);
+                } else if (deadline <= nowMs) {
+                    if (deadlines.remove(key, deadline)) {
+                        removeFromBucket(key, index);
+                        expired.add(key);
+                    }
+                } else if (indexOf(deadline) != index) {
+                    removeFromBucket(key, index);
+                }
+                // 같은 칸의 다음 바퀴에 만료되는 키는 그대로 둠
+            }
+        }
+        if (targetTick > currentTick) {
+            currentTick = targetTick;
+        }
+        return expired;
+    }
+
+    // 칸에서 제거 (그 사이 같은 칸으로 다시 예약됐으면 되돌림)
+    private void removeFromBucket(K key, int index) {
+        Set<K> bucket = buckets[index];
+        bucket.remove(key);
+        Long deadline = deadlines.get(key);
+        if (deadline != null && indexOf(deadline) == index) {
+            bucket.add(key);
+        }
+    }
+
+    private int indexOf(long deadlineMs) {
+        // 만료 시각 이후에 시작하는 첫 칸 (내림하면 그 칸을 지날 때 아직 만료 전이라 한 바퀴 늦어짐)
+        // 이미 지난 시각은 다음 칸에 넣어 바로 처리
+        long tick = Math.max((deadlineMs + tickMs - 1) / tickMs, currentTick + 1);
+        return (int) (tick & mask);
+    }
+}
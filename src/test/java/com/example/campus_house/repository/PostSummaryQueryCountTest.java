@@ -0,0 +1,189 @@
+package com.example.campus_house.repository;
+
+import com.example.campus_house.config.JpaConfig;
+import com.example.campus_house.dto.PostSummaryResponse;
+import com.example.campus_house.entity.BoardType;
+import com.example.campus_house.entity.Building;
+import com.example.campus_house.entity.Character;
+import com.example.campus_house.entity.Post;
+import com.example.campus_house.entity.User;
+import com.example.campus_house.entity.UserCharacter;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 게시글 목록 프로젝션 쿼리 수 확인
+ * 페이지 크기와 작성자 수에 관계없이 Page는 목록 + COUNT 2개, Slice는 1개의 쿼리만 실행되어야 합니다.
+ * (작성자/캐릭터를 게시글마다 따로 읽는 N+1이 생기면 실패)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Import(JpaConfig.class)
+class PostSummaryQueryCountTest {
+
+    private static final int AUTHORS = 6;
+    private static final int POSTS = 30;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    private Statistics statistics;
+    private Long buildingId;
+
+    @BeforeEach
+    void setUp() {
+        Building building = entityManager.persist(Building.builder()
+                .buildingName("테스트 빌라")
+                .address("서울시 관악구 신림동 123-45")
+                .latitude(37.48)
+                .longitude(126.93)
+                .deposit(BigDecimal.valueOf(1000))
+                .build());
+        buildingId = building.getId();
+
+        Character character = entityManager.persist(Character.builder()
+                .name("기본 캐릭터")
+                .imageUrl("https://example.com/character.png")
+                .price(0)
+                .build());
+
+        User[] authors = new User[AUTHORS];
+        for (int i = 0; i < AUTHORS; i++) {
+            User author = entityManager.persist(User.builder()
+                    .email("user" + i + "@example.com")
+                    .username("user" + i)
+                    .password("password")
+                    .nickname("작성자" + i)
+                    .profileImage("https://example.com/profile" + i + ".png")
+                    .userType(User.UserType.RESIDENT)
+                    .build());
+            // 절반만 대표 캐릭터 보유 (나머지는 프로필 이미지로 대체)
+            if (i < AUTHORS / 2) {
+                entityManager.persist(UserCharacter.builder().user(author).character(character).isMain(true).build());
+                author.setMainCharacterId(character.getId());
+            }
+            authors[i] = author;
+        }
+
+        for (int i = 0; i < POSTS; i++) {
+            entityManager.persist(Post.builder()
+                    .title("게시글 " + i)
+                    .content("본문 ".repeat(60) + i)
+                    .boardType(i % 2 == 0 ? BoardType.QUESTION : BoardType.TRANSFER)
+                    .author(authors[i % AUTHORS])
+                    .building(building)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void boardPageRunsListAndCountQueriesOnly() {
+        for (int size : new int[]{5, 20}) {
+            statistics.clear();
+            Page<PostSummaryResponse> page = postRepository
+                    .findSummariesByBoardType(BoardType.QUESTION, PageRequest.of(0, size))
+                    .map(view -> PostSummaryResponse.from(view, 0));
+
+            assertEquals(Math.min(size, POSTS / 2), page.getNumberOfElements());
+            assertEquals(POSTS / 2, page.getTotalElements());
+            assertEquals(2, statistics.getPrepareStatementCount(), "페이지 크기 " + size);
+        }
+    }
+
+    @Test
+    void buildingPageRunsListAndCountQueriesOnly() {
+        for (int size : new int[]{5, 20}) {
+            statistics.clear();
+            Page<PostSummaryResponse> page = postRepository
+                    .findSummariesByBuildingIdAndBoardType(buildingId, BoardType.TRANSFER, PageRequest.of(0, size))
+                    .map(view -> PostSummaryResponse.from(view, 0));
+
+            assertFalse(page.isEmpty());
+            assertEquals(2, statistics.getPrepareStatementCount(), "페이지 크기 " + size);
+        }
+    }
+
+    @Test
+    void feedSliceRunsSingleQuery() {
+        for (int size : new int[]{5, 20}) {
+            statistics.clear();
+            Slice<PostSummaryView> slice = postRepository.findBuildingFeed(
+                    buildingId, BoardType.QUESTION, PageRequest.of(0, size));
+
+            assertFalse(slice.isEmpty());
+            assertEquals(1, statistics.getPrepareStatementCount(), "페이지 크기 " + size);
+        }
+    }
+
+    @Test
+    void popularPageRunsListAndCountQueriesOnly() {
+        for (int size : new int[]{5, 20}) {
+            statistics.clear();
+            Page<PostSummaryView> byLikes = postRepository.findPopularSummaries(BoardType.QUESTION, PageRequest.of(0, size));
+            assertEquals(2, statistics.getPrepareStatementCount(), "페이지 크기 " + size);
+
+            statistics.clear();
+            Page<PostSummaryView> byViews = postRepository.findPopularSummariesByViewCount(
+                    BoardType.QUESTION, PageRequest.of(0, size));
+            assertEquals(2, statistics.getPrepareStatementCount(), "페이지 크기 " + size);
+
+            assertEquals(Math.min(size, POSTS / 2), byLikes.getNumberOfElements());
+            assertEquals(Math.min(size, POSTS / 2), byViews.getNumberOfElements());
+        }
+    }
+
+    @Test
+    void hotRankingIdsLoadInSingleQuery() {
+        List<Long> ids = postRepository.findSummariesByBoardType(BoardType.TRANSFER, PageRequest.of(0, 20))
+                .map(PostSummaryView::getId).getContent();
+        statistics.clear();
+
+        List<PostSummaryView> views = postRepository.findSummariesByIdIn(ids);
+
+        assertEquals(ids.size(), views.size());
+        assertTrue(views.stream().allMatch(view -> view.getAuthorNickname() != null));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void summaryIncludesAuthorAndPreview() {
+        Page<PostSummaryView> page = postRepository.findSummariesByBoardType(BoardType.QUESTION, PageRequest.of(0, 20));
+
+        for (PostSummaryView view : page) {
+            assertNotNull(view.getAuthorNickname());
+            assertNotNull(view.getAuthorCharacterImage());
+            assertTrue(view.getContentPreview().length() <= 100);
+        }
+        // 대표 캐릭터가 있으면 캐릭터 이미지, 없으면 프로필 이미지
+        assertTrue(page.stream().anyMatch(view -> view.getAuthorCharacterImage().endsWith("character.png")));
+        assertTrue(page.stream().anyMatch(view -> view.getAuthorCharacterImage().contains("profile")));
+    }
+}
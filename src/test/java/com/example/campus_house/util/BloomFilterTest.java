@@ -0,0 +1,69 @@
+package com.example.campus_house.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 블룸 필터 확인
+ * 넣은 키는 항상 true(거짓 음성 없음)이고, 예상 키 수만큼 넣었을 때 오탐률이 목표 근처인지 확인합니다.
+ */
+class BloomFilterTest {
+
+    private static final int EXPECTED = 100_000;
+
+    @Test
+    void hasNoFalseNegatives() {
+        BloomFilter filter = new BloomFilter(EXPECTED, 0.01);
+        for (int i = 0; i < EXPECTED; i++) {
+            filter.put(key(i));
+        }
+
+        for (int i = 0; i < EXPECTED; i++) {
+            assertTrue(filter.mightContain(key(i)), key(i));
+        }
+    }
+
+    @Test
+    void falsePositiveRateNearTarget() {
+        for (double target : new double[]{0.01, 0.001}) {
+            BloomFilter filter = new BloomFilter(EXPECTED, target);
+            for (int i = 0; i < EXPECTED; i++) {
+                filter.put(key(i));
+            }
+
+            int probes = 200_000;
+            int falsePositives = 0;
+            for (int i = 0; i < probes; i++) {
+                if (filter.mightContain("absent|" + i)) {
+                    falsePositives++;
+                }
+            }
+            double rate = (double) falsePositives / probes;
+            assertTrue(rate <= target * 1.5, "목표 " + target + ", 실제 " + rate);
+            assertTrue(rate >= target / 3, "목표 " + target + ", 실제 " + rate + " (비트를 너무 많이 씀)");
+        }
+    }
+
+    @Test
+    void emptyFilterContainsNothing() {
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+
+        assertFalse(filter.mightContain(key(0)));
+        assertFalse(filter.mightContain(""));
+    }
+
+    @Test
+    void rejectsInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(1_000, 0));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(1_000, 1));
+    }
+
+    // 알림 중복 방지 키와 같은 모양
+    private String key(int i) {
+        return (i % 5_000) + "|POST_COMMENT|POST|" + i;
+    }
+}
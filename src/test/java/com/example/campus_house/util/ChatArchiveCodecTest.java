@@ -0,0 +1,64 @@
+package com.example.campus_house.util;
+
+import com.example.campus_house.util.ChatArchiveCodec.ArchivedMessage;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 채팅 보관 블록 인코딩 왕복 확인
+ * 빈 블록, 빈 문자열/null, 한글·이모지 내용, 나노초까지 그대로 복원되는지 확인합니다.
+ */
+class ChatArchiveCodecTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123_456_789);
+
+    @Test
+    void roundTripsEmptyBlock() {
+        byte[] payload = ChatArchiveCodec.encode(List.of());
+
+        assertEquals(List.of(), ChatArchiveCodec.decode(payload));
+    }
+
+    @Test
+    void roundTripsEmptyAndNullFields() {
+        List<ArchivedMessage> messages = List.of(
+                new ArchivedMessage(1L, 1L, 10L, CREATED_AT, "TEXT", "", null),
+                new ArchivedMessage(2L, 2L, 11L, CREATED_AT.plusSeconds(1), "IMAGE", null, ""),
+                new ArchivedMessage(3L, 3L, 10L, CREATED_AT.plusSeconds(2), null, null, null));
+
+        assertEquals(messages, ChatArchiveCodec.decode(ChatArchiveCodec.encode(messages)));
+    }
+
+    @Test
+    void roundTripsUnicodeContent() {
+        List<ArchivedMessage> messages = List.of(
+                new ArchivedMessage(1L, 1L, 10L, CREATED_AT, "TEXT", "안녕하세요, 방 아직 있나요?", null),
+                new ArchivedMessage(2L, 2L, 11L, CREATED_AT.plusMinutes(1), "TEXT", "네 있어요 😀👍🏻", null),
+                new ArchivedMessage(3L, 3L, 10L, CREATED_AT.plusMinutes(2), "IMAGE", "사진 🏠",
+                        "https://example.com/이미지/방.png"),
+                new ArchivedMessage(4L, 4L, 11L, CREATED_AT.plusMinutes(3), "TEXT", "줄바꿈\n탭\t널\u0000문자", null));
+
+        assertEquals(messages, ChatArchiveCodec.decode(ChatArchiveCodec.encode(messages)));
+    }
+
+    @Test
+    void roundTripsLargeBlockInOrderAndCompresses() {
+        List<ArchivedMessage> messages = new ArrayList<>();
+        for (long seq = 1; seq <= 1_000; seq++) {
+            messages.add(new ArchivedMessage(seq, seq, seq % 2 == 0 ? 10L : 11L, CREATED_AT.plusSeconds(seq),
+                    "TEXT", "메시지 " + seq, null));
+        }
+
+        byte[] payload = ChatArchiveCodec.encode(messages);
+
+        assertEquals(messages, ChatArchiveCodec.decode(payload));
+        // 압축 전 고정 필드만 메시지당 36바이트
+        assertTrue(payload.length < messages.size() * 36, "압축 후 " + payload.length + "바이트");
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.campus_house.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 해시 타이밍 휠 만료 확인
+ * tick 100ms, 8칸(한 바퀴 800ms) 휠로 만료 시각 전에는 나오지 않고, 여러 바퀴 뒤의 만료도 정확히 나오는지 확인합니다.
+ */
+class HashedTimingWheelTest {
+
+    private static final long TICK_MS = 100;
+    private static final int WHEEL_SIZE = 8;
+    private static final long START = 1_000_000;
+
+    private final HashedTimingWheel<String> wheel = new HashedTimingWheel<>(TICK_MS, WHEEL_SIZE, START);
+
+    @Test
+    void expiresOnTheTickAfterDeadline() {
+        wheel.schedule("a", START + 250);
+
+        assertTrue(wheel.advance(START + 100).isEmpty());
+        assertTrue(wheel.advance(START + 200).isEmpty());
+        assertEquals(List.of("a"), wheel.advance(START + 300));
+        assertFalse(wheel.contains("a"));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void expiresAfterSeveralRounds() {
+        // 두 바퀴 이상 뒤 (같은 칸을 두 번 지나도 만료되지 않아야 함)
+        long deadline = START + TICK_MS * WHEEL_SIZE * 2 + 150;
+        wheel.schedule("a", deadline);
+
+        for (long now = START + TICK_MS; now < deadline; now += TICK_MS) {
+            assertTrue(wheel.advance(now).isEmpty(), "now=" + (now - START));
+        }
+        assertEquals(List.of("a"), wheel.advance(deadline + TICK_MS));
+    }
+
+    @Test
+    void rescheduleKeepsLatestDeadline() {
+        wheel.schedule("a", START + 200);
+        wheel.schedule("a", START + 1_000);
+
+        for (long now = START + TICK_MS; now < START + 1_000; now += TICK_MS) {
+            assertTrue(wheel.advance(now).isEmpty(), "now=" + (now - START));
+        }
+        assertEquals(List.of("a"), wheel.advance(START + 1_000));
+    }
+
+    @Test
+    void cancelledKeyNeverExpires() {
+        wheel.schedule("a", START + 200);
+        wheel.schedule("b", START + 200);
+        wheel.cancel("a");
+
+        assertEquals(List.of("b"), wheel.advance(START + 300));
+        assertTrue(wheel.advance(START + 5_000).isEmpty());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void longPauseExpiresEverythingDue() {
+        wheel.schedule("a", START + 150);
+        wheel.schedule("b", START + 650);
+        wheel.schedule("c", START + 2_500);
+
+        // 한 바퀴 넘게 멈춰 있다가 advance해도 지난 키는 모두 나옴
+        List<String> expired = wheel.advance(START + 2_000);
+        assertEquals(2, expired.size());
+        assertTrue(expired.containsAll(List.of("a", "b")));
+        assertTrue(wheel.contains("c"));
+
+        assertEquals(List.of("c"), wheel.advance(START + 2_500));
+    }
+
+    @Test
+    void pastDeadlineExpiresOnNextTick() {
+        wheel.advance(START + 500);
+        wheel.schedule("a", START + 100);
+
+        assertEquals(List.of("a"), wheel.advance(START + 600));
+    }
+
+    @Test
+    void rejectsWheelSizeNotPowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new HashedTimingWheel<String>(TICK_MS, 6, START));
+        assertThrows(IllegalArgumentException.class, () -> new HashedTimingWheel<String>(0, WHEEL_SIZE, START));
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.campus_house.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * HyperLogLog 추정 오차와 병합 확인
+ * 여러 크기에서 추정값이 표준 오차(1.04 / sqrt(2^precision))의 3배 안에 드는지,
+ * 병합한 스케치가 합집합을 직접 넣은 스케치와 같은지 확인합니다.
+ */
+class HyperLogLogTest {
+
+    private static final int PRECISION = 11;
+    private static final double TOLERANCE = 3 * 1.04 / Math.sqrt(1 << PRECISION);
+
+    @Test
+    void estimateWithinErrorBound() {
+        for (int cardinality : new int[]{100, 1_000, 10_000, 100_000, 1_000_000}) {
+            HyperLogLog hll = new HyperLogLog(PRECISION);
+            for (int i = 0; i < cardinality; i++) {
+                hll.add(viewer(i));
+            }
+
+            assertWithinBound(cardinality, hll.estimate());
+        }
+    }
+
+    @Test
+    void duplicatesDoNotChangeEstimate() {
+        HyperLogLog hll = new HyperLogLog(PRECISION);
+        for (int i = 0; i < 10_000; i++) {
+            hll.add(viewer(i));
+        }
+        long estimate = hll.estimate();
+
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 10_000; i++) {
+                assertFalse(hll.addHash(HyperLogLog.hash(viewer(i))));
+            }
+        }
+        assertEquals(estimate, hll.estimate());
+    }
+
+    @Test
+    void mergeEqualsSketchOfUnion() {
+        HyperLogLog left = new HyperLogLog(PRECISION);
+        HyperLogLog right = new HyperLogLog(PRECISION);
+        HyperLogLog union = new HyperLogLog(PRECISION);
+        // 40,000명이 겹치는 두 서버
+        for (int i = 0; i < 60_000; i++) {
+            left.add(viewer(i));
+        }
+        for (int i = 40_000; i < 100_000; i++) {
+            right.add(viewer(i));
+        }
+        for (int i = 0; i < 100_000; i++) {
+            union.add(viewer(i));
+        }
+
+        left.merge(right);
+
+        assertArrayEquals(union.toBytes(), left.toBytes());
+        assertWithinBound(100_000, left.estimate());
+    }
+
+    @Test
+    void mergeRejectsDifferentPrecision() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new HyperLogLog(PRECISION).merge(new HyperLogLog(PRECISION + 1)));
+    }
+
+    @Test
+    void bytesRoundTrip() {
+        HyperLogLog hll = new HyperLogLog(PRECISION);
+        assertTrue(hll.isEmpty());
+        assertEquals(0, hll.estimate());
+        for (int i = 0; i < 5_000; i++) {
+            hll.add(viewer(i));
+        }
+
+        HyperLogLog restored = HyperLogLog.fromBytes(hll.toBytes());
+
+        assertFalse(restored.isEmpty());
+        assertEquals(PRECISION, restored.getPrecision());
+        assertEquals(hll.estimate(), restored.estimate());
+        assertThrows(IllegalArgumentException.class, () -> HyperLogLog.fromBytes(new byte[]{PRECISION, 0}));
+    }
+
+    private void assertWithinBound(long expected, long estimate) {
+        double error = Math.abs(estimate - expected) / (double) expected;
+        assertTrue(error <= TOLERANCE, "실제 " + expected + ", 추정 " + estimate + ", 오차 " + error);
+    }
+
+    // 로그인 사용자와 비로그인 방문자 키가 섞인 모양
+    private String viewer(int i) {
+        return i % 3 == 0 ? "anon:" + Integer.toHexString(i * 31) : "user:" + i;
+    }
+}